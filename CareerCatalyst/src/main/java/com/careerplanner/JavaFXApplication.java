@@ -103,9 +103,10 @@ public class JavaFXApplication extends Application {
     public void stop() {
         System.out.println("Stopping Career Planner JavaFX Application...");
         
-        // Save data before closing
+        // Save data before closing and wait for pending background writes
         if (dataManager != null) {
             dataManager.saveData();
+            dataManager.shutdown();
         }
         
         // Stop notification service
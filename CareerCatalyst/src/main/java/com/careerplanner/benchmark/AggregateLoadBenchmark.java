@@ -0,0 +1,247 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.dao.JobDAO;
+import com.careerplanner.dao.ResumeDAO;
+import com.careerplanner.dao.UserAggregateDAO;
+import com.careerplanner.dao.UserDAO;
+import com.careerplanner.model.Achievement;
+import com.careerplanner.model.Goal;
+import com.careerplanner.model.Job;
+import com.careerplanner.model.Resume;
+import com.careerplanner.model.Skill;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+import com.careerplanner.util.InMemoryMetricsRegistry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares loading full user profiles with one query per table against the single
+ * json_agg statement of {@link UserAggregateDAO}, on the database configured by
+ * DATABASE_URL, PGUSER and PGPASSWORD. Reports the time and the statements executed per
+ * profile. The benchmark users are deleted again before it exits.
+ *
+ * <p>Usage: {@code AggregateLoadBenchmark [users] [jobsPerUser] [loads]}</p>
+ */
+public class AggregateLoadBenchmark {
+
+    public static void main(String[] args) throws SQLException {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int jobsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 40;
+        int loads = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        if (!(DatabaseManager.getMetricsRegistry() instanceof InMemoryMetricsRegistry)) {
+            DatabaseManager.setMetricsRegistry(new InMemoryMetricsRegistry());
+        }
+        InMemoryMetricsRegistry metrics = (InMemoryMetricsRegistry) DatabaseManager.getMetricsRegistry();
+
+        UserDAO userDAO = new UserDAO();
+        JobDAO jobDAO = new JobDAO();
+        ResumeDAO resumeDAO = new ResumeDAO();
+        UserAggregateDAO aggregateDAO = new UserAggregateDAO();
+        long runId = System.currentTimeMillis();
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            String name = "bench_" + runId + "_" + i;
+            users.add(new User(name, name + "@example.com", "x", "Benchmark User " + i));
+        }
+        users = userDAO.createUsers(users);
+
+        try {
+            if (users.size() != userCount) {
+                throw new IllegalStateException("Could not create benchmark users");
+            }
+            seed(dbManager, jobDAO, resumeDAO, users, jobsPerUser);
+            System.out.printf("%d users, %d jobs, 10 skills, 5 goals, 5 achievements and a resume each%n",
+                    userCount, jobsPerUser);
+
+            // Warm up both paths
+            for (int i = 0; i < Math.min(loads, 200); i++) {
+                int userId = users.get(i % userCount).getId();
+                loadPerTable(dbManager, userDAO, jobDAO, resumeDAO, userId);
+                aggregateDAO.loadUser(userId);
+            }
+
+            System.out.printf("%-12s %8s %10s %10s %16s%n", "loader", "loads", "ms", "us/load", "statements/load");
+
+            long statements = statementCount(metrics);
+            long start = System.nanoTime();
+            for (int i = 0; i < loads; i++) {
+                User user = loadPerTable(dbManager, userDAO, jobDAO, resumeDAO, users.get(i % userCount).getId());
+                check(user, jobsPerUser);
+            }
+            report("per-table", loads, start, statementCount(metrics) - statements);
+
+            statements = statementCount(metrics);
+            start = System.nanoTime();
+            for (int i = 0; i < loads; i++) {
+                User user = aggregateDAO.loadUser(users.get(i % userCount).getId())
+                        .orElseThrow(() -> new IllegalStateException("Aggregate load failed"));
+                check(user, jobsPerUser);
+            }
+            report("json_agg", loads, start, statementCount(metrics) - statements);
+        } finally {
+            // Cascades to the child rows
+            List<Integer> ids = new ArrayList<>();
+            for (User user : users) {
+                ids.add(user.getId());
+            }
+            userDAO.deleteUsers(ids);
+            dbManager.shutdown();
+        }
+    }
+
+    private static void seed(DatabaseManager dbManager, JobDAO jobDAO, ResumeDAO resumeDAO, List<User> users,
+                             int jobsPerUser) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> jobs = new ArrayList<>();
+        for (User user : users) {
+            for (int i = 0; i < jobsPerUser; i++) {
+                Job job = new Job(user.getId(), "Company " + i, "Position " + i, "Remote", now.plusDays(i));
+                job.setDescription("Description of job " + i);
+                jobs.add(job);
+            }
+            Resume resume = new Resume();
+            resume.setTitle("Resume of " + user.getUsername());
+            resume.setSummary("Benchmark summary");
+            if (resumeDAO.createResume(user.getId(), resume).isEmpty()) {
+                throw new IllegalStateException("Could not create benchmark resume");
+            }
+        }
+        if (jobDAO.createJobs(jobs).size() != jobs.size()) {
+            throw new IllegalStateException("Could not create benchmark jobs");
+        }
+
+        try (Connection conn = dbManager.getConnection();
+             PreparedStatement skills = conn.prepareStatement(
+                     "INSERT INTO skills (user_id, name, category, proficiency_level) VALUES (?, ?, ?, ?)");
+             PreparedStatement goals = conn.prepareStatement(
+                     "INSERT INTO goals (user_id, title, description, target_date, status) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement achievements = conn.prepareStatement(
+                     "INSERT INTO achievements (user_id, title, description, date_achieved, type) VALUES (?, ?, ?, ?, ?)")) {
+            for (User user : users) {
+                for (int i = 0; i < 10; i++) {
+                    skills.setInt(1, user.getId());
+                    skills.setString(2, "Skill " + i);
+                    skills.setString(3, Skill.Category.TECHNICAL.name());
+                    skills.setString(4, Skill.ProficiencyLevel.ADVANCED.name());
+                    skills.addBatch();
+                }
+                for (int i = 0; i < 5; i++) {
+                    goals.setInt(1, user.getId());
+                    goals.setString(2, "Goal " + i);
+                    goals.setString(3, "Description of goal " + i);
+                    goals.setTimestamp(4, Timestamp.valueOf(now.plusMonths(i)));
+                    goals.setString(5, Goal.Status.IN_PROGRESS.name());
+                    goals.addBatch();
+
+                    achievements.setInt(1, user.getId());
+                    achievements.setString(2, "Achievement " + i);
+                    achievements.setString(3, "Description of achievement " + i);
+                    achievements.setTimestamp(4, Timestamp.valueOf(now.minusMonths(i)));
+                    achievements.setString(5, Achievement.Type.AWARD.name());
+                    achievements.addBatch();
+                }
+            }
+            skills.executeBatch();
+            goals.executeBatch();
+            achievements.executeBatch();
+        }
+    }
+
+    /**
+     * Loads a profile the way it would be without the aggregate: one statement per table
+     */
+    private static User loadPerTable(DatabaseManager dbManager, UserDAO userDAO, JobDAO jobDAO, ResumeDAO resumeDAO,
+                                     int userId) throws SQLException {
+        User user = userDAO.getUserById(userId)
+                .orElseThrow(() -> new IllegalStateException("Benchmark user not found"));
+        user.setJobApplications(jobDAO.getJobsByUserId(userId));
+
+        List<Skill> skills = new ArrayList<>();
+        List<Goal> goals = new ArrayList<>();
+        List<Achievement> achievements = new ArrayList<>();
+        try (Connection conn = dbManager.getReadConnection()) {
+            try (PreparedStatement pstmt = dbManager.prepareStatement(conn, "benchmark.skills",
+                    "SELECT id, name, category, proficiency_level FROM skills WHERE user_id = ? ORDER BY id")) {
+                pstmt.setInt(1, userId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Skill skill = new Skill(rs.getString("name"),
+                                Skill.ProficiencyLevel.valueOf(rs.getString("proficiency_level")),
+                                Skill.Category.valueOf(rs.getString("category")));
+                        skill.setId(rs.getInt("id"));
+                        skills.add(skill);
+                    }
+                }
+            }
+            try (PreparedStatement pstmt = dbManager.prepareStatement(conn, "benchmark.goals",
+                    "SELECT id, title, description, target_date, status, short_term FROM goals " +
+                    "WHERE user_id = ? ORDER BY id")) {
+                pstmt.setInt(1, userId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Goal goal = new Goal(rs.getString("title"), rs.getString("description"),
+                                rs.getBoolean("short_term"),
+                                rs.getTimestamp("target_date").toLocalDateTime().toLocalDate());
+                        goal.setId(rs.getInt("id"));
+                        goal.setStatus(Goal.Status.valueOf(rs.getString("status")));
+                        goals.add(goal);
+                    }
+                }
+            }
+            try (PreparedStatement pstmt = dbManager.prepareStatement(conn, "benchmark.achievements",
+                    "SELECT id, title, description, date_achieved, type FROM achievements WHERE user_id = ? ORDER BY id")) {
+                pstmt.setInt(1, userId);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Achievement achievement = new Achievement(rs.getString("title"), rs.getString("description"),
+                                rs.getTimestamp("date_achieved").toLocalDateTime().toLocalDate(),
+                                Achievement.Type.valueOf(rs.getString("type")));
+                        achievement.setId(rs.getInt("id"));
+                        achievements.add(achievement);
+                    }
+                }
+            }
+        }
+        user.setSkills(skills);
+        user.setGoals(goals);
+        user.setAchievements(achievements);
+
+        List<Resume> resumes = resumeDAO.getResumesByUserId(userId);
+        if (!resumes.isEmpty()) {
+            user.setResume(resumes.get(0));
+        }
+        return user;
+    }
+
+    private static long statementCount(InMemoryMetricsRegistry metrics) {
+        long count = 0;
+        for (InMemoryMetricsRegistry.QueryStats stats : metrics.getQueryStats().values()) {
+            count += stats.getLatency().getCount();
+        }
+        return count;
+    }
+
+    private static void check(User user, int jobsPerUser) {
+        if (user.getJobApplications().size() != jobsPerUser || user.getSkills().size() != 10
+                || user.getGoals().size() != 5 || user.getAchievements().size() != 5 || user.getResume() == null) {
+            throw new IllegalStateException("Incomplete profile for user " + user.getId());
+        }
+    }
+
+    private static void report(String loader, int loads, long startNanos, long statements) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        System.out.printf("%-12s %8d %10.1f %10.1f %16.2f%n", loader, loads, millis, millis * 1000 / loads,
+                (double) statements / loads);
+    }
+}
@@ -0,0 +1,160 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.dao.JobDAO;
+import com.careerplanner.dao.UserDAO;
+import com.careerplanner.model.Job;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the single-row and batch write paths of {@link JobDAO} and {@link UserDAO}
+ * against the database configured by DATABASE_URL, PGUSER and PGPASSWORD. Every row the
+ * benchmark writes is deleted again before it exits.
+ *
+ * <p>Usage: {@code BatchWriteBenchmark [jobs] [users]}</p>
+ */
+public class BatchWriteBenchmark {
+    private static final String[] COMPANIES = {"Globex", "Initech", "Hooli", "Acme Corp", "Pied Piper"};
+    private static final String[] POSITIONS = {"Java Developer", "Backend Engineer", "Data Analyst", "QA Engineer"};
+
+    public static void main(String[] args) {
+        int jobCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int userCount = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        JobDAO jobDAO = new JobDAO();
+        UserDAO userDAO = new UserDAO();
+        long runId = System.currentTimeMillis();
+
+        User owner = userDAO.createUser(new User("bench_" + runId, "bench_" + runId + "@example.com", "x", "Benchmark"))
+                .orElseThrow(() -> new IllegalStateException("Could not create benchmark user"));
+
+        try {
+            System.out.printf("%-16s %10s %10s %12s%n", "operation", "rows", "ms", "rows/s");
+
+            // Single-row path
+            List<Job> single = jobs(owner.getId(), jobCount, 1);
+            long start = System.nanoTime();
+            for (Job job : single) {
+                jobDAO.createJob(job);
+            }
+            report("createJob", jobCount, start);
+
+            edit(single);
+            start = System.nanoTime();
+            for (Job job : single) {
+                jobDAO.updateJob(job);
+            }
+            report("updateJob", jobCount, start);
+
+            start = System.nanoTime();
+            for (Job job : single) {
+                jobDAO.deleteJob(job.getId(), owner.getId());
+            }
+            report("deleteJob", jobCount, start);
+
+            // Batch path
+            List<Job> batch = jobs(owner.getId(), jobCount, 2);
+            start = System.nanoTime();
+            check(jobDAO.createJobs(batch).size(), jobCount, "createJobs");
+            report("createJobs", jobCount, start);
+
+            edit(batch);
+            start = System.nanoTime();
+            check(jobDAO.updateJobs(batch), jobCount, "updateJobs");
+            report("updateJobs", jobCount, start);
+
+            start = System.nanoTime();
+            check(jobDAO.deleteJobs(owner.getId(), ids(batch)), jobCount, "deleteJobs");
+            report("deleteJobs", jobCount, start);
+
+            // Users, single-row then batch
+            List<User> singleUsers = users(runId, userCount, "s");
+            start = System.nanoTime();
+            for (User user : singleUsers) {
+                userDAO.createUser(user);
+            }
+            report("createUser", userCount, start);
+
+            start = System.nanoTime();
+            for (User user : singleUsers) {
+                userDAO.deleteUser(user.getId());
+            }
+            report("deleteUser", userCount, start);
+
+            List<User> batchUsers = users(runId, userCount, "b");
+            start = System.nanoTime();
+            check(userDAO.createUsers(batchUsers).size(), userCount, "createUsers");
+            report("createUsers", userCount, start);
+
+            List<Integer> userIds = new ArrayList<>();
+            for (User user : batchUsers) {
+                user.setFullName(user.getFullName() + " (edited)");
+                userIds.add(user.getId());
+            }
+            start = System.nanoTime();
+            check(userDAO.updateUsers(batchUsers), userCount, "updateUsers");
+            report("updateUsers", userCount, start);
+
+            start = System.nanoTime();
+            check(userDAO.deleteUsers(userIds), userCount, "deleteUsers");
+            report("deleteUsers", userCount, start);
+        } finally {
+            // Cascades to any jobs left behind by a failed run
+            userDAO.deleteUser(owner.getId());
+            DatabaseManager.getInstance().shutdown();
+        }
+    }
+
+    private static List<Job> jobs(int userId, int count, long seed) {
+        Random random = new Random(seed);
+        List<Job> jobs = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Job job = new Job(userId, COMPANIES[random.nextInt(COMPANIES.length)],
+                    POSITIONS[random.nextInt(POSITIONS.length)], "Remote", now.plusDays(random.nextInt(60)));
+            job.setApplicationDate(now);
+            job.setNotes("Imported job " + i);
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    private static List<User> users(long runId, int count, String prefix) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = "bench_" + runId + "_" + prefix + i;
+            users.add(new User(name, name + "@example.com", "x", "Benchmark User " + i));
+        }
+        return users;
+    }
+
+    private static void edit(List<Job> jobs) {
+        for (Job job : jobs) {
+            job.setNotes(job.getNotes() + " (edited)");
+        }
+    }
+
+    private static List<Integer> ids(List<Job> jobs) {
+        List<Integer> ids = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            ids.add(job.getId());
+        }
+        return ids;
+    }
+
+    private static void check(int actual, int expected, String operation) {
+        if (actual != expected) {
+            throw new IllegalStateException(operation + " affected " + actual + " rows, expected " + expected);
+        }
+    }
+
+    private static void report(String operation, int rows, long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        System.out.printf("%-16s %10d %10.1f %12.0f%n", operation, rows, millis, rows / (millis / 1000.0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.model.User;
+import com.careerplanner.util.JsonConverter;
+import com.careerplanner.util.JsonStreamReader;
+import com.careerplanner.util.ParallelUserLoader;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures the startup load of users.json with the sequential streaming loader and with
+ * {@link ParallelUserLoader} at increasing parallelism, and checks that every parallel load
+ * returns the users in the same order as the sequential one.
+ *
+ * <p>Usage: {@code ParallelLoadBenchmark [users] [jobsPerUser] [iterations] [maxParallelism]};
+ * maxParallelism defaults to the number of available processors.</p>
+ */
+public class ParallelLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int jobsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int maxParallelism = args.length > 3 ? Integer.parseInt(args[3])
+                : Runtime.getRuntime().availableProcessors();
+
+        Path file = Files.createTempFile("users", ".json");
+        file.toFile().deleteOnExit();
+        SyntheticData.writeUsersJson(file, SyntheticData.users(userCount, jobsPerUser, 42));
+        System.out.printf("users.json: %d users, %d jobs each, %.1f MB, %d processors available%n",
+                userCount, jobsPerUser, Files.size(file) / (1024.0 * 1024.0),
+                Runtime.getRuntime().availableProcessors());
+
+        List<String> expectedOrder = emails(loadSequential(file));
+        long[] times = new long[iterations];
+
+        // One extra untimed round warms up the JIT
+        for (int i = -1; i < iterations; i++) {
+            long start = System.nanoTime();
+            loadSequential(file);
+            if (i >= 0) {
+                times[i] = System.nanoTime() - start;
+            }
+        }
+        double sequential = median(times);
+        System.out.printf("%-12s %10s %10s%n", "loader", "load ms", "speedup");
+        System.out.printf("%-12s %10.1f %10s%n", "sequential", sequential, "1.00x");
+
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                for (int i = -1; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    List<User> users = loadParallel(file, pool);
+                    if (i >= 0) {
+                        times[i] = System.nanoTime() - start;
+                    } else if (!emails(users).equals(expectedOrder)) {
+                        throw new IllegalStateException("Parallel load changed the user order");
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            double parallel = median(times);
+            System.out.printf("%-12s %10.1f %9.2fx%n", "parallel " + parallelism, parallel, sequential / parallel);
+        }
+    }
+
+    private static List<User> loadSequential(Path file) throws Exception {
+        List<User> users = new ArrayList<>();
+        try (Reader reader = new FileReader(file.toFile())) {
+            JsonStreamReader.read(reader, (arrayKey, userJson) -> users.add(JsonConverter.parseUserFromJSON(userJson)));
+        }
+        return users;
+    }
+
+    private static List<User> loadParallel(Path file, ForkJoinPool pool) throws Exception {
+        try (Reader reader = new FileReader(file.toFile())) {
+            return new ParallelUserLoader(pool).load(reader, 0);
+        }
+    }
+
+    private static List<String> emails(List<User> users) {
+        List<String> emails = new ArrayList<>(users.size());
+        for (User user : users) {
+            emails.add(user.getEmail());
+        }
+        return emails;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
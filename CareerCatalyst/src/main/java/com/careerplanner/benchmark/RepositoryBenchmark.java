@@ -0,0 +1,196 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.model.Job;
+import com.careerplanner.model.User;
+import com.careerplanner.repository.InMemoryStorageBackend;
+import com.careerplanner.repository.JsonFileStorageBackend;
+import com.careerplanner.repository.PostgresStorageBackend;
+import com.careerplanner.repository.StorageBackend;
+import com.careerplanner.util.DatabaseManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Runs the same repository workload against several storage backends and prints the
+ * throughput of each operation, so the backends can be compared side by side.
+ *
+ * <p>The workload creates users and their jobs, runs lookups by id, email, user, status and
+ * deadline, updates and deletes some jobs and finally deletes the users, so it leaves no
+ * data behind. The json backend writes to a temporary directory; its final flush is timed
+ * as "close". The postgres backend is skipped unless DATABASE_URL, PGUSER and PGPASSWORD
+ * are set.</p>
+ *
+ * <p>Usage: {@code RepositoryBenchmark [backends] [users] [jobsPerUser] [lookups]}, where
+ * backends is a comma-separated list such as {@code memory,json,postgres}.</p>
+ */
+public class RepositoryBenchmark {
+    private static final String[] COMPANIES = {"Globex", "Initech", "Hooli", "Acme Corp", "Pied Piper"};
+    private static final String[] POSITIONS = {"Java Developer", "Backend Engineer", "Data Analyst", "QA Engineer"};
+
+    public static void main(String[] args) throws IOException {
+        String[] backends = (args.length > 0 ? args[0] : "memory,json,postgres").split(",");
+        int userCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int jobsPerUser = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        int lookups = args.length > 3 ? Integer.parseInt(args[3]) : 5000;
+
+        boolean usedDatabase = false;
+        System.out.printf("%-10s %-20s %10s %10s %12s%n", "backend", "operation", "ops", "ms", "ops/s");
+        for (String name : backends) {
+            if (name.equals("postgres") && System.getenv("DATABASE_URL") == null) {
+                System.out.println("Skipping postgres: DATABASE_URL, PGUSER and PGPASSWORD are not set");
+                continue;
+            }
+
+            usedDatabase |= name.equals("postgres");
+            Path directory = name.equals("json") ? Files.createTempDirectory("repository-benchmark") : null;
+            try {
+                run(open(name, directory), userCount, jobsPerUser, lookups);
+            } finally {
+                if (directory != null) {
+                    deleteDirectory(directory);
+                }
+            }
+        }
+
+        if (usedDatabase) {
+            DatabaseManager.getInstance().shutdown();
+        }
+    }
+
+    private static StorageBackend open(String name, Path directory) {
+        switch (name) {
+            case "memory":
+                return new InMemoryStorageBackend();
+            case "json":
+                return new JsonFileStorageBackend(directory);
+            case "postgres":
+                return new PostgresStorageBackend();
+            default:
+                throw new IllegalArgumentException("Unknown storage backend: " + name);
+        }
+    }
+
+    private static void run(StorageBackend backend, int userCount, int jobsPerUser, int lookups) {
+        String name = backend.getName();
+        Random random = new Random(42);
+        long runId = System.currentTimeMillis();
+        List<User> users = new ArrayList<>(userCount);
+        List<Job> jobs = new ArrayList<>(userCount * jobsPerUser);
+
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < userCount; i++) {
+                String username = "bench_" + runId + "_" + i;
+                users.add(backend.users().save(new User(username, username + "@example.com", "x", "Benchmark User " + i)));
+            }
+            report(name, "users.save", userCount, start);
+
+            start = System.nanoTime();
+            for (User user : users) {
+                jobs.addAll(backend.jobs().saveAll(jobs(user.getId(), jobsPerUser, random)));
+            }
+            report(name, "jobs.saveAll", jobs.size(), start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                backend.users().findById(users.get(random.nextInt(userCount)).getId());
+            }
+            report(name, "users.findById", lookups, start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                backend.users().findByEmail(users.get(random.nextInt(userCount)).getEmail());
+            }
+            report(name, "users.findByEmail", lookups, start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                backend.jobs().findById(jobs.get(random.nextInt(jobs.size())).getId());
+            }
+            report(name, "jobs.findById", lookups, start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                backend.jobs().findByUser(users.get(random.nextInt(userCount)).getId());
+            }
+            report(name, "jobs.findByUser", lookups, start);
+
+            Job.Status[] statuses = Job.Status.values();
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                backend.jobs().findByUserAndStatus(users.get(random.nextInt(userCount)).getId(),
+                        statuses[random.nextInt(statuses.length)]);
+            }
+            report(name, "jobs.findByStatus", lookups, start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < lookups; i++) {
+                backend.jobs().findWithDeadlineWithin(users.get(random.nextInt(userCount)).getId(), 7);
+            }
+            report(name, "jobs.findDeadlines", lookups, start);
+
+            int edits = Math.min(lookups, jobs.size());
+            start = System.nanoTime();
+            for (int i = 0; i < edits; i++) {
+                Job job = jobs.get(random.nextInt(jobs.size()));
+                job.setNotes("Edited " + i);
+                backend.jobs().save(job);
+            }
+            report(name, "jobs.save", edits, start);
+
+            int deletes = Math.min(lookups, jobs.size()) / 2;
+            start = System.nanoTime();
+            for (int i = 0; i < deletes; i++) {
+                Job job = jobs.get(i * 2);
+                backend.jobs().delete(job.getId(), job.getUserId());
+            }
+            report(name, "jobs.delete", deletes, start);
+        } finally {
+            long start = System.nanoTime();
+            for (User user : users) {
+                backend.users().delete(user.getId());
+            }
+            report(name, "users.delete", users.size(), start);
+
+            start = System.nanoTime();
+            backend.close();
+            report(name, "close", 1, start);
+        }
+    }
+
+    private static List<Job> jobs(int userId, int count, Random random) {
+        List<Job> jobs = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        Job.Status[] statuses = Job.Status.values();
+        for (int i = 0; i < count; i++) {
+            Job job = new Job(userId, COMPANIES[random.nextInt(COMPANIES.length)],
+                    POSITIONS[random.nextInt(POSITIONS.length)], "Remote", now.plusDays(random.nextInt(60)));
+            job.setApplicationDate(now);
+            job.setStatus(statuses[random.nextInt(statuses.length)]);
+            job.setNotes("Benchmark job " + i);
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static void report(String backend, String operation, int ops, long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        System.out.printf("%-10s %-20s %10d %10.1f %12.0f%n", backend, operation, ops, millis, ops / (millis / 1000.0));
+    }
+}
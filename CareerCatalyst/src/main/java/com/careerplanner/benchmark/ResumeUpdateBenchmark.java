@@ -0,0 +1,140 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.dao.ResumeDAO;
+import com.careerplanner.dao.UserDAO;
+import com.careerplanner.model.Resume;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+import com.careerplanner.util.JsonConverter;
+
+/**
+ * Compares editing a large resume by replacing the whole JSONB document with the
+ * section-level updates of {@link ResumeDAO}, against the database configured by
+ * DATABASE_URL, PGUSER and PGPASSWORD. Each edit changes one work experience entry or the
+ * summary, as the resume editor does. The benchmark user and resume are deleted before it
+ * exits.
+ *
+ * <p>Usage: {@code ResumeUpdateBenchmark [experiences] [projects] [edits]}</p>
+ */
+public class ResumeUpdateBenchmark {
+
+    public static void main(String[] args) {
+        int experienceCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int projectCount = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int edits = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+        UserDAO userDAO = new UserDAO();
+        ResumeDAO resumeDAO = new ResumeDAO();
+        long runId = System.currentTimeMillis();
+
+        User owner = userDAO.createUser(new User("bench_" + runId, "bench_" + runId + "@example.com", "x", "Benchmark"))
+                .orElseThrow(() -> new IllegalStateException("Could not create benchmark user"));
+
+        try {
+            Resume resume = resumeDAO.createResume(owner.getId(), resume(experienceCount, projectCount))
+                    .orElseThrow(() -> new IllegalStateException("Could not create benchmark resume"));
+            int resumeId = Integer.parseInt(resume.getId());
+            System.out.printf("Resume with %d experiences and %d projects, %d bytes of JSON%n", experienceCount,
+                    projectCount, JsonConverter.convertResumeToJSON(resume).toJSONString().length());
+            System.out.printf("%-22s %8s %10s %12s %14s%n", "operation", "edits", "ms", "edits/s", "bytes/edit");
+
+            // Experience edits, whole document
+            long bytes = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < edits; i++) {
+                Resume.Experience experience = resume.getWorkExperienceList().get(i % experienceCount);
+                experience.setDescription("Full edit " + i);
+                bytes += JsonConverter.convertResumeToJSON(resume).toJSONString().length();
+                check(resumeDAO.replaceResume(resume), "replaceResume");
+            }
+            report("replace (experience)", edits, bytes, start);
+
+            // Experience edits, one entry
+            bytes = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < edits; i++) {
+                int index = i % experienceCount;
+                Resume.Experience experience = resume.getWorkExperienceList().get(index);
+                experience.setDescription("Partial edit " + i);
+                bytes += JsonConverter.convertExperienceToJSON(experience).toJSONString().length();
+                check(resumeDAO.updateExperience(resumeId, index, experience), "updateExperience");
+            }
+            report("updateExperience", edits, bytes, start);
+
+            // Summary keystrokes, whole document then one field
+            StringBuilder summary = new StringBuilder();
+            bytes = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < edits; i++) {
+                resume.setSummary(summary.append((char) ('a' + i % 26)).toString());
+                bytes += JsonConverter.convertResumeToJSON(resume).toJSONString().length();
+                check(resumeDAO.replaceResume(resume), "replaceResume");
+            }
+            report("replace (summary)", edits, bytes, start);
+
+            summary.setLength(0);
+            bytes = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < edits; i++) {
+                resume.setSummary(summary.append((char) ('a' + i % 26)).toString());
+                bytes += resume.getSummary().length();
+                check(resumeDAO.updateSummary(resumeId, resume.getSummary()), "updateSummary");
+            }
+            report("updateSummary", edits, bytes, start);
+
+            // Both paths must leave the same document behind
+            Resume stored = resumeDAO.getResumeById(resumeId)
+                    .orElseThrow(() -> new IllegalStateException("Benchmark resume disappeared"));
+            if (!JsonConverter.convertResumeToJSON(stored).equals(JsonConverter.convertResumeToJSON(resume))) {
+                throw new IllegalStateException("Stored resume differs from the edited one");
+            }
+        } finally {
+            // Cascades to the resume
+            userDAO.deleteUser(owner.getId());
+            DatabaseManager.getInstance().shutdown();
+        }
+    }
+
+    private static Resume resume(int experienceCount, int projectCount) {
+        Resume resume = new Resume();
+        resume.setTitle("Benchmark Resume");
+        resume.setSummary("Engineer");
+        for (int i = 0; i < experienceCount; i++) {
+            Resume.Experience experience = new Resume.Experience();
+            experience.setPosition("Software Engineer " + i);
+            experience.setCompany("Company " + i);
+            experience.setLocation("Remote");
+            experience.setStartDate("2015-01");
+            experience.setEndDate("2016-01");
+            experience.setDescription("Built and operated services used by thousands of customers.");
+            experience.addResponsibility("Designed APIs");
+            experience.addResponsibility("Reviewed code");
+            experience.addResponsibility("Mentored new team members");
+            resume.addWorkExperience(experience);
+        }
+        for (int i = 0; i < projectCount; i++) {
+            Resume.Project project = new Resume.Project();
+            project.setName("Project " + i);
+            project.setDescription("An open source tool for planning careers.");
+            project.setStartDate("2020-01");
+            project.setTechnologies("Java, PostgreSQL, JavaFX");
+            project.setUrl("https://example.com/project/" + i);
+            resume.addProject(project);
+        }
+        resume.addLanguage("English");
+        resume.addLanguage("German");
+        return resume;
+    }
+
+    private static void check(boolean success, String operation) {
+        if (!success) {
+            throw new IllegalStateException(operation + " failed");
+        }
+    }
+
+    private static void report(String operation, int edits, long bytes, long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        System.out.printf("%-22s %8d %10.1f %12.0f %14d%n", operation, edits, millis, edits / (millis / 1000.0),
+                bytes / edits);
+    }
+}
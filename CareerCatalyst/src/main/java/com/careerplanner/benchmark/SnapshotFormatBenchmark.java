@@ -0,0 +1,121 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.model.Resource;
+import com.careerplanner.model.User;
+import com.careerplanner.util.BinarySnapshotCodec;
+import com.careerplanner.util.JsonConverter;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares save time, load time and size of the JSON format
+ * ({@code convertUserToJSON}/{@code parseUserFromJSON}) against {@link BinarySnapshotCodec}.
+ * The "lazy" row loads the binary snapshot with {@link BinarySnapshotCodec#load(byte[])},
+ * which leaves each user's jobs, skills, achievements, goals and resume encoded until accessed.
+ *
+ * <p>Usage: {@code SnapshotFormatBenchmark [users] [jobsPerUser] [iterations]}</p>
+ */
+public class SnapshotFormatBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int jobsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        List<User> users = SyntheticData.users(userCount, jobsPerUser, 42);
+        List<Resource> resources = SyntheticData.resources(500, 42);
+
+        byte[] json = null;
+        byte[] binary = null;
+        long[] jsonSave = new long[iterations];
+        long[] jsonLoad = new long[iterations];
+        long[] binarySave = new long[iterations];
+        long[] binaryLoad = new long[iterations];
+        long[] lazyLoad = new long[iterations];
+
+        // One extra untimed round warms up the JIT
+        for (int i = -1; i < iterations; i++) {
+            long start = System.nanoTime();
+            json = encodeJson(users, resources);
+            long jsonSaved = System.nanoTime();
+            int jsonUsers = decodeJson(json);
+            long jsonLoaded = System.nanoTime();
+
+            binary = new BinarySnapshotCodec().encode(users, resources);
+            long binarySaved = System.nanoTime();
+            int binaryUsers = BinarySnapshotCodec.decode(binary).getUsers().size();
+            long binaryLoaded = System.nanoTime();
+            int lazyUsers = new BinarySnapshotCodec().load(binary).getUsers().size();
+            long lazyLoaded = System.nanoTime();
+
+            if (jsonUsers != userCount || binaryUsers != userCount || lazyUsers != userCount) {
+                throw new IllegalStateException("Round trip lost users");
+            }
+            if (i >= 0) {
+                jsonSave[i] = jsonSaved - start;
+                jsonLoad[i] = jsonLoaded - jsonSaved;
+                binarySave[i] = binarySaved - jsonLoaded;
+                binaryLoad[i] = binaryLoaded - binarySaved;
+                lazyLoad[i] = lazyLoaded - binaryLoaded;
+            }
+        }
+
+        // The binary snapshot must survive a decode/encode round trip unchanged
+        BinarySnapshotCodec.Snapshot decoded = BinarySnapshotCodec.decode(binary);
+        if (!Arrays.equals(binary, new BinarySnapshotCodec().encode(decoded.getUsers(), decoded.getResources()))) {
+            throw new IllegalStateException("Binary round trip is not stable");
+        }
+
+        System.out.printf("%d users, %d jobs each, 500 resources, median of %d runs%n",
+                userCount, jobsPerUser, iterations);
+        System.out.printf("%-8s %10s %10s %10s%n", "format", "size MB", "save ms", "load ms");
+        System.out.printf("%-8s %10.2f %10.1f %10.1f%n", "json",
+                json.length / (1024.0 * 1024.0), median(jsonSave), median(jsonLoad));
+        System.out.printf("%-8s %10.2f %10.1f %10.1f%n", "binary",
+                binary.length / (1024.0 * 1024.0), median(binarySave), median(binaryLoad));
+        System.out.printf("%-8s %10.2f %10s %10.1f%n", "lazy",
+                binary.length / (1024.0 * 1024.0), "-", median(lazyLoad));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] encodeJson(List<User> users, List<Resource> resources) {
+        JSONArray userArray = new JSONArray();
+        for (User user : users) {
+            userArray.add(JsonConverter.convertUserToJSON(user));
+        }
+        JSONArray resourceArray = new JSONArray();
+        for (Resource resource : resources) {
+            resourceArray.add(JsonConverter.convertResourceToJSON(resource));
+        }
+        String usersJson = userArray.toJSONString();
+        String resourcesJson = resourceArray.toJSONString();
+        return (usersJson + "\n" + resourcesJson).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int decodeJson(byte[] data) throws Exception {
+        String text = new String(data, StandardCharsets.UTF_8);
+        int split = text.indexOf('\n');
+        JSONParser parser = new JSONParser();
+
+        List<User> users = new ArrayList<>();
+        for (Object userObj : (JSONArray) parser.parse(text.substring(0, split))) {
+            users.add(JsonConverter.parseUserFromJSON((JSONObject) userObj));
+        }
+        for (Object resourceObj : (JSONArray) parser.parse(text.substring(split + 1))) {
+            JsonConverter.parseResourceFromJSON((JSONObject) resourceObj);
+        }
+        return users.size();
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
@@ -0,0 +1,141 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.model.User;
+import com.careerplanner.util.JsonConverter;
+import com.careerplanner.util.JsonStreamReader;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares loading users.json through the full json-simple tree against the streaming loader.
+ * Each loader runs in its own JVM with a small young generation so the sampled heap is close
+ * to the live data, and reports peak heap, time to the first converted user and total time.
+ *
+ * <p>Usage: {@code StoreLoadBenchmark [users] [jobsPerUser]}</p>
+ */
+public class StoreLoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--child")) {
+            runChild(args[1], Path.of(args[2]));
+            return;
+        }
+
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int jobsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Path file = Files.createTempFile("users", ".json");
+        file.toFile().deleteOnExit();
+        SyntheticData.writeUsersJson(file, SyntheticData.users(userCount, jobsPerUser, 42));
+        System.out.printf("users.json: %d users, %d jobs each, %.1f MB%n",
+                userCount, jobsPerUser, Files.size(file) / (1024.0 * 1024.0));
+
+        System.out.printf("%-10s %14s %16s %12s%n", "loader", "peak heap MB", "first user ms", "total ms");
+        for (String mode : new String[] {"tree", "streaming"}) {
+            System.out.println(runInChildJvm(mode, file));
+        }
+    }
+
+    private static String runInChildJvm(String mode, Path file) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-XX:+UseSerialGC", "-Xmn16m", "-Xmx4g",
+                "-cp", System.getProperty("java.class.path"),
+                StoreLoadBenchmark.class.getName(), "--child", mode, file.toString());
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        StringBuilder output = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line);
+            }
+        }
+        process.waitFor();
+        return output.toString();
+    }
+
+    private static void runChild(String mode, Path file) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+
+        HeapSampler sampler = new HeapSampler(memory);
+        sampler.start();
+
+        List<User> users = new ArrayList<>();
+        long start = System.nanoTime();
+        long[] firstUser = {-1};
+
+        if (mode.equals("tree")) {
+            try (FileReader reader = new FileReader(file.toFile())) {
+                JSONArray userArray = (JSONArray) new JSONParser().parse(reader);
+                for (Object userObj : userArray) {
+                    users.add(JsonConverter.parseUserFromJSON((JSONObject) userObj));
+                    if (firstUser[0] < 0) {
+                        firstUser[0] = System.nanoTime() - start;
+                    }
+                }
+            }
+        } else {
+            try (FileReader reader = new FileReader(file.toFile())) {
+                JsonStreamReader.read(reader, (arrayKey, userJson) -> {
+                    users.add(JsonConverter.parseUserFromJSON(userJson));
+                    if (firstUser[0] < 0) {
+                        firstUser[0] = System.nanoTime() - start;
+                    }
+                });
+            }
+        }
+
+        long total = System.nanoTime() - start;
+        sampler.stopSampling();
+
+        System.out.printf("%-10s %14.1f %16.1f %12.1f   (%d users)%n", mode,
+                (sampler.peak - baseline) / (1024.0 * 1024.0), firstUser[0] / 1e6, total / 1e6, users.size());
+    }
+
+    /**
+     * Polls heap usage in the background and remembers the highest value seen.
+     */
+    private static class HeapSampler extends Thread {
+        private final MemoryMXBean memory;
+        private volatile boolean running = true;
+        private volatile long peak;
+
+        HeapSampler(MemoryMXBean memory) {
+            this.memory = memory;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        void stopSampling() throws InterruptedException {
+            peak = Math.max(peak, memory.getHeapMemoryUsage().getUsed());
+            running = false;
+            join();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.model.User;
+import com.careerplanner.util.JsonConverter;
+import com.careerplanner.util.JsonStreamReader;
+import com.careerplanner.util.StringPool;
+
+import java.io.FileReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports how much heap the load-scoped {@link StringPool} saves when loading a large
+ * synthetic users.json. The file is loaded without a pool, with an unbounded pool and with
+ * a bounded weak pool; for each run the heap still retained by the loaded users after a full
+ * GC is measured, next to the pool's own estimate of the bytes it saved.
+ *
+ * <p>Usage: {@code StringPoolHeapReport [users] [jobsPerUser]}</p>
+ */
+public class StringPoolHeapReport {
+    // Heap retained by the run without a pool, set by the first report
+    private static long baselineRetained;
+
+    public static void main(String[] args) throws Exception {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int jobsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Path file = Files.createTempFile("users", ".json");
+        file.toFile().deleteOnExit();
+        SyntheticData.writeUsersJson(file, SyntheticData.users(userCount, jobsPerUser, 42));
+        System.out.printf("users.json: %d users, %d jobs each, %.1f MB%n",
+                userCount, jobsPerUser, Files.size(file) / (1024.0 * 1024.0));
+
+        // Untimed warm-up so class loading does not count towards the first run
+        load(file, null);
+
+        System.out.printf("%-12s %12s %12s %10s %14s%n", "pool", "retained MB", "saved MB", "entries", "pool est. MB");
+        report("none", file, null);
+        report("unbounded", file, new StringPool());
+        report("weak/4096", file, new StringPool(4096, true));
+    }
+
+    private static void report(String name, Path file, StringPool pool) throws Exception {
+        long before = usedHeapAfterGc();
+        List<User> users = load(file, pool);
+        long retained = usedHeapAfterGc() - before;
+
+        if (pool == null) {
+            baselineRetained = retained;
+        }
+        System.out.printf("%-12s %12.1f %12.1f %10s %14s%n", name, mb(retained), mb(baselineRetained - retained),
+                pool != null ? String.valueOf(pool.size()) : "-",
+                pool != null ? String.format("%.1f", mb(pool.getSavedBytes())) : "-");
+
+        // Keep the users reachable until after the measurement
+        if (users.isEmpty()) {
+            throw new IllegalStateException("No users loaded");
+        }
+    }
+
+    private static List<User> load(Path file, StringPool pool) throws Exception {
+        List<User> users = new ArrayList<>();
+        try (Reader reader = new FileReader(file.toFile())) {
+            JsonStreamReader.read(reader, (arrayKey, userJson) ->
+                    users.add(JsonConverter.parseUserFromJSON(userJson, pool)));
+        }
+        return users;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // A few rounds so weakly reachable and finalizable garbage is gone too
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
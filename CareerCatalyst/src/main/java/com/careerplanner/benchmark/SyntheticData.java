@@ -0,0 +1,197 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.model.*;
+import com.careerplanner.util.JsonConverter;
+import org.json.simple.JSONArray;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic users and resources for the storage benchmarks.
+ * Values are drawn from small vocabularies so the data has the same low-cardinality
+ * repetition (company names, locations, skill names) as real stores.
+ */
+public final class SyntheticData {
+    private static final String[] COMPANIES = {
+        "ABC Tech Solutions", "Globex", "Initech", "Umbrella Corp", "Stark Industries",
+        "Wayne Enterprises", "Hooli", "Pied Piper", "Acme Corp", "Vandelay Industries"
+    };
+    private static final String[] POSITIONS = {
+        "Java Developer", "Senior Java Developer", "Backend Engineer", "Data Analyst",
+        "Product Manager", "QA Engineer", "DevOps Engineer", "Frontend Developer"
+    };
+    private static final String[] LOCATIONS = {
+        "New York, NY", "Boston, MA", "San Francisco, CA", "Austin, TX", "Seattle, WA", "Remote"
+    };
+    private static final String[] SKILLS = {
+        "Java Programming", "JavaFX", "SQL", "Communication", "Leadership", "Spring Boot",
+        "Docker", "Kubernetes", "Python", "Spanish"
+    };
+    private static final String[] PROVIDERS = {"Coursera", "Udemy", "edX", "O'Reilly", "Pluralsight"};
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Generates users with jobs, skills, achievements, goals and a filled-in resume.
+     *
+     * @param count Number of users
+     * @param jobsPerUser Number of job applications per user
+     * @param seed Random seed
+     * @return List of generated users
+     */
+    public static List<User> users(int count, int jobsPerUser, long seed) {
+        Random random = new Random(seed);
+        List<User> users = new ArrayList<>(count);
+        LocalDate today = LocalDate.of(2024, 1, 1);
+
+        for (int i = 0; i < count; i++) {
+            User user = new User("First" + i, "Last" + i, "user" + i + "@example.com", "password" + i, true);
+            user.setId(i + 1);
+            user.setPhone("555-01" + String.format("%02d", i % 100));
+
+            for (int j = 0; j < jobsPerUser; j++) {
+                Job job = new Job(pick(random, COMPANIES), pick(random, POSITIONS), pick(random, LOCATIONS),
+                        today.plusDays(random.nextInt(90)));
+                job.setId(i * jobsPerUser + j + 1);
+                job.setDescription("Role description " + random.nextInt(1000)
+                        + ": build and maintain services, review code and mentor colleagues.");
+                job.setUrl("https://jobs.example.com/" + random.nextInt(100000));
+                job.setStatus(Job.Status.values()[random.nextInt(Job.Status.values().length)]);
+                job.setNotes(random.nextBoolean() ? "Follow up with recruiter" : null);
+                job.setDateAdded(today.minusDays(random.nextInt(365)));
+                job.setLastUpdated(today);
+                user.addJobApplication(job);
+            }
+
+            for (int j = 0; j < 8; j++) {
+                Skill skill = new Skill(pick(random, SKILLS),
+                        Skill.ProficiencyLevel.values()[random.nextInt(Skill.ProficiencyLevel.values().length)],
+                        Skill.Category.values()[random.nextInt(Skill.Category.values().length)]);
+                skill.setId(String.valueOf(i * 8 + j + 1));
+                user.addSkill(skill);
+            }
+
+            for (int j = 0; j < 3; j++) {
+                Achievement achievement = new Achievement("Achievement " + j, "Recognized for delivery",
+                        today.minusMonths(random.nextInt(24)),
+                        Achievement.Type.values()[random.nextInt(Achievement.Type.values().length)]);
+                achievement.setId(String.valueOf(i * 3 + j + 1));
+                user.addAchievement(achievement);
+            }
+
+            for (int j = 0; j < 4; j++) {
+                Goal goal = new Goal("Goal " + j, "Make progress on goal " + j, j % 2 == 0,
+                        today.plusMonths(random.nextInt(24)));
+                goal.setId(String.valueOf(i * 4 + j + 1));
+                goal.setStatus(Goal.Status.values()[random.nextInt(Goal.Status.values().length)]);
+                user.addGoal(goal);
+                if (goal.isShortTerm()) {
+                    user.getShortTermGoals().add(goal);
+                } else {
+                    user.getLongTermGoals().add(goal);
+                }
+            }
+
+            Resume resume = user.getResume();
+            resume.setSummary("Experienced engineer with a focus on reliable software.");
+            for (int j = 0; j < 3; j++) {
+                Resume.Experience experience = new Resume.Experience();
+                experience.setPosition(pick(random, POSITIONS));
+                experience.setCompany(pick(random, COMPANIES));
+                experience.setLocation(pick(random, LOCATIONS));
+                experience.setStartDate("Jan " + (2015 + j * 2));
+                experience.setEndDate("Dec " + (2016 + j * 2));
+                experience.addResponsibility("Designed and implemented services");
+                experience.addResponsibility("Collaborated with cross-functional teams");
+                resume.addWorkExperience(experience);
+            }
+            Resume.Education education = new Resume.Education();
+            education.setDegree("Bachelor of Science in Computer Science");
+            education.setInstitution("University of Technology");
+            education.setStartDate("Sep 2010");
+            education.setEndDate("May 2014");
+            resume.addEducation(education);
+            resume.addLanguage("English (Native)");
+
+            users.add(user);
+        }
+
+        return users;
+    }
+
+    /**
+     * Generates learning resources.
+     *
+     * @param count Number of resources
+     * @param seed Random seed
+     * @return List of generated resources
+     */
+    public static List<Resource> resources(int count, long seed) {
+        Random random = new Random(seed);
+        List<Resource> resources = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Resource resource = new Resource("Resource " + i, "Learning material " + i,
+                    Resource.Type.values()[random.nextInt(Resource.Type.values().length)],
+                    "https://learn.example.com/" + i);
+            resource.setId(i + 1);
+            resource.setProvider(pick(random, PROVIDERS));
+            resource.setAuthor("Author " + random.nextInt(20));
+            resource.setRating(random.nextInt(6));
+            resources.add(resource);
+        }
+
+        return resources;
+    }
+
+    /**
+     * Writes users in the users.json format, one user at a time.
+     *
+     * @param file The file to write
+     * @param users The users to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeUsersJson(Path file, List<User> users) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write('[');
+            for (int i = 0; i < users.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                JsonConverter.convertUserToJSON(users.get(i)).writeJSONString(writer);
+            }
+            writer.write(']');
+        }
+    }
+
+    /**
+     * Writes resources in the resources.json format.
+     *
+     * @param file The file to write
+     * @param resources The resources to write
+     * @throws IOException if the file cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public static void writeResourcesJson(Path file, List<Resource> resources) throws IOException {
+        JSONArray array = new JSONArray();
+        for (Resource resource : resources) {
+            array.add(JsonConverter.convertResourceToJSON(resource));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, array.toJSONString());
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,107 @@
+package com.careerplanner.benchmark;
+
+import com.careerplanner.dao.JobDAO;
+import com.careerplanner.dao.UserDAO;
+import com.careerplanner.model.Job;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+import com.careerplanner.util.InMemoryMetricsRegistry;
+import com.careerplanner.util.LatencyHistogram;
+import com.careerplanner.util.UnitOfWork;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the pool overhead of a dashboard load, which reads a user, its jobs and its
+ * upcoming deadlines, once with every DAO call checking out its own connection and once
+ * inside a {@link UnitOfWork}. Runs against the database configured by DATABASE_URL,
+ * PGUSER and PGPASSWORD; the rows it writes are deleted again before it exits.
+ *
+ * <p>Usage: {@code UnitOfWorkBenchmark [loads] [jobs]}</p>
+ */
+public class UnitOfWorkBenchmark {
+
+    public static void main(String[] args) throws SQLException {
+        int loads = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int jobCount = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        if (!(DatabaseManager.getMetricsRegistry() instanceof InMemoryMetricsRegistry)) {
+            DatabaseManager.setMetricsRegistry(new InMemoryMetricsRegistry());
+        }
+        InMemoryMetricsRegistry metrics = (InMemoryMetricsRegistry) DatabaseManager.getMetricsRegistry();
+
+        JobDAO jobDAO = new JobDAO();
+        UserDAO userDAO = new UserDAO();
+        long runId = System.currentTimeMillis();
+
+        User owner = userDAO.createUser(new User("bench_" + runId, "bench_" + runId + "@example.com", "x", "Benchmark"))
+                .orElseThrow(() -> new IllegalStateException("Could not create benchmark user"));
+
+        try {
+            List<Job> jobs = new ArrayList<>(jobCount);
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < jobCount; i++) {
+                jobs.add(new Job(owner.getId(), "Company " + i, "Position " + i, "Remote", now.plusDays(i % 30)));
+            }
+            if (jobDAO.createJobs(jobs).size() != jobCount) {
+                throw new IllegalStateException("Could not create benchmark jobs");
+            }
+
+            // Warm up the pool and the server's plan cache
+            for (int i = 0; i < Math.min(loads, 200); i++) {
+                load(userDAO, jobDAO, owner.getId());
+            }
+
+            System.out.printf("%-12s %8s %10s %10s %14s %14s %12s%n", "mode", "loads", "ms", "us/load",
+                    "checkouts/load", "acquire us/ld", "prepares/ld");
+
+            LatencyHistogram acquire = metrics.getConnectionAcquire();
+            long checkouts = acquire.getCount();
+            long acquireNanos = acquire.getSumNanos();
+            long start = System.nanoTime();
+            for (int i = 0; i < loads; i++) {
+                load(userDAO, jobDAO, owner.getId());
+            }
+            report("separate", loads, start, acquire.getCount() - checkouts, acquire.getSumNanos() - acquireNanos,
+                    -1);
+
+            checkouts = acquire.getCount();
+            acquireNanos = acquire.getSumNanos();
+            long prepared = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < loads; i++) {
+                try (UnitOfWork work = dbManager.beginUnitOfWork()) {
+                    load(userDAO, jobDAO, owner.getId());
+                    work.commit();
+                    prepared += work.getStatementsPrepared();
+                }
+            }
+            report("unitOfWork", loads, start, acquire.getCount() - checkouts, acquire.getSumNanos() - acquireNanos,
+                    prepared);
+        } finally {
+            // Cascades to the benchmark jobs
+            userDAO.deleteUser(owner.getId());
+            dbManager.shutdown();
+        }
+    }
+
+    private static void load(UserDAO userDAO, JobDAO jobDAO, int userId) {
+        if (userDAO.getUserById(userId).isEmpty()) {
+            throw new IllegalStateException("Benchmark user not found");
+        }
+        jobDAO.getJobsByUserId(userId);
+        jobDAO.getJobsWithDeadlinesInDays(userId, 7);
+    }
+
+    private static void report(String mode, int loads, long startNanos, long checkouts, long acquireNanos,
+                               long prepared) {
+        double millis = (System.nanoTime() - startNanos) / 1e6;
+        System.out.printf("%-12s %8d %10.1f %10.1f %14.2f %14.2f %12s%n", mode, loads, millis, millis * 1000 / loads,
+                (double) checkouts / loads, acquireNanos / 1e3 / loads,
+                prepared < 0 ? "-" : String.format("%.2f", (double) prepared / loads));
+    }
+}
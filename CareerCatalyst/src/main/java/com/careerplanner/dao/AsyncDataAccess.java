@@ -0,0 +1,259 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Job;
+import com.careerplanner.model.JobSummary;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asynchronous facade over {@link JobDAO} and {@link UserDAO}, so that event handlers on the
+ * JavaFX application thread never wait for a database round-trip.
+ *
+ * <p>Operations run on a dedicated executor with one thread per pooled connection, counting
+ * the primary pool and the read pool if there is one; more threads would only queue inside
+ * the pools. At most 1000 operations wait for a thread, beyond that the returned future
+ * fails with a RejectedExecutionException.</p>
+ *
+ * <p>UI code should deliver results through a {@link Scope}, which runs the callbacks on
+ * the FX thread and drops them once the screen that asked for them is left.</p>
+ */
+public class AsyncDataAccess {
+    private static final Logger LOGGER = Logger.getLogger(AsyncDataAccess.class.getName());
+    private static final int MAX_QUEUED_OPERATIONS = 1000;
+
+    /** Runs tasks on the JavaFX application thread */
+    public static final Executor FX_THREAD = Platform::runLater;
+
+    private final JobDAO jobDAO;
+    private final UserDAO userDAO;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a facade with one thread per connection of the database pools
+     * @param jobDAO the JobDAO to call, for example a CachingJobDAO
+     * @param userDAO the UserDAO to call
+     */
+    public AsyncDataAccess(JobDAO jobDAO, UserDAO userDAO) {
+        this(jobDAO, userDAO, DatabaseManager.getInstance().getMaximumPoolSize()
+                + DatabaseManager.getInstance().getMaximumReadPoolSize());
+    }
+
+    /**
+     * Creates a facade with a given number of threads
+     * @param jobDAO the JobDAO to call
+     * @param userDAO the UserDAO to call
+     * @param threads number of operations that run at the same time
+     */
+    public AsyncDataAccess(JobDAO jobDAO, UserDAO userDAO, int threads) {
+        this.jobDAO = jobDAO;
+        this.userDAO = userDAO;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_OPERATIONS), new DaemonThreadFactory());
+    }
+
+    /**
+     * Runs a data access operation on the executor.
+     * @param operation the blocking operation
+     * @return a future for its result; cancelling it skips the operation if it has not started
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        CancellableFuture<T> future = new CancellableFuture<>();
+        try {
+            future.setTask(executor.submit(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(operation.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    // Typed operations, each running the DAO method of the same name
+
+    public CompletableFuture<Optional<Job>> getJobById(int id) {
+        return submit(() -> jobDAO.getJobById(id));
+    }
+
+    public CompletableFuture<List<Job>> getJobsByUserId(int userId) {
+        return submit(() -> jobDAO.getJobsByUserId(userId));
+    }
+
+    public CompletableFuture<List<JobSummary>> getJobSummariesByUserId(int userId) {
+        return submit(() -> jobDAO.getJobSummariesByUserId(userId));
+    }
+
+    public CompletableFuture<JobPage> getJobsPage(int userId, JobPage.Order order, String cursor, int pageSize) {
+        return submit(() -> jobDAO.getJobsPage(userId, order, cursor, pageSize));
+    }
+
+    public CompletableFuture<List<Job>> getJobsWithDeadlinesInDays(int userId, int days) {
+        return submit(() -> jobDAO.getJobsWithDeadlinesInDays(userId, days));
+    }
+
+    public CompletableFuture<List<Job>> searchJobs(int userId, String query, int limit) {
+        return submit(() -> jobDAO.searchJobs(userId, query, limit));
+    }
+
+    public CompletableFuture<Optional<Job>> createJob(Job job) {
+        return submit(() -> jobDAO.createJob(job));
+    }
+
+    public CompletableFuture<Boolean> updateJob(Job job) {
+        return submit(() -> jobDAO.updateJob(job));
+    }
+
+    public CompletableFuture<Boolean> deleteJob(int id, int userId) {
+        return submit(() -> jobDAO.deleteJob(id, userId));
+    }
+
+    public CompletableFuture<Optional<User>> getUserById(int id) {
+        return submit(() -> userDAO.getUserById(id));
+    }
+
+    public CompletableFuture<Optional<User>> getUserByUsername(String username) {
+        return submit(() -> userDAO.getUserByUsername(username));
+    }
+
+    public CompletableFuture<Boolean> updateUser(User user) {
+        return submit(() -> userDAO.updateUser(user));
+    }
+
+    /**
+     * Creates a scope for the requests of one screen
+     * @return a new scope
+     */
+    public Scope newScope() {
+        return new Scope();
+    }
+
+    /**
+     * Stops accepting operations and lets the queued ones finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Groups the requests made by one screen. Callbacks run on the FX thread, and only
+     * while the scope is open; {@link #cancelAll()} is meant to be called when the user
+     * navigates away.
+     */
+    public static class Scope {
+        private final List<CompletableFuture<?>> pending = new ArrayList<>();
+        private volatile boolean cancelled;
+
+        private Scope() {
+        }
+
+        /**
+         * Delivers the outcome of a future on the FX thread
+         * @param future the future to wait for
+         * @param onSuccess receives the result
+         * @param onFailure receives the failure
+         */
+        public <T> void deliver(CompletableFuture<T> future, Consumer<? super T> onSuccess,
+                                Consumer<? super Throwable> onFailure) {
+            synchronized (pending) {
+                if (cancelled) {
+                    future.cancel(false);
+                    return;
+                }
+                pending.add(future);
+            }
+
+            future.whenCompleteAsync((result, error) -> {
+                synchronized (pending) {
+                    pending.remove(future);
+                }
+                if (cancelled || future.isCancelled()) {
+                    return;
+                }
+                if (error != null) {
+                    onFailure.accept(error);
+                } else {
+                    onSuccess.accept(result);
+                }
+            }, FX_THREAD);
+        }
+
+        /**
+         * Cancels the scope's pending requests. Requests that have not started are skipped;
+         * a query that is already running finishes, but its callbacks are not run.
+         */
+        public void cancelAll() {
+            List<CompletableFuture<?>> toCancel;
+            synchronized (pending) {
+                cancelled = true;
+                toCancel = new ArrayList<>(pending);
+                pending.clear();
+            }
+            for (CompletableFuture<?> future : toCancel) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * CompletableFuture that also removes its task from the executor queue when cancelled.
+     * A running task is not interrupted, since an interrupt can leave a JDBC connection in
+     * an unusable state.
+     */
+    private static class CancellableFuture<T> extends CompletableFuture<T> {
+        private volatile Future<?> task;
+
+        void setTask(Future<?> task) {
+            this.task = task;
+            if (isCancelled()) {
+                task.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Future<?> current = task;
+            if (cancelled && current != null) {
+                current.cancel(false);
+            }
+            return cancelled;
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "dao-async-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) ->
+                    LOGGER.log(Level.SEVERE, "Uncaught exception in " + t.getName(), e));
+            return thread;
+        }
+    }
+}
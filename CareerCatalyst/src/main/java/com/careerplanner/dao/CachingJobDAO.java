@@ -0,0 +1,214 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Job;
+import com.careerplanner.model.JobSummary;
+import com.careerplanner.util.ReadThroughCache;
+import com.careerplanner.util.UnitOfWork;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JobDAO with a read-through cache in front of its repeat reads. Jobs are cached by id,
+ * and the per-user list queries by user and query. Every write made through this DAO
+ * invalidates the entries it affects before returning, so a read that follows a write
+ * always sees it. Entries are loaded from the primary pool rather than the read pool, since
+ * a lagging replica could otherwise put a stale row in the cache for the whole expiry time.
+ *
+ * <p>A query that fails is logged and answered with an empty list, as JobDAO does, but
+ * nothing is cached, so the next call queries again.</p>
+ *
+ * <p>Writes made through another JobDAO instance are only seen once the entries expire,
+ * after {@code careerplanner.cache.ttlSeconds} (default 60). The cache holds at most
+ * {@code careerplanner.cache.maxEntries} entries per kind (default 10000).</p>
+ *
+ * <p>Inside a {@link UnitOfWork} reads bypass the cache, since they may see the unit's
+ * uncommitted writes, and the unit's writes invalidate their entries once it has ended.</p>
+ *
+ * <p>Cached jobs are shared between callers. Lists are copied on the way out, but the jobs
+ * in them should only be changed in order to pass them to updateJob.</p>
+ */
+public class CachingJobDAO extends JobDAO {
+    private static final Logger LOGGER = Logger.getLogger(CachingJobDAO.class.getName());
+    static final int MAX_ENTRIES = Integer.getInteger("careerplanner.cache.maxEntries", 10000);
+    static final long TTL_MILLIS = Long.getLong("careerplanner.cache.ttlSeconds", 60) * 1000;
+
+    private final ReadThroughCache<Integer, Job> jobsById = new ReadThroughCache<>(MAX_ENTRIES, TTL_MILLIS);
+    // Keyed by "<userId>:<query>" so all queries of one user can be dropped together
+    private final ReadThroughCache<String, List<?>> userQueries = new ReadThroughCache<>(MAX_ENTRIES, TTL_MILLIS);
+
+    /**
+     * Constructor for CachingJobDAO
+     */
+    public CachingJobDAO() {
+        super();
+    }
+
+    @Override
+    public Optional<Job> getJobById(int id) {
+        if (UnitOfWork.isActive()) {
+            return super.getJobById(id);
+        }
+        return Optional.ofNullable(jobsById.get(id, key -> getJobById(key, true).orElse(null)));
+    }
+
+    @Override
+    public List<Job> getJobsByUserId(int userId) {
+        return cachedList(userId, "jobs", () -> findJobsByUserId(userId, true));
+    }
+
+    @Override
+    public List<Job> getJobsByUserIdAndStatus(int userId, Job.Status status) {
+        return cachedList(userId, "jobs:" + status.name(), () -> findJobsByUserIdAndStatus(userId, status, true));
+    }
+
+    @Override
+    public List<JobSummary> getJobSummariesByUserId(int userId) {
+        return cachedList(userId, "summaries", () -> findJobSummariesByUserId(userId, true));
+    }
+
+    @Override
+    public List<JobSummary> getJobSummariesByUserIdAndStatus(int userId, Job.Status status) {
+        return cachedList(userId, "summaries:" + status.name(),
+                () -> findJobSummariesByUserIdAndStatus(userId, status, true));
+    }
+
+    @Override
+    public Optional<Job> createJob(Job job) {
+        try {
+            return super.createJob(job);
+        } finally {
+            UnitOfWork.afterCompletion(() -> invalidateUser(job.getUserId()));
+        }
+    }
+
+    @Override
+    public List<Job> createJobs(List<Job> jobs) {
+        try {
+            return super.createJobs(jobs);
+        } finally {
+            UnitOfWork.afterCompletion(() -> invalidate(jobs));
+        }
+    }
+
+    @Override
+    public boolean updateJob(Job job) {
+        try {
+            return super.updateJob(job);
+        } finally {
+            UnitOfWork.afterCompletion(() -> {
+                jobsById.invalidate(job.getId());
+                invalidateUser(job.getUserId());
+            });
+        }
+    }
+
+    @Override
+    public int updateJobs(List<Job> jobs) {
+        try {
+            return super.updateJobs(jobs);
+        } finally {
+            UnitOfWork.afterCompletion(() -> invalidate(jobs));
+        }
+    }
+
+    @Override
+    public boolean deleteJob(int id, int userId) {
+        try {
+            return super.deleteJob(id, userId);
+        } finally {
+            UnitOfWork.afterCompletion(() -> {
+                jobsById.invalidate(id);
+                invalidateUser(userId);
+            });
+        }
+    }
+
+    @Override
+    public int deleteJobs(int userId, List<Integer> ids) {
+        try {
+            return super.deleteJobs(userId, ids);
+        } finally {
+            UnitOfWork.afterCompletion(() -> {
+                for (Integer id : ids) {
+                    jobsById.invalidate(id);
+                }
+                invalidateUser(userId);
+            });
+        }
+    }
+
+    /**
+     * Drops every cached job and query result of a user, for example after the user was
+     * deleted and their jobs with it
+     * @param userId the user ID
+     */
+    public void invalidateUser(int userId) {
+        String prefix = userId + ":";
+        userQueries.invalidateIf((key, value) -> key.startsWith(prefix));
+        jobsById.invalidateIf((id, job) -> job.getUserId() == userId);
+    }
+
+    /**
+     * Drops all cached entries
+     */
+    public void invalidateAll() {
+        jobsById.invalidateAll();
+        userQueries.invalidateAll();
+    }
+
+    /**
+     * Gets the cache of jobs by id, for its counters
+     * @return the cache
+     */
+    public ReadThroughCache<Integer, Job> getJobCache() {
+        return jobsById;
+    }
+
+    /**
+     * Gets the cache of per-user query results, for its counters
+     * @return the cache
+     */
+    public ReadThroughCache<String, List<?>> getQueryCache() {
+        return userQueries;
+    }
+
+    private void invalidate(List<Job> jobs) {
+        for (Job job : jobs) {
+            jobsById.invalidate(job.getId());
+        }
+        jobs.stream().mapToInt(Job::getUserId).distinct().forEach(this::invalidateUser);
+    }
+
+    /**
+     * Loads a list query, returning null if it failed so that the failure is not cached
+     */
+    private static <T> List<T> load(int userId, String query, ListQuery<T> loader) {
+        try {
+            return loader.run();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error loading " + query + " for user ID: " + userId, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> cachedList(int userId, String query, ListQuery<T> loader) {
+        List<?> result = UnitOfWork.isActive()
+                ? load(userId, query, loader)
+                : userQueries.get(userId + ":" + query, key -> load(userId, query, loader));
+        // Copy so callers cannot change the cached list itself
+        return result != null ? new ArrayList<>((List<T>) result) : new ArrayList<>();
+    }
+
+    /**
+     * A list query of JobDAO that throws when it fails
+     */
+    private interface ListQuery<T> {
+        List<T> run() throws SQLException;
+    }
+}
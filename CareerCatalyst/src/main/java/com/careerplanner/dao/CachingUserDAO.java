@@ -0,0 +1,139 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.User;
+import com.careerplanner.util.ReadThroughCache;
+import com.careerplanner.util.UnitOfWork;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * UserDAO with a read-through cache for lookups by id and by username. Updates and
+ * deletes made through this DAO invalidate the affected entries before returning; see
+ * {@link CachingJobDAO} for the expiry and size settings, which both DAOs share, and for
+ * how they behave inside a unit of work.
+ *
+ * <p>Existence checks such as usernameExists are not cached, since registration must
+ * see the current state.</p>
+ */
+public class CachingUserDAO extends UserDAO {
+    private final ReadThroughCache<Integer, User> usersById =
+            new ReadThroughCache<>(CachingJobDAO.MAX_ENTRIES, CachingJobDAO.TTL_MILLIS);
+    private final ReadThroughCache<String, User> usersByUsername =
+            new ReadThroughCache<>(CachingJobDAO.MAX_ENTRIES, CachingJobDAO.TTL_MILLIS);
+    private final CachingJobDAO jobDAO;
+
+    /**
+     * Constructor for CachingUserDAO
+     */
+    public CachingUserDAO() {
+        this(null);
+    }
+
+    /**
+     * Constructor for CachingUserDAO that also drops a deleted user's cached jobs
+     * @param jobDAO the caching JobDAO used next to this DAO, may be null
+     */
+    public CachingUserDAO(CachingJobDAO jobDAO) {
+        super();
+        this.jobDAO = jobDAO;
+    }
+
+    @Override
+    public Optional<User> getUserById(int id) {
+        if (UnitOfWork.isActive()) {
+            return super.getUserById(id);
+        }
+        return Optional.ofNullable(usersById.get(id, key -> getUserById(key, true).orElse(null)));
+    }
+
+    @Override
+    public Optional<User> getUserByUsername(String username) {
+        if (UnitOfWork.isActive()) {
+            return super.getUserByUsername(username);
+        }
+        return Optional.ofNullable(usersByUsername.get(username, key -> getUserByUsername(key, true).orElse(null)));
+    }
+
+    @Override
+    public boolean updateUser(User user) {
+        try {
+            return super.updateUser(user);
+        } finally {
+            UnitOfWork.afterCompletion(() -> invalidate(user.getId()));
+        }
+    }
+
+    @Override
+    public int updateUsers(List<User> users) {
+        try {
+            return super.updateUsers(users);
+        } finally {
+            UnitOfWork.afterCompletion(() -> {
+                for (User user : users) {
+                    invalidate(user.getId());
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean deleteUser(int id) {
+        try {
+            return super.deleteUser(id);
+        } finally {
+            UnitOfWork.afterCompletion(() -> {
+                invalidate(id);
+                if (jobDAO != null) {
+                    jobDAO.invalidateUser(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public int deleteUsers(List<Integer> ids) {
+        try {
+            return super.deleteUsers(ids);
+        } finally {
+            UnitOfWork.afterCompletion(() -> {
+                for (Integer id : ids) {
+                    invalidate(id);
+                    if (jobDAO != null) {
+                        jobDAO.invalidateUser(id);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops all cached users
+     */
+    public void invalidateAll() {
+        usersById.invalidateAll();
+        usersByUsername.invalidateAll();
+    }
+
+    /**
+     * Gets the cache of users by id, for its counters
+     * @return the cache
+     */
+    public ReadThroughCache<Integer, User> getUserCache() {
+        return usersById;
+    }
+
+    /**
+     * Gets the cache of users by username, for its counters
+     * @return the cache
+     */
+    public ReadThroughCache<String, User> getUsernameCache() {
+        return usersByUsername;
+    }
+
+    private void invalidate(int id) {
+        usersById.invalidate(id);
+        // The username may have changed, so match on the cached user's id
+        usersByUsername.invalidateIf((username, user) -> user.getId() == id);
+    }
+}
@@ -0,0 +1,199 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Achievement;
+import com.careerplanner.model.DashboardStats;
+import com.careerplanner.model.Job;
+import com.careerplanner.model.Skill;
+import com.careerplanner.util.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data Access Object for the dashboard counts of a user. Triggers on the jobs, goals,
+ * skills and achievements tables keep the counts in the user_stats table up to date, so
+ * {@link #getStats(int)} is one primary-key lookup however many rows a user has.
+ *
+ * <p>{@link #computeStats(int)} counts the source tables directly with GROUP BY, and
+ * {@link #rebuildStats(int)} writes those counts back, for checking and repairing the
+ * summary rows.</p>
+ */
+public class DashboardStatsDAO {
+    private static final Logger LOGGER = Logger.getLogger(DashboardStatsDAO.class.getName());
+
+    // The counts of one user, in the shape of the user_stats rows; every branch binds the user ID
+    private static final String AGGREGATE_SQL =
+            "SELECT 'job_status' AS metric, status AS bucket, COUNT(*) AS total, 0 AS completed " +
+            "FROM jobs WHERE user_id = ? GROUP BY status " +
+            "UNION ALL " +
+            "SELECT 'goal_term', CASE WHEN short_term THEN 'SHORT_TERM' ELSE 'LONG_TERM' END, " +
+            "COUNT(*), COUNT(*) FILTER (WHERE status = 'COMPLETED') " +
+            "FROM goals WHERE user_id = ? GROUP BY short_term " +
+            "UNION ALL " +
+            "SELECT 'skill_category', category, COUNT(*), 0 FROM skills WHERE user_id = ? GROUP BY category " +
+            "UNION ALL " +
+            "SELECT 'skill_proficiency', proficiency_level, COUNT(*), 0 " +
+            "FROM skills WHERE user_id = ? GROUP BY proficiency_level " +
+            "UNION ALL " +
+            "SELECT 'achievement_type', type, COUNT(*), 0 FROM achievements WHERE user_id = ? GROUP BY type";
+    private static final int AGGREGATE_PARAMETERS = 5;
+
+    private final DatabaseManager dbManager;
+
+    /**
+     * Constructor for DashboardStatsDAO
+     */
+    public DashboardStatsDAO() {
+        this.dbManager = DatabaseManager.getInstance();
+    }
+
+    /**
+     * Reads the dashboard counts of a user from the summary table
+     * @param userId the user ID
+     * @return Optional containing the counts, all zero for a user without rows; empty Optional if the read failed
+     */
+    public Optional<DashboardStats> getStats(int userId) {
+        String sql = "SELECT metric, bucket, total, completed FROM user_stats WHERE user_id = ?";
+        return readStats("userStats.get", sql, userId, 1);
+    }
+
+    /**
+     * Counts the jobs, goals, skills and achievements of a user directly, without the summary table
+     * @param userId the user ID
+     * @return Optional containing the counts, or empty Optional if the query failed
+     */
+    public Optional<DashboardStats> computeStats(int userId) {
+        return readStats("userStats.compute", AGGREGATE_SQL, userId, AGGREGATE_PARAMETERS);
+    }
+
+    /**
+     * Replaces the summary rows of a user with freshly computed counts. Locks the user row,
+     * so jobs and other rows cannot be added to the user meanwhile
+     * @param userId the user ID
+     * @return true if the rows were rebuilt, false otherwise
+     */
+    public boolean rebuildStats(int userId) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
+        try {
+            conn = dbManager.getConnection();
+            conn.setAutoCommit(false);
+
+            pstmt = dbManager.prepareStatement(conn, "userStats.lockUser", "SELECT id FROM users WHERE id = ? FOR UPDATE");
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    conn.rollback();
+                    return false;
+                }
+            }
+            pstmt.close();
+
+            pstmt = dbManager.prepareStatement(conn, "userStats.clear", "DELETE FROM user_stats WHERE user_id = ?");
+            pstmt.setInt(1, userId);
+            pstmt.executeUpdate();
+            pstmt.close();
+
+            pstmt = dbManager.prepareStatement(conn, "userStats.rebuild",
+                    "INSERT INTO user_stats (user_id, metric, bucket, total, completed) " +
+                    "SELECT ?, metric, bucket, total, completed FROM (" + AGGREGATE_SQL + ") counts");
+            for (int i = 1; i <= AGGREGATE_PARAMETERS + 1; i++) {
+                pstmt.setInt(i, userId);
+            }
+            pstmt.executeUpdate();
+
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error rebuilding dashboard stats for user ID: " + userId, e);
+            rollback(conn);
+            return false;
+        } finally {
+            restoreAutoCommit(conn);
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+
+    private Optional<DashboardStats> readStats(String queryName, String sql, int userId, int parameters) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, queryName, sql);
+            for (int i = 1; i <= parameters; i++) {
+                pstmt.setInt(i, userId);
+            }
+            rs = pstmt.executeQuery();
+
+            DashboardStats stats = new DashboardStats();
+            while (rs.next()) {
+                addCount(stats, rs.getString("metric"), rs.getString("bucket"), rs.getInt("total"),
+                        rs.getInt("completed"));
+            }
+            return Optional.of(stats);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error reading dashboard stats for user ID: " + userId, e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+
+    /**
+     * Adds one user_stats row to the counts. Buckets that no longer match an enum constant
+     * are skipped
+     */
+    private void addCount(DashboardStats stats, String metric, String bucket, int total, int completed) {
+        try {
+            switch (metric) {
+                case "job_status":
+                    stats.setJobCount(Job.Status.valueOf(bucket), total);
+                    break;
+                case "goal_term":
+                    stats.setGoalCounts(bucket.equals("SHORT_TERM"), total, completed);
+                    break;
+                case "skill_category":
+                    stats.setSkillCount(Skill.Category.valueOf(bucket), total);
+                    break;
+                case "skill_proficiency":
+                    stats.setSkillCount(Skill.ProficiencyLevel.valueOf(bucket), total);
+                    break;
+                case "achievement_type":
+                    stats.setAchievementCount(Achievement.Type.valueOf(bucket), total);
+                    break;
+                default:
+                    LOGGER.warning("Unknown dashboard metric: " + metric);
+            }
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Unknown " + metric + " value: " + bucket);
+        }
+    }
+
+    private void rollback(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to roll back dashboard stats rebuild", e);
+            }
+        }
+    }
+
+    private void restoreAutoCommit(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to restore auto-commit", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Job;
+import com.careerplanner.util.DatabaseManager;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps an in-memory index of upcoming job deadlines per user. The index is read once when
+ * the feed connects; after that it only changes through the notifications that the deadline
+ * triggers on the jobs table send on the {@value #CHANNEL} channel (schema migration 5), so
+ * deadline checks cost no queries however often they run.
+ *
+ * <p>Listeners are told when a deadline comes within the reminder window: as soon as a
+ * change puts it there, or when enough time has passed. Each job is reported to each
+ * listener once per deadline; changing the deadline reports it again. A listener added
+ * later, for example for a user who logs in after the feed started, is told about every
+ * deadline already within the window. The feed runs on one daemon thread with its own
+ * connection outside the pool. If that connection drops, the feed reconnects and reads the
+ * index again, since notifications sent in between are lost.</p>
+ */
+public class DeadlineFeed implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(DeadlineFeed.class.getName());
+    public static final String CHANNEL = "job_deadlines";
+    // Longest single wait for notifications, which bounds how long close() takes
+    private static final int MAX_WAIT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+    private static final Comparator<UpcomingDeadline> BY_DEADLINE =
+            Comparator.comparing(UpcomingDeadline::getDeadline).thenComparingInt(UpcomingDeadline::getJobId);
+
+    /**
+     * Receives reminders for deadlines that came within the reminder window.
+     */
+    public interface ReminderListener {
+        /**
+         * Called on the feed thread; implementations that touch the UI must hand over to it.
+         *
+         * @param userId The user the jobs belong to
+         * @param deadlines The jobs whose deadline is approaching, earliest first
+         */
+        void onDeadlinesApproaching(int userId, List<UpcomingDeadline> deadlines);
+    }
+
+    /**
+     * A job with a deadline in the future, as held in the index.
+     */
+    public static final class UpcomingDeadline {
+        private final int jobId;
+        private final int userId;
+        private final String companyName;
+        private final String position;
+        private final LocalDateTime deadline;
+
+        UpcomingDeadline(int jobId, int userId, String companyName, String position, LocalDateTime deadline) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.companyName = companyName;
+            this.position = position;
+            this.deadline = deadline;
+        }
+
+        public int getJobId() {
+            return jobId;
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+
+        public String getCompanyName() {
+            return companyName;
+        }
+
+        public String getPosition() {
+            return position;
+        }
+
+        public LocalDateTime getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Creates a Job carrying the fields known here, for code that displays jobs.
+         *
+         * @return A job with id, user, company, position and deadline set
+         */
+        public Job toJob() {
+            Job job = new Job(userId, companyName, position, null, deadline);
+            job.setId(jobId);
+            return job;
+        }
+    }
+
+    private final DatabaseManager dbManager;
+    private final Duration reminderWindow;
+    private final JSONParser parser = new JSONParser();
+
+    // Guarded by this
+    private final Map<Integer, UpcomingDeadline> byJob = new HashMap<>();
+    private final Map<Integer, TreeSet<UpcomingDeadline>> byUser = new HashMap<>();
+    private final TreeSet<UpcomingDeadline> byDeadline = new TreeSet<>(BY_DEADLINE);
+    // Per listener, the deadline each job was last reported to it with
+    private final Map<ReminderListener, Map<Integer, LocalDateTime>> reminded = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    // Set when a listener was added, so the feed thread reports to it without waiting for a change
+    private volatile boolean listenerAdded;
+    private Thread thread;
+
+    /**
+     * Constructor for the DeadlineFeed class.
+     *
+     * @param reminderDays How many days before a deadline its job is reported
+     */
+    public DeadlineFeed(int reminderDays) {
+        this.dbManager = DatabaseManager.getInstance();
+        this.reminderWindow = Duration.ofDays(reminderDays);
+    }
+
+    /**
+     * Adds a listener. Deadlines already within the reminder window are reported to it
+     * shortly after, on the feed thread.
+     *
+     * @param listener The listener to add
+     */
+    public synchronized void addListener(ReminderListener listener) {
+        reminded.putIfAbsent(listener, new HashMap<>());
+        listenerAdded = true;
+    }
+
+    public synchronized void removeListener(ReminderListener listener) {
+        reminded.remove(listener);
+    }
+
+    /**
+     * Starts listening on a daemon thread. Does nothing if the feed is already running.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "deadline-feed");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops listening and closes the feed's connection.
+     */
+    @Override
+    public void close() {
+        Thread worker;
+        synchronized (this) {
+            running = false;
+            worker = thread;
+            thread = null;
+        }
+        if (worker != null) {
+            // Cuts a reconnect delay short; a wait for notifications ends by itself within a second
+            worker.interrupt();
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gets a user's jobs whose deadline lies between now and the given number of days
+     * ahead, from the index. Answers the same question as
+     * {@link JobDAO#getJobsWithDeadlinesInDays(int, int)} without a query.
+     *
+     * @param userId The user id
+     * @param days Number of days to look ahead
+     * @return The deadlines, earliest first
+     */
+    public synchronized List<UpcomingDeadline> getUpcomingDeadlines(int userId, int days) {
+        TreeSet<UpcomingDeadline> deadlines = byUser.get(userId);
+        if (deadlines == null) {
+            return new ArrayList<>();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return new ArrayList<>(deadlines.subSet(probe(now, Integer.MIN_VALUE), true,
+                probe(now.plusDays(days), Integer.MAX_VALUE), true));
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection conn = dbManager.openDedicatedConnection()) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("LISTEN " + CHANNEL);
+                }
+                // Listening starts before the index is read, so no change can fall in between;
+                // notifications about rows the snapshot already contains are simply reapplied
+                reload(conn);
+                listen(conn.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.log(Level.WARNING, "Deadline feed connection lost, reconnecting", e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(PGConnection conn) throws SQLException {
+        long nextDueMillis = 0;
+        while (running) {
+            boolean changed = false;
+
+            long untilDue = nextDueMillis - System.currentTimeMillis();
+            PGNotification[] notifications = conn.getNotifications(
+                    (int) Math.max(1, Math.min(untilDue, MAX_WAIT_MILLIS)));
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    changed |= apply(notification.getParameter());
+                }
+            }
+
+            if (changed || listenerAdded || System.currentTimeMillis() >= nextDueMillis) {
+                listenerAdded = false;
+                fireReminders(LocalDateTime.now());
+                nextDueMillis = nextDueMillis();
+            }
+        }
+    }
+
+    private void reload(Connection conn) throws SQLException {
+        String sql = "SELECT id, user_id, company_name, position, deadline_date FROM jobs " +
+                     "WHERE deadline_date >= CURRENT_TIMESTAMP";
+        List<UpcomingDeadline> loaded = new ArrayList<>();
+        try (PreparedStatement pstmt = dbManager.prepareStatement(conn, "jobs.upcomingDeadlines", sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                loaded.add(new UpcomingDeadline(rs.getInt("id"), rs.getInt("user_id"), rs.getString("company_name"),
+                        rs.getString("position"), rs.getTimestamp("deadline_date").toLocalDateTime()));
+            }
+        }
+
+        synchronized (this) {
+            byJob.clear();
+            byUser.clear();
+            byDeadline.clear();
+            for (UpcomingDeadline deadline : loaded) {
+                put(deadline);
+            }
+            for (Map<Integer, LocalDateTime> listenerReminded : reminded.values()) {
+                listenerReminded.keySet().retainAll(byJob.keySet());
+            }
+        }
+        LOGGER.info("Deadline feed loaded " + loaded.size() + " upcoming deadlines");
+    }
+
+    /**
+     * Applies one notification to the index.
+     *
+     * @param payload The JSON payload sent by notify_job_deadline()
+     * @return true if the index changed
+     */
+    private boolean apply(String payload) {
+        JSONObject change;
+        try {
+            change = (JSONObject) parser.parse(payload);
+        } catch (ParseException | ClassCastException e) {
+            LOGGER.log(Level.WARNING, "Ignoring malformed deadline notification: " + payload, e);
+            return false;
+        }
+
+        int jobId = ((Number) change.get("id")).intValue();
+        Object deadlineValue = change.get("deadline");
+        LocalDateTime deadline = deadlineValue != null ? LocalDateTime.parse((String) deadlineValue) : null;
+
+        synchronized (this) {
+            boolean removed = remove(jobId);
+            if ("DELETE".equals(change.get("op")) || deadline == null || deadline.isBefore(LocalDateTime.now())) {
+                forget(jobId);
+                return removed;
+            }
+            put(new UpcomingDeadline(jobId, ((Number) change.get("user_id")).intValue(),
+                    (String) change.get("company"), (String) change.get("position"), deadline));
+            return true;
+        }
+    }
+
+    /**
+     * Reports to each listener every deadline in the reminder window that has not been
+     * reported to it with its current value, and drops deadlines that have passed. Only the
+     * entries within the window are visited.
+     */
+    private void fireReminders(LocalDateTime now) {
+        Map<ReminderListener, Map<Integer, List<UpcomingDeadline>>> due = new LinkedHashMap<>();
+        synchronized (this) {
+            while (!byDeadline.isEmpty() && byDeadline.first().getDeadline().isBefore(now)) {
+                int jobId = byDeadline.first().getJobId();
+                remove(jobId);
+                forget(jobId);
+            }
+            for (Map.Entry<ReminderListener, Map<Integer, LocalDateTime>> listener : reminded.entrySet()) {
+                Map<Integer, LocalDateTime> listenerReminded = listener.getValue();
+                for (UpcomingDeadline deadline : byDeadline.headSet(probe(now.plus(reminderWindow), Integer.MAX_VALUE), true)) {
+                    if (!deadline.getDeadline().equals(listenerReminded.get(deadline.getJobId()))) {
+                        listenerReminded.put(deadline.getJobId(), deadline.getDeadline());
+                        due.computeIfAbsent(listener.getKey(), key -> new LinkedHashMap<>())
+                                .computeIfAbsent(deadline.getUserId(), id -> new ArrayList<>()).add(deadline);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<ReminderListener, Map<Integer, List<UpcomingDeadline>>> listener : due.entrySet()) {
+            for (Map.Entry<Integer, List<UpcomingDeadline>> entry : listener.getValue().entrySet()) {
+                try {
+                    listener.getKey().onDeadlinesApproaching(entry.getKey(), entry.getValue());
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Deadline reminder listener failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the time the next deadline enters the reminder window.
+     *
+     * @return The time in epoch milliseconds, or Long.MAX_VALUE if no deadline is outside it
+     */
+    private synchronized long nextDueMillis() {
+        LocalDateTime now = LocalDateTime.now();
+        UpcomingDeadline next = byDeadline.higher(probe(now.plus(reminderWindow), Integer.MAX_VALUE));
+        if (next == null) {
+            return Long.MAX_VALUE;
+        }
+        return System.currentTimeMillis()
+                + Math.max(0, Duration.between(now, next.getDeadline().minus(reminderWindow)).toMillis());
+    }
+
+    private void put(UpcomingDeadline deadline) {
+        byJob.put(deadline.getJobId(), deadline);
+        byUser.computeIfAbsent(deadline.getUserId(), id -> new TreeSet<>(BY_DEADLINE)).add(deadline);
+        byDeadline.add(deadline);
+    }
+
+    private void forget(int jobId) {
+        for (Map<Integer, LocalDateTime> listenerReminded : reminded.values()) {
+            listenerReminded.remove(jobId);
+        }
+    }
+
+    private boolean remove(int jobId) {
+        UpcomingDeadline deadline = byJob.remove(jobId);
+        if (deadline == null) {
+            return false;
+        }
+        byDeadline.remove(deadline);
+        TreeSet<UpcomingDeadline> userDeadlines = byUser.get(deadline.getUserId());
+        if (userDeadlines != null) {
+            userDeadlines.remove(deadline);
+            if (userDeadlines.isEmpty()) {
+                byUser.remove(deadline.getUserId());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a search key for the index. With Integer.MIN_VALUE it sorts before, with
+     * Integer.MAX_VALUE after every entry with the same deadline.
+     */
+    private static UpcomingDeadline probe(LocalDateTime deadline, int jobId) {
+        return new UpcomingDeadline(jobId, 0, null, null, deadline);
+    }
+}
@@ -1,6 +1,7 @@
 package com.careerplanner.dao;
 
 import com.careerplanner.model.Job;
+import com.careerplanner.model.JobSummary;
 import com.careerplanner.util.DatabaseManager;
 
 import java.sql.Connection;
@@ -11,8 +12,10 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +24,16 @@ import java.util.logging.Logger;
  */
 public class JobDAO {
     private static final Logger LOGGER = Logger.getLogger(JobDAO.class.getName());
+    // Rows per multi-row INSERT; 500 rows of 10 columns stays far below the 32767 bind parameter limit
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final String INSERT_COLUMNS = "INSERT INTO jobs (user_id, company_name, position, description, " +
+                                                 "url, location, application_date, deadline_date, status, notes) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Rows fetched per round-trip by the streaming queries
+    private static final int STREAM_FETCH_SIZE = 500;
+    // Columns of a JobSummary; leaves out the TEXT description and notes columns
+    private static final String SUMMARY_COLUMNS = "id, user_id, company_name, position, location, status, " +
+                                                  "deadline_date, created_at";
     private final DatabaseManager dbManager;
     
     /**
@@ -46,29 +59,10 @@ public class JobDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            pstmt = dbManager.prepareStatement(conn, "jobs.create", sql, Statement.RETURN_GENERATED_KEYS);
             
             pstmt.setInt(1, job.getUserId());
-            pstmt.setString(2, job.getCompanyName());
-            pstmt.setString(3, job.getPosition());
-            pstmt.setString(4, job.getDescription());
-            pstmt.setString(5, job.getUrl());
-            pstmt.setString(6, job.getLocation());
-            
-            if (job.getApplicationDate() != null) {
-                pstmt.setTimestamp(7, Timestamp.valueOf(job.getApplicationDate()));
-            } else {
-                pstmt.setNull(7, java.sql.Types.TIMESTAMP);
-            }
-            
-            if (job.getDeadlineDate() != null) {
-                pstmt.setTimestamp(8, Timestamp.valueOf(job.getDeadlineDate()));
-            } else {
-                pstmt.setNull(8, java.sql.Types.TIMESTAMP);
-            }
-            
-            pstmt.setString(9, job.getStatus().toString());
-            pstmt.setString(10, job.getNotes());
+            setJobColumns(pstmt, 2, job);
             
             int affectedRows = pstmt.executeUpdate();
             
@@ -89,12 +83,80 @@ public class JobDAO {
         }
     }
     
+    /**
+     * Creates several jobs in one transaction. Jobs are inserted with multi-row INSERT
+     * statements whose RETURNING clause hands back the generated ids, so a chunk of
+     * up to 500 jobs costs a single round-trip.
+     * @param jobs Job objects to be created
+     * @return the created Jobs with updated IDs, or an empty list if failed
+     */
+    public List<Job> createJobs(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            conn.setAutoCommit(false);
+            
+            for (int from = 0; from < jobs.size(); from += INSERT_CHUNK_SIZE) {
+                List<Job> chunk = jobs.subList(from, Math.min(from + INSERT_CHUNK_SIZE, jobs.size()));
+                // Statements for full chunks are identical, so the driver's statement cache reuses them
+                pstmt = dbManager.prepareStatement(conn, "jobs.createBatch", INSERT_COLUMNS
+                        + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW)) + " RETURNING id");
+                
+                int index = 1;
+                for (Job job : chunk) {
+                    pstmt.setInt(index, job.getUserId());
+                    setJobColumns(pstmt, index + 1, job);
+                    index += 10;
+                }
+                
+                // PostgreSQL returns the rows of a VALUES list in insertion order
+                rs = pstmt.executeQuery();
+                for (Job job : chunk) {
+                    if (!rs.next()) {
+                        throw new SQLException("Missing generated id for job: " + job.getPosition());
+                    }
+                    job.setId(rs.getInt(1));
+                }
+                
+                rs.close();
+                pstmt.close();
+            }
+            
+            conn.commit();
+            return new ArrayList<>(jobs);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating " + jobs.size() + " jobs", e);
+            rollback(conn);
+            return new ArrayList<>();
+        } finally {
+            restoreAutoCommit(conn);
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
     /**
      * Retrieves a job by ID
      * @param id the job ID
      * @return Optional containing Job if found, empty Optional otherwise
      */
     public Optional<Job> getJobById(int id) {
+        return getJobById(id, false);
+    }
+    
+    /**
+     * Retrieves a job by ID
+     * @param id the job ID
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return Optional containing Job if found, empty Optional otherwise
+     */
+    Optional<Job> getJobById(int id, boolean primary) {
         String sql = "SELECT * FROM jobs WHERE id = ?";
         
         Connection conn = null;
@@ -102,8 +164,8 @@ public class JobDAO {
         ResultSet rs = null;
         
         try {
-            conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "jobs.getById", sql);
             pstmt.setInt(1, id);
             
             rs = pstmt.executeQuery();
@@ -127,6 +189,23 @@ public class JobDAO {
      * @return List of Jobs
      */
     public List<Job> getJobsByUserId(int userId) {
+        try {
+            return findJobsByUserId(userId, false);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving jobs for user ID: " + userId, e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Retrieves all jobs for a specific user
+     * Throws instead of returning an empty list, so a failure can be told from no rows
+     * @param userId the user ID
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return List of Jobs
+     * @throws SQLException if the query fails
+     */
+    List<Job> findJobsByUserId(int userId, boolean primary) throws SQLException {
         String sql = "SELECT * FROM jobs WHERE user_id = ?";
         
         Connection conn = null;
@@ -135,8 +214,8 @@ public class JobDAO {
         List<Job> jobs = new ArrayList<>();
         
         try {
-            conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "jobs.getByUser", sql);
             pstmt.setInt(1, userId);
             
             rs = pstmt.executeQuery();
@@ -145,9 +224,6 @@ public class JobDAO {
                 jobs.add(mapResultSetToJob(rs));
             }
             
-            return jobs;
-        } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Error retrieving jobs for user ID: " + userId, e);
             return jobs;
         } finally {
             dbManager.closeResources(conn, pstmt, rs);
@@ -161,6 +237,24 @@ public class JobDAO {
      * @return List of Jobs
      */
     public List<Job> getJobsByUserIdAndStatus(int userId, Job.Status status) {
+        try {
+            return findJobsByUserIdAndStatus(userId, status, false);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving jobs for user ID: " + userId + " with status: " + status, e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Retrieves all jobs for a user with a specific status
+     * Throws instead of returning an empty list, so a failure can be told from no rows
+     * @param userId the user ID
+     * @param status the job status
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return List of Jobs
+     * @throws SQLException if the query fails
+     */
+    List<Job> findJobsByUserIdAndStatus(int userId, Job.Status status, boolean primary) throws SQLException {
         String sql = "SELECT * FROM jobs WHERE user_id = ? AND status = ?";
         
         Connection conn = null;
@@ -169,10 +263,10 @@ public class JobDAO {
         List<Job> jobs = new ArrayList<>();
         
         try {
-            conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "jobs.getByUserAndStatus", sql);
             pstmt.setInt(1, userId);
-            pstmt.setString(2, status.toString());
+            pstmt.setString(2, status.name());
             
             rs = pstmt.executeQuery();
             
@@ -181,9 +275,106 @@ public class JobDAO {
             }
             
             return jobs;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves the list view summaries of all jobs for a specific user. Only the columns
+     * shown in lists and cards are read; use getJobById to load the full job.
+     * @param userId the user ID
+     * @return List of JobSummaries
+     */
+    public List<JobSummary> getJobSummariesByUserId(int userId) {
+        try {
+            return findJobSummariesByUserId(userId, false);
         } catch (SQLException e) {
-            LOGGER.log(Level.SEVERE, "Error retrieving jobs for user ID: " + userId + " with status: " + status, e);
-            return jobs;
+            LOGGER.log(Level.SEVERE, "Error retrieving job summaries for user ID: " + userId, e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Retrieves the list view summaries of all jobs for a specific user. Only the columns
+     * shown in lists and cards are read; use getJobById to load the full job.
+     * Throws instead of returning an empty list, so a failure can be told from no rows
+     * @param userId the user ID
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return List of JobSummaries
+     * @throws SQLException if the query fails
+     */
+    List<JobSummary> findJobSummariesByUserId(int userId, boolean primary) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM jobs WHERE user_id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<JobSummary> summaries = new ArrayList<>();
+        
+        try {
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "jobs.summariesByUser", sql);
+            pstmt.setInt(1, userId);
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                summaries.add(mapResultSetToJobSummary(rs));
+            }
+            
+            return summaries;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves the list view summaries of a user's jobs with a specific status
+     * @param userId the user ID
+     * @param status the job status
+     * @return List of JobSummaries
+     */
+    public List<JobSummary> getJobSummariesByUserIdAndStatus(int userId, Job.Status status) {
+        try {
+            return findJobSummariesByUserIdAndStatus(userId, status, false);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving job summaries for user ID: " + userId + " with status: " + status, e);
+            return new ArrayList<>();
+        }
+    }
+    
+    /**
+     * Retrieves the list view summaries of a user's jobs with a specific status
+     * Throws instead of returning an empty list, so a failure can be told from no rows
+     * @param userId the user ID
+     * @param status the job status
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return List of JobSummaries
+     * @throws SQLException if the query fails
+     */
+    List<JobSummary> findJobSummariesByUserIdAndStatus(int userId, Job.Status status, boolean primary)
+            throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM jobs WHERE user_id = ? AND status = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<JobSummary> summaries = new ArrayList<>();
+        
+        try {
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "jobs.summariesByUserAndStatus", sql);
+            pstmt.setInt(1, userId);
+            pstmt.setString(2, status.name());
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                summaries.add(mapResultSetToJobSummary(rs));
+            }
+            
+            return summaries;
         } finally {
             dbManager.closeResources(conn, pstmt, rs);
         }
@@ -205,8 +396,8 @@ public class JobDAO {
         List<Job> jobs = new ArrayList<>();
         
         try {
-            conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "jobs.deadlinesInDays", sql);
             pstmt.setInt(1, userId);
             
             rs = pstmt.executeQuery();
@@ -224,6 +415,218 @@ public class JobDAO {
         }
     }
     
+    /**
+     * Searches a user's jobs by company, position, location, description and notes. The
+     * query is matched against the indexed search vector of each job; every word must
+     * occur, and the last word also matches as a prefix so results appear while typing.
+     * @param userId the user ID
+     * @param query the words to search for
+     * @param limit maximum number of jobs to return
+     * @return matching Jobs, best matches first; empty if the query has no words or failed
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public List<Job> searchJobs(int userId, String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        
+        List<Job> jobs = new ArrayList<>();
+        String tsQuery = toTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return jobs;
+        }
+        
+        String sql = "SELECT * FROM jobs, to_tsquery('english', ?) AS query " +
+                     "WHERE user_id = ? AND search_vector @@ query " +
+                     "ORDER BY ts_rank(search_vector, query) DESC, id DESC LIMIT ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "jobs.search", sql);
+            pstmt.setString(1, tsQuery);
+            pstmt.setInt(2, userId);
+            pstmt.setInt(3, limit);
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                jobs.add(mapResultSetToJob(rs));
+            }
+            
+            return jobs;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error searching jobs for user ID: " + userId, e);
+            return jobs;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Turns free text into a tsquery expression that requires every word and matches the
+     * last one as a prefix. Everything but letters and digits separates words, so the
+     * input cannot inject tsquery operators.
+     * @param text the text typed by the user
+     * @return the expression, or an empty string if the text has no words
+     */
+    static String toTsQuery(String text) {
+        if (text == null) {
+            return "";
+        }
+        
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        
+        if (words.isEmpty()) {
+            return "";
+        }
+        int last = words.size() - 1;
+        words.set(last, words.get(last) + ":*");
+        return String.join(" & ", words);
+    }
+    
+    /**
+     * Retrieves one page of a user's jobs using keyset pagination. Each page continues
+     * from the position stored in the cursor instead of skipping rows with OFFSET, so every
+     * page costs the same however deep it is.
+     * @param userId the user ID
+     * @param order the order to page through the jobs in
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param pageSize maximum number of jobs on the page
+     * @return the page, which is empty if the query failed
+     * @throws IllegalArgumentException if the page size is not positive, or the cursor is
+     *         malformed or was created for another order
+     */
+    public JobPage getJobsPage(int userId, JobPage.Order order, String cursor, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        
+        String[] position = cursor != null ? JobPage.decodeCursor(order, cursor) : null;
+        String key = order.getKeyExpression();
+        String direction = order.isDescending() ? "DESC" : "ASC";
+        
+        String sql = "SELECT *, " + key + " AS page_key FROM jobs WHERE user_id = ?" +
+                     (position != null ? " AND (" + key + ", id) " + (order.isDescending() ? "<" : ">") +
+                                         " (CAST(? AS timestamp), ?)" : "") +
+                     " ORDER BY " + key + " " + direction + ", id " + direction + " LIMIT ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<Job> jobs = new ArrayList<>();
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "jobs.page", sql);
+            
+            int index = 1;
+            pstmt.setInt(index++, userId);
+            if (position != null) {
+                pstmt.setString(index++, position[0]);
+                pstmt.setInt(index++, Integer.parseInt(position[1]));
+            }
+            // One extra row tells whether another page follows
+            pstmt.setInt(index, pageSize + 1);
+            
+            rs = pstmt.executeQuery();
+            
+            String lastKey = null;
+            while (rs.next()) {
+                if (jobs.size() == pageSize) {
+                    Job last = jobs.get(jobs.size() - 1);
+                    return new JobPage(jobs, JobPage.encodeCursor(order, lastKey, last.getId()));
+                }
+                jobs.add(mapResultSetToJob(rs));
+                lastKey = rs.getString("page_key");
+            }
+            
+            return new JobPage(jobs, null);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving job page for user ID: " + userId, e);
+            return new JobPage(new ArrayList<>(), null);
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Streams all jobs of a user to a consumer. Rows are fetched from a server-side cursor
+     * in batches, so memory use does not grow with the number of jobs.
+     * @param userId the user ID
+     * @param consumer receives each job in id order
+     * @return number of jobs streamed, or -1 if the query failed
+     */
+    public long streamJobsByUserId(int userId, Consumer<Job> consumer) {
+        return streamJobs("jobs.streamByUser", "SELECT * FROM jobs WHERE user_id = ? ORDER BY id", userId, consumer);
+    }
+    
+    /**
+     * Streams the jobs of all users to a consumer, for export and administration tasks
+     * @param consumer receives each job in id order
+     * @return number of jobs streamed, or -1 if the query failed
+     */
+    public long streamAllJobs(Consumer<Job> consumer) {
+        return streamJobs("jobs.streamAll", "SELECT * FROM jobs ORDER BY id", null, consumer);
+    }
+    
+    /**
+     * Runs a job query with a fetch size. The PostgreSQL driver only uses a cursor,
+     * rather than reading the whole result, while auto-commit is off.
+     * @param queryName name the query is recorded under
+     * @param sql the query
+     * @param userId the value of the single parameter, or null if the query has none
+     * @param consumer receives each job
+     * @return number of jobs streamed, or -1 if the query failed
+     */
+    private long streamJobs(String queryName, String sql, Integer userId, Consumer<Job> consumer) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        long count = 0;
+        
+        try {
+            conn = dbManager.getReadConnection();
+            conn.setAutoCommit(false);
+            pstmt = dbManager.prepareStatement(conn, queryName, sql);
+            pstmt.setFetchSize(STREAM_FETCH_SIZE);
+            if (userId != null) {
+                pstmt.setInt(1, userId);
+            }
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                consumer.accept(mapResultSetToJob(rs));
+                count++;
+            }
+            
+            conn.commit();
+            return count;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error streaming jobs after " + count + " rows", e);
+            return -1;
+        } finally {
+            // No-op after the commit; ends the transaction on query or consumer failure
+            rollback(conn);
+            restoreAutoCommit(conn);
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
     /**
      * Updates an existing job
      * @param job Job object with updated fields
@@ -239,28 +642,9 @@ public class JobDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
-            
-            pstmt.setString(1, job.getCompanyName());
-            pstmt.setString(2, job.getPosition());
-            pstmt.setString(3, job.getDescription());
-            pstmt.setString(4, job.getUrl());
-            pstmt.setString(5, job.getLocation());
-            
-            if (job.getApplicationDate() != null) {
-                pstmt.setTimestamp(6, Timestamp.valueOf(job.getApplicationDate()));
-            } else {
-                pstmt.setNull(6, java.sql.Types.TIMESTAMP);
-            }
+            pstmt = dbManager.prepareStatement(conn, "jobs.update", sql);
             
-            if (job.getDeadlineDate() != null) {
-                pstmt.setTimestamp(7, Timestamp.valueOf(job.getDeadlineDate()));
-            } else {
-                pstmt.setNull(7, java.sql.Types.TIMESTAMP);
-            }
-            
-            pstmt.setString(8, job.getStatus().toString());
-            pstmt.setString(9, job.getNotes());
+            setJobColumns(pstmt, 1, job);
             pstmt.setInt(10, job.getId());
             pstmt.setInt(11, job.getUserId());
             
@@ -274,6 +658,54 @@ public class JobDAO {
         }
     }
     
+    /**
+     * Updates several jobs in one transaction using a JDBC batch
+     * @param jobs Job objects with updated fields
+     * @return number of jobs updated, or 0 if the batch failed
+     */
+    public int updateJobs(List<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "UPDATE jobs SET company_name = ?, position = ?, description = ?, url = ?, " +
+                     "location = ?, application_date = ?, deadline_date = ?, status = ?, notes = ?, " +
+                     "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND user_id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            conn.setAutoCommit(false);
+            pstmt = dbManager.prepareStatement(conn, "jobs.updateBatch", sql);
+            
+            for (Job job : jobs) {
+                setJobColumns(pstmt, 1, job);
+                pstmt.setInt(10, job.getId());
+                pstmt.setInt(11, job.getUserId());
+                pstmt.addBatch();
+            }
+            
+            int updated = 0;
+            for (int count : pstmt.executeBatch()) {
+                if (count > 0) {
+                    updated += count;
+                }
+            }
+            
+            conn.commit();
+            return updated;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating " + jobs.size() + " jobs", e);
+            rollback(conn);
+            return 0;
+        } finally {
+            restoreAutoCommit(conn);
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
     /**
      * Deletes a job by ID
      * @param id the job ID
@@ -288,7 +720,7 @@ public class JobDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            pstmt = dbManager.prepareStatement(conn, "jobs.delete", sql);
             pstmt.setInt(1, id);
             pstmt.setInt(2, userId);
             
@@ -302,6 +734,37 @@ public class JobDAO {
         }
     }
     
+    /**
+     * Deletes several jobs of a user in a single statement
+     * @param userId the user ID
+     * @param ids the job IDs
+     * @return number of jobs deleted, or 0 if deletion failed
+     */
+    public int deleteJobs(int userId, List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "DELETE FROM jobs WHERE user_id = ? AND id = ANY (?)";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "jobs.deleteBatch", sql);
+            pstmt.setInt(1, userId);
+            pstmt.setArray(2, conn.createArrayOf("integer", ids.toArray()));
+            
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error deleting " + ids.size() + " jobs for user ID: " + userId, e);
+            return 0;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
     /**
      * Maps a ResultSet to a Job object
      * @param rs the ResultSet
@@ -333,4 +796,94 @@ public class JobDAO {
         
         return job;
     }
+    
+    /**
+     * Maps a ResultSet with the summary columns to a JobSummary object
+     * @param rs the ResultSet
+     * @return JobSummary object
+     * @throws SQLException if ResultSet mapping fails
+     */
+    private JobSummary mapResultSetToJobSummary(ResultSet rs) throws SQLException {
+        Timestamp deadlineDate = rs.getTimestamp("deadline_date");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        
+        return new JobSummary(
+                rs.getInt("id"),
+                rs.getInt("user_id"),
+                rs.getString("company_name"),
+                rs.getString("position"),
+                rs.getString("location"),
+                Job.Status.valueOf(rs.getString("status")),
+                deadlineDate != null ? deadlineDate.toLocalDateTime() : null,
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    }
+    
+    /**
+     * Binds the nine job columns from company_name to notes, in table order
+     * @param pstmt the statement
+     * @param first index of the company_name parameter
+     * @param job the Job to bind
+     * @throws SQLException if binding fails
+     */
+    private void setJobColumns(PreparedStatement pstmt, int first, Job job) throws SQLException {
+        pstmt.setString(first, job.getCompanyName());
+        pstmt.setString(first + 1, job.getPosition());
+        pstmt.setString(first + 2, job.getDescription());
+        pstmt.setString(first + 3, job.getUrl());
+        pstmt.setString(first + 4, job.getLocation());
+        
+        if (job.getApplicationDate() != null) {
+            pstmt.setTimestamp(first + 5, Timestamp.valueOf(job.getApplicationDate()));
+        } else {
+            pstmt.setNull(first + 5, java.sql.Types.TIMESTAMP);
+        }
+        
+        if (job.getDeadlineDate() != null) {
+            pstmt.setTimestamp(first + 6, Timestamp.valueOf(job.getDeadlineDate()));
+        } else {
+            pstmt.setNull(first + 6, java.sql.Types.TIMESTAMP);
+        }
+        
+        pstmt.setString(first + 7, job.getStatus().name());
+        pstmt.setString(first + 8, job.getNotes());
+    }
+    
+    /**
+     * Gets a connection for a read: from the read pool, or from the primary pool when the
+     * caller must see the latest writes
+     * @param primary true to use the primary pool
+     * @return Connection object
+     * @throws SQLException if connection cannot be obtained
+     */
+    private Connection readConnection(boolean primary) throws SQLException {
+        return primary ? dbManager.getConnection() : dbManager.getReadConnection();
+    }
+    
+    /**
+     * Rolls back the current transaction, logging instead of throwing on failure
+     * @param conn the connection, may be null
+     */
+    private void rollback(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to roll back job batch", e);
+            }
+        }
+    }
+    
+    /**
+     * Puts a pooled connection back into auto-commit mode before it is returned
+     * @param conn the connection, may be null
+     */
+    private void restoreAutoCommit(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to restore auto-commit", e);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Job;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a user's jobs returned by {@link JobDAO#getJobsPage}, together with the
+ * cursor that continues after its last row.
+ */
+public class JobPage {
+
+    /**
+     * The orders a page can be keyed on. Each order is unique thanks to the id tie-breaker,
+     * so a cursor always points at exactly one position.
+     */
+    public enum Order {
+        /** Most recently updated first, jobs without an update time last */
+        UPDATED_AT("COALESCE(updated_at, '-infinity'::timestamp)", true),
+        /** Earliest deadline first, jobs without a deadline last */
+        DEADLINE("COALESCE(deadline_date, 'infinity'::timestamp)", false);
+
+        private final String keyExpression;
+        private final boolean descending;
+
+        Order(String keyExpression, boolean descending) {
+            this.keyExpression = keyExpression;
+            this.descending = descending;
+        }
+
+        String getKeyExpression() {
+            return keyExpression;
+        }
+
+        boolean isDescending() {
+            return descending;
+        }
+    }
+
+    private final List<Job> jobs;
+    private final String nextCursor;
+
+    JobPage(List<Job> jobs, String nextCursor) {
+        this.jobs = Collections.unmodifiableList(jobs);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the jobs on this page
+     * @return the jobs, in page order
+     */
+    public List<Job> getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Gets the cursor for the next page
+     * @return an opaque cursor to pass to the next call, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether another page follows
+     * @return true if getNextCursor returns a cursor
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Encodes the position after a row as a cursor. The sort key is kept in PostgreSQL's
+     * text form so it can be cast back without losing precision.
+     */
+    static String encodeCursor(Order order, String key, int id) {
+        String raw = order.name() + "|" + id + "|" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor created for the given order.
+     * @return the sort key at index 0 and the id at index 1
+     * @throws IllegalArgumentException if the cursor is malformed or belongs to another order
+     */
+    static String[] decodeCursor(Order order, String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed job page cursor", e);
+        }
+
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3 || !parts[0].equals(order.name())) {
+            throw new IllegalArgumentException("Cursor does not belong to a " + order + " page");
+        }
+        try {
+            Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed job page cursor", e);
+        }
+        return new String[] {parts[2], parts[1]};
+    }
+}
@@ -0,0 +1,235 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Resource;
+import com.careerplanner.util.DatabaseManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data Access Object for the shared learning resources, which are stored without a user
+ */
+public class ResourceDAO {
+    private static final Logger LOGGER = Logger.getLogger(ResourceDAO.class.getName());
+    private final DatabaseManager dbManager;
+    
+    /**
+     * Constructor for ResourceDAO
+     */
+    public ResourceDAO() {
+        this.dbManager = DatabaseManager.getInstance();
+    }
+    
+    /**
+     * Creates a new resource in the database
+     * @param resource Resource object to be created
+     * @return created Resource with updated ID or empty Optional if failed
+     */
+    public Optional<Resource> createResource(Resource resource) {
+        String sql = "INSERT INTO resources (title, description, url, type) VALUES (?, ?, ?, ?) RETURNING id";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resources.create", sql, Statement.RETURN_GENERATED_KEYS);
+            setResourceColumns(pstmt, resource);
+            
+            int affectedRows = pstmt.executeUpdate();
+            
+            if (affectedRows > 0) {
+                rs = pstmt.getGeneratedKeys();
+                if (rs.next()) {
+                    resource.setId(rs.getInt(1));
+                    return Optional.of(resource);
+                }
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating resource: " + resource.getTitle(), e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves a resource by ID
+     * @param id the resource ID
+     * @return Optional containing Resource if found, empty Optional otherwise
+     */
+    public Optional<Resource> getResourceById(int id) {
+        String sql = "SELECT * FROM resources WHERE id = ? AND user_id IS NULL";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "resources.getById", sql);
+            pstmt.setInt(1, id);
+            
+            rs = pstmt.executeQuery();
+            
+            if (rs.next()) {
+                return Optional.of(mapResultSetToResource(rs));
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving resource with ID: " + id, e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves all shared resources
+     * @return List of Resources ordered by ID
+     */
+    public List<Resource> getAllResources() {
+        return getResources("resources.getAll",
+                "SELECT * FROM resources WHERE user_id IS NULL ORDER BY id", null);
+    }
+    
+    /**
+     * Retrieves the shared resources of one type
+     * @param type the resource type
+     * @return List of Resources ordered by ID
+     */
+    public List<Resource> getResourcesByType(Resource.Type type) {
+        return getResources("resources.getByType",
+                "SELECT * FROM resources WHERE user_id IS NULL AND type = ? ORDER BY id", type);
+    }
+    
+    /**
+     * Runs a resource query with an optional type parameter
+     * @param queryName the name the query is recorded under
+     * @param sql the query
+     * @param type the type bound to the first parameter, or null if the query has none
+     * @return List of Resources
+     */
+    private List<Resource> getResources(String queryName, String sql, Resource.Type type) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<Resource> resources = new ArrayList<>();
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, queryName, sql);
+            if (type != null) {
+                pstmt.setString(1, type.name());
+            }
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                resources.add(mapResultSetToResource(rs));
+            }
+            
+            return resources;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving resources", e);
+            return resources;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Updates an existing resource
+     * @param resource Resource object with updated fields
+     * @return true if update successful, false otherwise
+     */
+    public boolean updateResource(Resource resource) {
+        String sql = "UPDATE resources SET title = ?, description = ?, url = ?, type = ?, " +
+                     "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND user_id IS NULL";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resources.update", sql);
+            setResourceColumns(pstmt, resource);
+            pstmt.setInt(5, resource.getId());
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating resource with ID: " + resource.getId(), e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Deletes a resource by ID
+     * @param id the resource ID to delete
+     * @return true if deletion successful, false otherwise
+     */
+    public boolean deleteResource(int id) {
+        String sql = "DELETE FROM resources WHERE id = ? AND user_id IS NULL";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resources.delete", sql);
+            pstmt.setInt(1, id);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error deleting resource with ID: " + id, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Maps a ResultSet to a Resource object
+     * @param rs the ResultSet
+     * @return Resource object
+     * @throws SQLException if ResultSet mapping fails
+     */
+    private Resource mapResultSetToResource(ResultSet rs) throws SQLException {
+        Resource resource = new Resource();
+        resource.setId(rs.getInt("id"));
+        resource.setTitle(rs.getString("title"));
+        resource.setDescription(rs.getString("description"));
+        resource.setUrl(rs.getString("url"));
+        resource.setType(Resource.Type.valueOf(rs.getString("type")));
+        return resource;
+    }
+    
+    /**
+     * Binds title, description, url and type, in this order, to parameters 1 to 4
+     * @param pstmt the statement
+     * @param resource the resource
+     * @throws SQLException if binding fails
+     */
+    private void setResourceColumns(PreparedStatement pstmt, Resource resource) throws SQLException {
+        pstmt.setString(1, resource.getTitle());
+        pstmt.setString(2, resource.getDescription());
+        pstmt.setString(3, resource.getUrl());
+        pstmt.setString(4, resource.getType().name());
+    }
+}
@@ -0,0 +1,678 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Resume;
+import com.careerplanner.util.DatabaseManager;
+import com.careerplanner.util.JsonConverter;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data Access Object for resumes. A resume's title and template are columns; everything
+ * else is kept in the JSONB content column in the same shape as in the JSON data files.
+ *
+ * <p>Besides whole-document reads and writes, sections can be read with {@code ->} and
+ * single fields or list entries changed with {@code jsonb_set}, {@code jsonb_insert} and
+ * {@code #-}, so an edit in the resume editor only sends the changed fragment.</p>
+ */
+public class ResumeDAO {
+    private static final Logger LOGGER = Logger.getLogger(ResumeDAO.class.getName());
+    private final DatabaseManager dbManager;
+    
+    /**
+     * The list sections of a resume, with their key in the content document
+     */
+    public enum Section {
+        EDUCATION("educationList", false),
+        WORK_EXPERIENCE("workExperienceList", false),
+        PROJECTS("projectsList", false),
+        LANGUAGES("languages", true),
+        REFERENCES("references", true);
+        
+        private final String key;
+        private final boolean textEntries;
+        
+        Section(String key, boolean textEntries) {
+            this.key = key;
+            this.textEntries = textEntries;
+        }
+        
+        public String getKey() {
+            return key;
+        }
+        
+        /**
+         * @return true if the entries are plain strings rather than objects
+         */
+        public boolean hasTextEntries() {
+            return textEntries;
+        }
+    }
+    
+    /**
+     * Constructor for ResumeDAO
+     */
+    public ResumeDAO() {
+        this.dbManager = DatabaseManager.getInstance();
+    }
+    
+    /**
+     * Creates a new resume for a user
+     * @param userId the user ID
+     * @param resume Resume object to be created
+     * @return created Resume with its ID set to the row ID, or empty Optional if failed
+     */
+    public Optional<Resume> createResume(int userId, Resume resume) {
+        String sql = "INSERT INTO resumes (user_id, title, template, content) VALUES (?, ?, ?, ?::jsonb) RETURNING id";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.create", sql, Statement.RETURN_GENERATED_KEYS);
+            pstmt.setInt(1, userId);
+            pstmt.setString(2, resume.getTitle());
+            pstmt.setString(3, resume.getTemplate().name());
+            pstmt.setString(4, toContent(resume));
+            
+            int affectedRows = pstmt.executeUpdate();
+            
+            if (affectedRows > 0) {
+                rs = pstmt.getGeneratedKeys();
+                if (rs.next()) {
+                    resume.setId(String.valueOf(rs.getInt(1)));
+                    return Optional.of(resume);
+                }
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating resume for user ID: " + userId, e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves a whole resume by ID
+     * @param resumeId the resume ID
+     * @return Optional containing Resume if found, empty Optional otherwise
+     */
+    public Optional<Resume> getResumeById(int resumeId) {
+        String sql = "SELECT id, title, template, content FROM resumes WHERE id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.getById", sql);
+            pstmt.setInt(1, resumeId);
+            
+            rs = pstmt.executeQuery();
+            
+            if (rs.next()) {
+                return Optional.of(mapResultSetToResume(rs));
+            }
+            
+            return Optional.empty();
+        } catch (SQLException | ParseException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving resume with ID: " + resumeId, e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves all whole resumes of a user
+     * @param userId the user ID
+     * @return List of Resumes ordered by ID
+     */
+    public List<Resume> getResumesByUserId(int userId) {
+        String sql = "SELECT id, title, template, content FROM resumes WHERE user_id = ? ORDER BY id";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<Resume> resumes = new ArrayList<>();
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.getByUser", sql);
+            pstmt.setInt(1, userId);
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                resumes.add(mapResultSetToResume(rs));
+            }
+            
+            return resumes;
+        } catch (SQLException | ParseException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving resumes for user ID: " + userId, e);
+            return resumes;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Replaces a whole resume document. Prefer the section updates for single edits.
+     * @param resume Resume object whose ID is the row ID
+     * @return true if update successful, false otherwise
+     * @throws IllegalArgumentException if the resume has not been stored in the database
+     */
+    public boolean replaceResume(Resume resume) {
+        String sql = "UPDATE resumes SET title = ?, template = ?, content = ?::jsonb, " +
+                     "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+        int resumeId = rowId(resume);
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.replace", sql);
+            pstmt.setString(1, resume.getTitle());
+            pstmt.setString(2, resume.getTemplate().name());
+            pstmt.setString(3, toContent(resume));
+            pstmt.setInt(4, resumeId);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error replacing resume with ID: " + resumeId, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Deletes a resume by ID
+     * @param resumeId the resume ID
+     * @return true if deletion successful, false otherwise
+     */
+    public boolean deleteResume(int resumeId) {
+        String sql = "DELETE FROM resumes WHERE id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.delete", sql);
+            pstmt.setInt(1, resumeId);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error deleting resume with ID: " + resumeId, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Reads only the summary of a resume
+     * @param resumeId the resume ID
+     * @return Optional containing the summary, empty if the resume or its summary does not exist
+     */
+    public Optional<String> getSummary(int resumeId) {
+        String sql = "SELECT content ->> 'summary' FROM resumes WHERE id = ?";
+        return Optional.ofNullable((String) readFragment("resumes.getSummary", sql, resumeId, null, -1, true));
+    }
+    
+    /**
+     * Reads only the work experience section of a resume
+     * @param resumeId the resume ID
+     * @return List of Experience entries in resume order
+     */
+    public List<Resume.Experience> getWorkExperience(int resumeId) {
+        List<Resume.Experience> entries = new ArrayList<>();
+        for (Object entry : readSection(resumeId, Section.WORK_EXPERIENCE)) {
+            entries.add(JsonConverter.parseExperienceFromJSON((JSONObject) entry, null));
+        }
+        return entries;
+    }
+    
+    /**
+     * Reads a single work experience entry of a resume
+     * @param resumeId the resume ID
+     * @param index the position of the entry in the section
+     * @return Optional containing the entry, empty if there is no entry at this position
+     */
+    public Optional<Resume.Experience> getExperience(int resumeId, int index) {
+        String sql = "SELECT content -> ? -> ? FROM resumes WHERE id = ?";
+        JSONObject entry = (JSONObject) readFragment("resumes.getSectionEntry", sql, resumeId,
+                Section.WORK_EXPERIENCE, index, false);
+        return entry != null ? Optional.of(JsonConverter.parseExperienceFromJSON(entry, null)) : Optional.empty();
+    }
+    
+    /**
+     * Reads only the education section of a resume
+     * @param resumeId the resume ID
+     * @return List of Education entries in resume order
+     */
+    public List<Resume.Education> getEducation(int resumeId) {
+        List<Resume.Education> entries = new ArrayList<>();
+        for (Object entry : readSection(resumeId, Section.EDUCATION)) {
+            entries.add(JsonConverter.parseEducationFromJSON((JSONObject) entry, null));
+        }
+        return entries;
+    }
+    
+    /**
+     * Reads only the projects section of a resume
+     * @param resumeId the resume ID
+     * @return List of Project entries in resume order
+     */
+    public List<Resume.Project> getProjects(int resumeId) {
+        List<Resume.Project> entries = new ArrayList<>();
+        for (Object entry : readSection(resumeId, Section.PROJECTS)) {
+            entries.add(JsonConverter.parseProjectFromJSON((JSONObject) entry, null));
+        }
+        return entries;
+    }
+    
+    /**
+     * Reads a section whose entries are strings, such as the languages
+     * @param resumeId the resume ID
+     * @param section LANGUAGES or REFERENCES
+     * @return List of entries in resume order
+     * @throws IllegalArgumentException if the section's entries are not strings
+     */
+    public List<String> getTextSection(int resumeId, Section section) {
+        requireTextSection(section);
+        List<String> entries = new ArrayList<>();
+        for (Object entry : readSection(resumeId, section)) {
+            entries.add((String) entry);
+        }
+        return entries;
+    }
+    
+    /**
+     * Sets the summary without rewriting the rest of the resume
+     * @param resumeId the resume ID
+     * @param summary the new summary, or null to remove it
+     * @return true if update successful, false otherwise
+     */
+    public boolean updateSummary(int resumeId, String summary) {
+        return updateTextField(resumeId, "summary", summary);
+    }
+    
+    /**
+     * Sets the additional information without rewriting the rest of the resume
+     * @param resumeId the resume ID
+     * @param additionalInfo the new text, or null to remove it
+     * @return true if update successful, false otherwise
+     */
+    public boolean updateAdditionalInfo(int resumeId, String additionalInfo) {
+        return updateTextField(resumeId, "additionalInfo", additionalInfo);
+    }
+    
+    /**
+     * Replaces one work experience entry
+     * @param resumeId the resume ID
+     * @param index the position of the entry
+     * @param experience the new entry
+     * @return true if the entry existed and was replaced, false otherwise
+     */
+    public boolean updateExperience(int resumeId, int index, Resume.Experience experience) {
+        return setEntry(resumeId, Section.WORK_EXPERIENCE, index, JsonConverter.convertExperienceToJSON(experience));
+    }
+    
+    /**
+     * Inserts a work experience entry; an index at or past the end appends it
+     * @param resumeId the resume ID
+     * @param index the position the entry gets
+     * @param experience the entry
+     * @return true if insert successful, false otherwise
+     */
+    public boolean insertExperience(int resumeId, int index, Resume.Experience experience) {
+        return insertEntry(resumeId, Section.WORK_EXPERIENCE, index, JsonConverter.convertExperienceToJSON(experience));
+    }
+    
+    /**
+     * Replaces one education entry
+     * @param resumeId the resume ID
+     * @param index the position of the entry
+     * @param education the new entry
+     * @return true if the entry existed and was replaced, false otherwise
+     */
+    public boolean updateEducation(int resumeId, int index, Resume.Education education) {
+        return setEntry(resumeId, Section.EDUCATION, index, JsonConverter.convertEducationToJSON(education));
+    }
+    
+    /**
+     * Inserts an education entry; an index at or past the end appends it
+     * @param resumeId the resume ID
+     * @param index the position the entry gets
+     * @param education the entry
+     * @return true if insert successful, false otherwise
+     */
+    public boolean insertEducation(int resumeId, int index, Resume.Education education) {
+        return insertEntry(resumeId, Section.EDUCATION, index, JsonConverter.convertEducationToJSON(education));
+    }
+    
+    /**
+     * Replaces one project entry
+     * @param resumeId the resume ID
+     * @param index the position of the entry
+     * @param project the new entry
+     * @return true if the entry existed and was replaced, false otherwise
+     */
+    public boolean updateProject(int resumeId, int index, Resume.Project project) {
+        return setEntry(resumeId, Section.PROJECTS, index, JsonConverter.convertProjectToJSON(project));
+    }
+    
+    /**
+     * Inserts a project entry; an index at or past the end appends it
+     * @param resumeId the resume ID
+     * @param index the position the entry gets
+     * @param project the entry
+     * @return true if insert successful, false otherwise
+     */
+    public boolean insertProject(int resumeId, int index, Resume.Project project) {
+        return insertEntry(resumeId, Section.PROJECTS, index, JsonConverter.convertProjectToJSON(project));
+    }
+    
+    /**
+     * Replaces one entry of a string section, such as a language
+     * @param resumeId the resume ID
+     * @param section LANGUAGES or REFERENCES
+     * @param index the position of the entry
+     * @param value the new entry
+     * @return true if the entry existed and was replaced, false otherwise
+     * @throws IllegalArgumentException if the section's entries are not strings
+     */
+    public boolean updateTextEntry(int resumeId, Section section, int index, String value) {
+        requireTextSection(section);
+        return setEntry(resumeId, section, index, value);
+    }
+    
+    /**
+     * Inserts an entry into a string section; an index at or past the end appends it
+     * @param resumeId the resume ID
+     * @param section LANGUAGES or REFERENCES
+     * @param index the position the entry gets
+     * @param value the entry
+     * @return true if insert successful, false otherwise
+     * @throws IllegalArgumentException if the section's entries are not strings
+     */
+    public boolean insertTextEntry(int resumeId, Section section, int index, String value) {
+        requireTextSection(section);
+        return insertEntry(resumeId, section, index, value);
+    }
+    
+    /**
+     * Removes one entry of a section
+     * @param resumeId the resume ID
+     * @param section the section
+     * @param index the position of the entry
+     * @return true if the entry existed and was removed, false otherwise
+     */
+    public boolean removeEntry(int resumeId, Section section, int index) {
+        requireIndex(index);
+        String sql = "UPDATE resumes SET content = content #- ARRAY[?, ?::text], " +
+                     "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND " +
+                     "jsonb_array_length(COALESCE(content -> ?, '[]'::jsonb)) > ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.removeEntry", sql);
+            pstmt.setString(1, section.getKey());
+            pstmt.setInt(2, index);
+            pstmt.setInt(3, resumeId);
+            pstmt.setString(4, section.getKey());
+            pstmt.setInt(5, index);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error removing " + section.getKey() + " entry " + index +
+                       " of resume ID: " + resumeId, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Sets or removes a top-level text field of the content document
+     * @param resumeId the resume ID
+     * @param field the field name
+     * @param value the new text, or null to remove the field
+     * @return true if update successful, false otherwise
+     */
+    private boolean updateTextField(int resumeId, String field, String value) {
+        String sql = value != null
+                ? "UPDATE resumes SET content = jsonb_set(content, ARRAY[?::text], to_jsonb(?::text)), " +
+                  "updated_at = CURRENT_TIMESTAMP WHERE id = ?"
+                : "UPDATE resumes SET content = content - ?::text, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, value != null ? "resumes.setField" : "resumes.removeField", sql);
+            int index = 1;
+            pstmt.setString(index++, field);
+            if (value != null) {
+                pstmt.setString(index++, value);
+            }
+            pstmt.setInt(index, resumeId);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating " + field + " of resume ID: " + resumeId, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Replaces the entry at an existing position of a section with jsonb_set
+     * @param resumeId the resume ID
+     * @param section the section
+     * @param index the position of the entry
+     * @param entry the new entry, a JSONObject or a String
+     * @return true if the entry existed and was replaced, false otherwise
+     */
+    private boolean setEntry(int resumeId, Section section, int index, Object entry) {
+        requireIndex(index);
+        String sql = "UPDATE resumes SET content = jsonb_set(content, ARRAY[?, ?::text], ?::jsonb, false), " +
+                     "updated_at = CURRENT_TIMESTAMP WHERE id = ? AND " +
+                     "jsonb_array_length(COALESCE(content -> ?, '[]'::jsonb)) > ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.setEntry", sql);
+            pstmt.setString(1, section.getKey());
+            pstmt.setInt(2, index);
+            pstmt.setString(3, JSONValue.toJSONString(entry));
+            pstmt.setInt(4, resumeId);
+            pstmt.setString(5, section.getKey());
+            pstmt.setInt(6, index);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating " + section.getKey() + " entry " + index +
+                       " of resume ID: " + resumeId, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Inserts an entry into a section with jsonb_insert, creating the section if missing
+     * @param resumeId the resume ID
+     * @param section the section
+     * @param index the position the entry gets; at or past the end appends it
+     * @param entry the entry, a JSONObject or a String
+     * @return true if insert successful, false otherwise
+     */
+    private boolean insertEntry(int resumeId, Section section, int index, Object entry) {
+        requireIndex(index);
+        String sql = "UPDATE resumes SET content = jsonb_insert(" +
+                     "jsonb_set(content, ARRAY[?::text], COALESCE(content -> ?, '[]'::jsonb)), " +
+                     "ARRAY[?, ?::text], ?::jsonb), updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "resumes.insertEntry", sql);
+            pstmt.setString(1, section.getKey());
+            pstmt.setString(2, section.getKey());
+            pstmt.setString(3, section.getKey());
+            pstmt.setInt(4, index);
+            pstmt.setString(5, JSONValue.toJSONString(entry));
+            pstmt.setInt(6, resumeId);
+            
+            int affectedRows = pstmt.executeUpdate();
+            return affectedRows > 0;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error inserting " + section.getKey() + " entry " + index +
+                       " into resume ID: " + resumeId, e);
+            return false;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
+    /**
+     * Reads one section of a resume
+     * @param resumeId the resume ID
+     * @param section the section
+     * @return the section's entries, empty if the resume or section does not exist or the read failed
+     */
+    private JSONArray readSection(int resumeId, Section section) {
+        String sql = "SELECT content -> ? FROM resumes WHERE id = ?";
+        JSONArray entries = (JSONArray) readFragment("resumes.getSection", sql, resumeId, section, -1, false);
+        return entries != null ? entries : new JSONArray();
+    }
+    
+    /**
+     * Runs a query selecting one JSON fragment of a resume and parses it
+     * @param queryName the name the query is recorded under
+     * @param sql the query; its parameters are the section key if given, the entry index if
+     *        not negative, then the resume ID
+     * @param resumeId the resume ID
+     * @param section the section, or null if the query has no key parameter
+     * @param index the entry index, or -1 if the query has no index parameter
+     * @param text true if the query selects text with ->>, false if it selects JSON with ->
+     * @return the text or parsed fragment, or null if there is none
+     */
+    private Object readFragment(String queryName, String sql, int resumeId, Section section, int index,
+                                boolean text) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, queryName, sql);
+            int parameter = 1;
+            if (section != null) {
+                pstmt.setString(parameter++, section.getKey());
+            }
+            if (index >= 0) {
+                pstmt.setInt(parameter++, index);
+            }
+            pstmt.setInt(parameter, resumeId);
+            
+            rs = pstmt.executeQuery();
+            
+            if (!rs.next() || rs.getString(1) == null) {
+                return null;
+            }
+            return text ? rs.getString(1) : new JSONParser().parse(rs.getString(1));
+        } catch (SQLException | ParseException e) {
+            LOGGER.log(Level.SEVERE, "Error reading from resume ID: " + resumeId, e);
+            return null;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Maps a ResultSet row with id, title, template and content to a Resume object
+     * @param rs the ResultSet
+     * @return Resume object
+     * @throws SQLException if ResultSet mapping fails
+     * @throws ParseException if the content is not valid JSON
+     */
+    @SuppressWarnings("unchecked")
+    private Resume mapResultSetToResume(ResultSet rs) throws SQLException, ParseException {
+        JSONObject content = (JSONObject) new JSONParser().parse(rs.getString("content"));
+        content.put("id", String.valueOf(rs.getInt("id")));
+        content.put("title", rs.getString("title"));
+        content.put("template", rs.getString("template"));
+        return JsonConverter.parseResumeFromJSON(content);
+    }
+    
+    /**
+     * Encodes the content document of a resume; id, title and template are columns
+     * @param resume the resume
+     * @return the JSON text
+     */
+    private String toContent(Resume resume) {
+        JSONObject content = JsonConverter.convertResumeToJSON(resume);
+        content.remove("id");
+        content.remove("title");
+        content.remove("template");
+        return content.toJSONString();
+    }
+    
+    private int rowId(Resume resume) {
+        try {
+            return Integer.parseInt(resume.getId());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Resume has not been stored in the database: " + resume.getId());
+        }
+    }
+    
+    private void requireIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Entry index must not be negative: " + index);
+        }
+    }
+    
+    private void requireTextSection(Section section) {
+        if (!section.hasTextEntries()) {
+            throw new IllegalArgumentException(section + " does not hold text entries");
+        }
+    }
+}
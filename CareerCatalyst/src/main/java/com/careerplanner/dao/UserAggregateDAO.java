@@ -0,0 +1,229 @@
+package com.careerplanner.dao;
+
+import com.careerplanner.model.Achievement;
+import com.careerplanner.model.Goal;
+import com.careerplanner.model.Job;
+import com.careerplanner.model.Skill;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+import com.careerplanner.util.JsonConverter;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads a user together with its jobs, skills, goals, achievements and resume in a single
+ * statement. Each child table is folded into one JSON column by a {@code json_agg}
+ * sub-select, so a full profile costs one round-trip instead of one query per table.
+ *
+ * <p>Of several resumes the most recently updated one is loaded.</p>
+ */
+public class UserAggregateDAO {
+    private static final Logger LOGGER = Logger.getLogger(UserAggregateDAO.class.getName());
+
+    private static final String SELECT_AGGREGATE =
+            "SELECT u.id, u.username, u.email, u.password_hash, u.full_name, u.created_at, u.updated_at, " +
+            "(SELECT json_agg(j ORDER BY j.id) FROM (SELECT id, company_name, position, description, url, " +
+            "location, application_date, deadline_date, status, notes FROM jobs WHERE user_id = u.id) j) AS jobs, " +
+            "(SELECT json_agg(s ORDER BY s.id) FROM (SELECT id, name, category, proficiency_level " +
+            "FROM skills WHERE user_id = u.id) s) AS skills, " +
+            "(SELECT json_agg(g ORDER BY g.id) FROM (SELECT id, title, description, target_date, status, " +
+            "short_term FROM goals WHERE user_id = u.id) g) AS goals, " +
+            "(SELECT json_agg(a ORDER BY a.id) FROM (SELECT id, title, description, date_achieved, type " +
+            "FROM achievements WHERE user_id = u.id) a) AS achievements, " +
+            "(SELECT r.content || jsonb_build_object('id', r.id::text, 'title', r.title, 'template', r.template) " +
+            "FROM resumes r WHERE r.user_id = u.id ORDER BY r.updated_at DESC, r.id DESC LIMIT 1) AS resume " +
+            "FROM users u WHERE ";
+
+    private final DatabaseManager dbManager;
+
+    /**
+     * Constructor for UserAggregateDAO
+     */
+    public UserAggregateDAO() {
+        this.dbManager = DatabaseManager.getInstance();
+    }
+
+    /**
+     * Loads a user with all its child collections
+     * @param id the user ID
+     * @return Optional containing the User if found, empty Optional otherwise
+     */
+    public Optional<User> loadUser(int id) {
+        return load("users.loadAggregate", SELECT_AGGREGATE + "u.id = ?", id, "ID: " + id);
+    }
+
+    /**
+     * Loads a user with all its child collections by username, for login
+     * @param username the username
+     * @return Optional containing the User if found, empty Optional otherwise
+     */
+    public Optional<User> loadUserByUsername(String username) {
+        return load("users.loadAggregateByUsername", SELECT_AGGREGATE + "u.username = ?", username,
+                "username: " + username);
+    }
+
+    private Optional<User> load(String queryName, String sql, Object key, String description) {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, queryName, sql);
+            pstmt.setObject(1, key);
+            rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                return Optional.of(mapResultSetToUser(rs));
+            }
+
+            return Optional.empty();
+        } catch (SQLException | ParseException | IllegalArgumentException | ClassCastException e) {
+            LOGGER.log(Level.SEVERE, "Error loading user aggregate with " + description, e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+
+    /**
+     * Maps an aggregate row to a User with its lists and resume. The user starts out clean,
+     * since it matches the stored rows
+     * @param rs the ResultSet
+     * @return User object
+     * @throws SQLException if ResultSet mapping fails
+     * @throws ParseException if a JSON column is malformed
+     */
+    private User mapResultSetToUser(ResultSet rs) throws SQLException, ParseException {
+        JSONParser parser = new JSONParser();
+
+        User user = new User();
+        user.setId(rs.getInt("id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("email"));
+        user.setPasswordHash(rs.getString("password_hash"));
+        user.setFullName(rs.getString("full_name"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        if (createdAt != null) {
+            user.setCreatedAt(createdAt.toLocalDateTime());
+        }
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        if (updatedAt != null) {
+            user.setUpdatedAt(updatedAt.toLocalDateTime());
+        }
+
+        List<Job> jobs = new ArrayList<>();
+        for (Object entry : array(parser, rs.getString("jobs"))) {
+            Job job = toJob((JSONObject) entry);
+            job.setUserId(user.getId());
+            jobs.add(job);
+        }
+        user.setJobApplications(jobs);
+
+        List<Skill> skills = new ArrayList<>();
+        for (Object entry : array(parser, rs.getString("skills"))) {
+            skills.add(toSkill((JSONObject) entry));
+        }
+        user.setSkills(skills);
+
+        List<Goal> goals = new ArrayList<>();
+        for (Object entry : array(parser, rs.getString("goals"))) {
+            goals.add(toGoal((JSONObject) entry));
+        }
+        user.setGoals(goals);
+
+        List<Achievement> achievements = new ArrayList<>();
+        for (Object entry : array(parser, rs.getString("achievements"))) {
+            achievements.add(toAchievement((JSONObject) entry));
+        }
+        user.setAchievements(achievements);
+
+        String resume = rs.getString("resume");
+        if (resume != null) {
+            user.setResume(JsonConverter.parseResumeFromJSON((JSONObject) parser.parse(resume)));
+        }
+
+        user.markClean();
+        return user;
+    }
+
+    private static Job toJob(JSONObject json) {
+        Job job = new Job();
+        job.setId(intValue(json.get("id")));
+        job.setCompanyName((String) json.get("company_name"));
+        job.setPosition((String) json.get("position"));
+        job.setDescription((String) json.get("description"));
+        job.setUrl((String) json.get("url"));
+        job.setLocation((String) json.get("location"));
+        LocalDateTime applicationDate = dateTime(json.get("application_date"));
+        if (applicationDate != null) {
+            job.setApplicationDate(applicationDate);
+        }
+        LocalDateTime deadlineDate = dateTime(json.get("deadline_date"));
+        if (deadlineDate != null) {
+            job.setDeadlineDate(deadlineDate);
+        }
+        job.setStatus(Job.Status.valueOf((String) json.get("status")));
+        job.setNotes((String) json.get("notes"));
+        return job;
+    }
+
+    private static Skill toSkill(JSONObject json) {
+        Skill skill = new Skill((String) json.get("name"),
+                Skill.ProficiencyLevel.valueOf((String) json.get("proficiency_level")),
+                Skill.Category.valueOf((String) json.get("category")));
+        skill.setId(intValue(json.get("id")));
+        return skill;
+    }
+
+    private static Goal toGoal(JSONObject json) {
+        LocalDateTime targetDate = dateTime(json.get("target_date"));
+        Goal goal = new Goal((String) json.get("title"), (String) json.get("description"),
+                (Boolean) json.get("short_term"),
+                targetDate != null ? targetDate.toLocalDate() : null);
+        goal.setId(intValue(json.get("id")));
+        goal.setStatus(Goal.Status.valueOf((String) json.get("status")));
+        return goal;
+    }
+
+    private static Achievement toAchievement(JSONObject json) {
+        LocalDateTime dateAchieved = dateTime(json.get("date_achieved"));
+        Achievement achievement = new Achievement((String) json.get("title"), (String) json.get("description"),
+                dateAchieved != null ? dateAchieved.toLocalDate() : null,
+                Achievement.Type.valueOf((String) json.get("type")));
+        achievement.setId(intValue(json.get("id")));
+        return achievement;
+    }
+
+    /**
+     * Parses a json_agg column, which is NULL when the table has no rows for the user
+     */
+    private static JSONArray array(JSONParser parser, String json) throws ParseException {
+        return json != null ? (JSONArray) parser.parse(json) : new JSONArray();
+    }
+
+    private static int intValue(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * Parses a timestamp as PostgreSQL writes it in JSON, e.g. 2024-05-01T09:30:00.123456
+     */
+    private static LocalDateTime dateTime(Object value) {
+        return value != null ? LocalDateTime.parse((String) value) : null;
+    }
+}
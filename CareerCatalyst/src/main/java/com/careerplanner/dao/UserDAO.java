@@ -9,6 +9,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -19,6 +20,8 @@ import java.util.logging.Logger;
  */
 public class UserDAO {
     private static final Logger LOGGER = Logger.getLogger(UserDAO.class.getName());
+    // Rows per multi-row INSERT, matching JobDAO
+    private static final int INSERT_CHUNK_SIZE = 500;
     private final DatabaseManager dbManager;
     
     /**
@@ -43,7 +46,7 @@ public class UserDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            pstmt = dbManager.prepareStatement(conn, "users.create", sql, Statement.RETURN_GENERATED_KEYS);
             
             pstmt.setString(1, user.getUsername());
             pstmt.setString(2, user.getEmail());
@@ -69,12 +72,79 @@ public class UserDAO {
         }
     }
     
+    /**
+     * Creates several users in one transaction using multi-row INSERT statements
+     * that return the generated ids
+     * @param users User objects to be created
+     * @return the created Users with updated IDs, or an empty list if failed
+     */
+    public List<User> createUsers(List<User> users) {
+        if (users.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            conn.setAutoCommit(false);
+            
+            for (int from = 0; from < users.size(); from += INSERT_CHUNK_SIZE) {
+                List<User> chunk = users.subList(from, Math.min(from + INSERT_CHUNK_SIZE, users.size()));
+                pstmt = dbManager.prepareStatement(conn, "users.createBatch", "INSERT INTO users (username, email, password_hash, full_name) VALUES "
+                        + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?)")) + " RETURNING id");
+                
+                int index = 1;
+                for (User user : chunk) {
+                    pstmt.setString(index++, user.getUsername());
+                    pstmt.setString(index++, user.getEmail());
+                    pstmt.setString(index++, user.getPasswordHash());
+                    pstmt.setString(index++, user.getFullName());
+                }
+                
+                // PostgreSQL returns the rows of a VALUES list in insertion order
+                rs = pstmt.executeQuery();
+                for (User user : chunk) {
+                    if (!rs.next()) {
+                        throw new SQLException("Missing generated id for user: " + user.getUsername());
+                    }
+                    user.setId(rs.getInt(1));
+                }
+                
+                rs.close();
+                pstmt.close();
+            }
+            
+            conn.commit();
+            return new ArrayList<>(users);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating " + users.size() + " users", e);
+            rollback(conn);
+            return new ArrayList<>();
+        } finally {
+            restoreAutoCommit(conn);
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
     /**
      * Retrieves a user by ID
      * @param id the user ID
      * @return Optional containing User if found, empty Optional otherwise
      */
     public Optional<User> getUserById(int id) {
+        return getUserById(id, false);
+    }
+    
+    /**
+     * Retrieves a user by ID
+     * @param id the user ID
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return Optional containing User if found, empty Optional otherwise
+     */
+    Optional<User> getUserById(int id, boolean primary) {
         String sql = "SELECT * FROM users WHERE id = ?";
         
         Connection conn = null;
@@ -82,8 +152,8 @@ public class UserDAO {
         ResultSet rs = null;
         
         try {
-            conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "users.getById", sql);
             pstmt.setInt(1, id);
             
             rs = pstmt.executeQuery();
@@ -113,6 +183,16 @@ public class UserDAO {
      * @return Optional containing User if found, empty Optional otherwise
      */
     public Optional<User> getUserByUsername(String username) {
+        return getUserByUsername(username, false);
+    }
+    
+    /**
+     * Retrieves a user by username
+     * @param username the username
+     * @param primary true to read from the primary pool, which always sees the latest writes
+     * @return Optional containing User if found, empty Optional otherwise
+     */
+    Optional<User> getUserByUsername(String username, boolean primary) {
         String sql = "SELECT * FROM users WHERE username = ?";
         
         Connection conn = null;
@@ -120,8 +200,8 @@ public class UserDAO {
         ResultSet rs = null;
         
         try {
-            conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            conn = readConnection(primary);
+            pstmt = dbManager.prepareStatement(conn, "users.getByUsername", sql);
             pstmt.setString(1, username);
             
             rs = pstmt.executeQuery();
@@ -145,6 +225,81 @@ public class UserDAO {
         }
     }
     
+    /**
+     * Retrieves a user by email, ignoring case
+     * @param email the email address
+     * @return Optional containing User if found, empty Optional otherwise
+     */
+    public Optional<User> getUserByEmail(String email) {
+        String sql = "SELECT * FROM users WHERE LOWER(email) = LOWER(?)";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "users.getByEmail", sql);
+            pstmt.setString(1, email);
+            
+            rs = pstmt.executeQuery();
+            
+            if (rs.next()) {
+                User user = new User();
+                user.setId(rs.getInt("id"));
+                user.setUsername(rs.getString("username"));
+                user.setEmail(rs.getString("email"));
+                user.setPasswordHash(rs.getString("password_hash"));
+                user.setFullName(rs.getString("full_name"));
+                return Optional.of(user);
+            }
+            
+            return Optional.empty();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving user with email: " + email, e);
+            return Optional.empty();
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
+    /**
+     * Retrieves all users
+     * @return List of Users ordered by ID
+     */
+    public List<User> getAllUsers() {
+        String sql = "SELECT * FROM users ORDER BY id";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        List<User> users = new ArrayList<>();
+        
+        try {
+            conn = dbManager.getReadConnection();
+            pstmt = dbManager.prepareStatement(conn, "users.getAll", sql);
+            
+            rs = pstmt.executeQuery();
+            
+            while (rs.next()) {
+                User user = new User();
+                user.setId(rs.getInt("id"));
+                user.setUsername(rs.getString("username"));
+                user.setEmail(rs.getString("email"));
+                user.setPasswordHash(rs.getString("password_hash"));
+                user.setFullName(rs.getString("full_name"));
+                users.add(user);
+            }
+            
+            return users;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error retrieving users", e);
+            return users;
+        } finally {
+            dbManager.closeResources(conn, pstmt, rs);
+        }
+    }
+    
     /**
      * Updates an existing user
      * @param user User object with updated fields
@@ -159,7 +314,7 @@ public class UserDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            pstmt = dbManager.prepareStatement(conn, "users.update", sql);
             
             pstmt.setString(1, user.getUsername());
             pstmt.setString(2, user.getEmail());
@@ -177,6 +332,55 @@ public class UserDAO {
         }
     }
     
+    /**
+     * Updates several users in one transaction using a JDBC batch
+     * @param users User objects with updated fields
+     * @return number of users updated, or 0 if the batch failed
+     */
+    public int updateUsers(List<User> users) {
+        if (users.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "UPDATE users SET username = ?, email = ?, password_hash = ?, " +
+                     "full_name = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            conn.setAutoCommit(false);
+            pstmt = dbManager.prepareStatement(conn, "users.updateBatch", sql);
+            
+            for (User user : users) {
+                pstmt.setString(1, user.getUsername());
+                pstmt.setString(2, user.getEmail());
+                pstmt.setString(3, user.getPasswordHash());
+                pstmt.setString(4, user.getFullName());
+                pstmt.setInt(5, user.getId());
+                pstmt.addBatch();
+            }
+            
+            int updated = 0;
+            for (int count : pstmt.executeBatch()) {
+                if (count > 0) {
+                    updated += count;
+                }
+            }
+            
+            conn.commit();
+            return updated;
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error updating " + users.size() + " users", e);
+            rollback(conn);
+            return 0;
+        } finally {
+            restoreAutoCommit(conn);
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
     /**
      * Deletes a user by ID
      * @param id the user ID to delete
@@ -190,7 +394,7 @@ public class UserDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            pstmt = dbManager.prepareStatement(conn, "users.delete", sql);
             pstmt.setInt(1, id);
             
             int affectedRows = pstmt.executeUpdate();
@@ -203,6 +407,35 @@ public class UserDAO {
         }
     }
     
+    /**
+     * Deletes several users in a single statement
+     * @param ids the user IDs to delete
+     * @return number of users deleted, or 0 if deletion failed
+     */
+    public int deleteUsers(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        String sql = "DELETE FROM users WHERE id = ANY (?)";
+        
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        
+        try {
+            conn = dbManager.getConnection();
+            pstmt = dbManager.prepareStatement(conn, "users.deleteBatch", sql);
+            pstmt.setArray(1, conn.createArrayOf("integer", ids.toArray()));
+            
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error deleting " + ids.size() + " users", e);
+            return 0;
+        } finally {
+            dbManager.closeResources(conn, pstmt, null);
+        }
+    }
+    
     /**
      * Validates if a username already exists
      * @param username the username to check
@@ -217,7 +450,7 @@ public class UserDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            pstmt = dbManager.prepareStatement(conn, "users.usernameExists", sql);
             pstmt.setString(1, username);
             
             rs = pstmt.executeQuery();
@@ -244,7 +477,7 @@ public class UserDAO {
         
         try {
             conn = dbManager.getConnection();
-            pstmt = conn.prepareStatement(sql);
+            pstmt = dbManager.prepareStatement(conn, "users.emailExists", sql);
             pstmt.setString(1, email);
             
             rs = pstmt.executeQuery();
@@ -256,4 +489,43 @@ public class UserDAO {
             dbManager.closeResources(conn, pstmt, rs);
         }
     }
+    
+    /**
+     * Gets a connection for a read: from the read pool, or from the primary pool when the
+     * caller must see the latest writes
+     * @param primary true to use the primary pool
+     * @return Connection object
+     * @throws SQLException if connection cannot be obtained
+     */
+    private Connection readConnection(boolean primary) throws SQLException {
+        return primary ? dbManager.getConnection() : dbManager.getReadConnection();
+    }
+    
+    /**
+     * Rolls back the current transaction, logging instead of throwing on failure
+     * @param conn the connection, may be null
+     */
+    private void rollback(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to roll back user batch", e);
+            }
+        }
+    }
+    
+    /**
+     * Puts a pooled connection back into auto-commit mode before it is returned
+     * @param conn the connection, may be null
+     */
+    private void restoreAutoCommit(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to restore auto-commit", e);
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import java.util.UUID;
  * Represents an achievement in the Career Planner application.
  * Tracks details like title, description, and date.
  */
-public class Achievement {
+public class Achievement implements ChangeTracked {
     public enum Type {
         PROFESSIONAL("Professional"),
         ACADEMIC("Academic"),
@@ -43,6 +43,7 @@ public class Achievement {
     private LocalDate date;
     private Type type;
     private boolean includeInResume;
+    private volatile boolean dirty = true;
     
     /**
      * Default constructor
@@ -72,6 +73,7 @@ public class Achievement {
 
     public void setId(int id) {
         this.id = id;
+        this.dirty = true;
     }
     
     // For backward compatibility
@@ -87,6 +89,7 @@ public class Achievement {
             // For backward compatibility, we'll keep the string ID
             // and assign a proper integer ID when saving to database
         }
+        this.dirty = true;
     }
 
     public String getTitle() {
@@ -95,6 +98,7 @@ public class Achievement {
 
     public void setTitle(String title) {
         this.title = title;
+        this.dirty = true;
     }
 
     public String getDescription() {
@@ -103,6 +107,7 @@ public class Achievement {
 
     public void setDescription(String description) {
         this.description = description;
+        this.dirty = true;
     }
 
     public LocalDate getDate() {
@@ -111,6 +116,7 @@ public class Achievement {
 
     public void setDate(LocalDate date) {
         this.date = date;
+        this.dirty = true;
     }
 
     public Type getType() {
@@ -119,6 +125,7 @@ public class Achievement {
 
     public void setType(Type type) {
         this.type = type;
+        this.dirty = true;
     }
 
     public boolean isIncludeInResume() {
@@ -127,6 +134,7 @@ public class Achievement {
 
     public void setIncludeInResume(boolean includeInResume) {
         this.includeInResume = includeInResume;
+        this.dirty = true;
     }
     
     /**
@@ -138,6 +146,16 @@ public class Achievement {
         return date.format(formatter);
     }
     
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void markClean() {
+        dirty = false;
+    }
+    
     /**
      * Returns a string representation of this achievement
      * @return achievement title and type
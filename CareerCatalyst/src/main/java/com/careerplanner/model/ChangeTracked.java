@@ -0,0 +1,70 @@
+package com.careerplanner.model;
+
+import java.util.Collection;
+
+/**
+ * Implemented by model objects that remember whether they changed since they were last saved.
+ * New objects start out dirty; setters and add/remove methods mark them dirty again, and the
+ * persistence layer marks them clean once their current state has been encoded. Objects that
+ * own other tracked objects report dirty if any of their entries are.
+ */
+public interface ChangeTracked {
+
+    /**
+     * Checks whether the object changed since the last {@link #markClean()}.
+     *
+     * @return true if the object needs to be saved
+     */
+    boolean isDirty();
+
+    /**
+     * Marks the object and its entries as saved. This must be called before the object is
+     * encoded, so an edit made while encoding is still in progress keeps it dirty.
+     */
+    void markClean();
+
+    /**
+     * Checks whether any of the given objects is dirty.
+     *
+     * @param entries The objects to check, may be null
+     * @return true if at least one object is dirty
+     */
+    static boolean anyDirty(Collection<? extends ChangeTracked> entries) {
+        if (entries != null) {
+            for (ChangeTracked entry : entries) {
+                if (entry.isDirty()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks all of the given objects as saved.
+     *
+     * @param entries The objects to mark, may be null
+     */
+    static void markAllClean(Collection<? extends ChangeTracked> entries) {
+        if (entries != null) {
+            for (ChangeTracked entry : entries) {
+                entry.markClean();
+            }
+        }
+    }
+
+    /**
+     * Gets the sizes of the given lists, so changes made directly through a list getter
+     * can be noticed even though no setter was called. A null list counts as -1.
+     *
+     * @param lists The lists to measure
+     * @return The size of each list
+     */
+    static int[] sizesOf(Collection<?>... lists) {
+        int[] sizes = new int[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            sizes[i] = lists[i] == null ? -1 : lists[i].size();
+        }
+        return sizes;
+    }
+}
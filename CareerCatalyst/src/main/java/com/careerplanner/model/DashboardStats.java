@@ -0,0 +1,155 @@
+package com.careerplanner.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-user counts shown on the dashboard: jobs by status, goals completed out of total by
+ * term, skills by category and by proficiency, and achievements by type. Counts that are
+ * zero are left out of the maps.
+ */
+public class DashboardStats {
+    private final Map<Job.Status, Integer> jobsByStatus = new EnumMap<>(Job.Status.class);
+    private final Map<Skill.Category, Integer> skillsByCategory = new EnumMap<>(Skill.Category.class);
+    private final Map<Skill.ProficiencyLevel, Integer> skillsByProficiency = new EnumMap<>(Skill.ProficiencyLevel.class);
+    private final Map<Achievement.Type, Integer> achievementsByType = new EnumMap<>(Achievement.Type.class);
+    private int shortTermGoals;
+    private int shortTermGoalsCompleted;
+    private int longTermGoals;
+    private int longTermGoalsCompleted;
+
+    /**
+     * Counts the lists of a user that is already loaded
+     * @param user the user
+     * @return the user's counts
+     */
+    public static DashboardStats of(User user) {
+        DashboardStats stats = new DashboardStats();
+        for (Job job : user.getJobApplications()) {
+            stats.jobsByStatus.merge(job.getStatus(), 1, Integer::sum);
+        }
+        for (Goal goal : user.getGoals()) {
+            boolean completed = goal.getStatus() == Goal.Status.COMPLETED;
+            if (goal.isShortTerm()) {
+                stats.shortTermGoals++;
+                stats.shortTermGoalsCompleted += completed ? 1 : 0;
+            } else {
+                stats.longTermGoals++;
+                stats.longTermGoalsCompleted += completed ? 1 : 0;
+            }
+        }
+        for (Skill skill : user.getSkills()) {
+            stats.skillsByCategory.merge(skill.getCategory(), 1, Integer::sum);
+            stats.skillsByProficiency.merge(skill.getProficiencyLevel(), 1, Integer::sum);
+        }
+        for (Achievement achievement : user.getAchievements()) {
+            stats.achievementsByType.merge(achievement.getType(), 1, Integer::sum);
+        }
+        return stats;
+    }
+
+    public Map<Job.Status, Integer> getJobsByStatus() {
+        return Collections.unmodifiableMap(jobsByStatus);
+    }
+
+    public int getJobCount(Job.Status status) {
+        return jobsByStatus.getOrDefault(status, 0);
+    }
+
+    public int getTotalJobs() {
+        int total = 0;
+        for (int count : jobsByStatus.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public void setJobCount(Job.Status status, int count) {
+        put(jobsByStatus, status, count);
+    }
+
+    public int getGoalCount(boolean shortTerm) {
+        return shortTerm ? shortTermGoals : longTermGoals;
+    }
+
+    public int getCompletedGoalCount(boolean shortTerm) {
+        return shortTerm ? shortTermGoalsCompleted : longTermGoalsCompleted;
+    }
+
+    /**
+     * Gets the share of completed goals of one term, as the dashboard's progress bars show it
+     * @param shortTerm true for short-term goals, false for long-term goals
+     * @return a value between 0 and 1; 0 when there are no goals
+     */
+    public double getGoalProgress(boolean shortTerm) {
+        int total = getGoalCount(shortTerm);
+        return total == 0 ? 0.0 : (double) getCompletedGoalCount(shortTerm) / total;
+    }
+
+    public void setGoalCounts(boolean shortTerm, int total, int completed) {
+        if (shortTerm) {
+            shortTermGoals = total;
+            shortTermGoalsCompleted = completed;
+        } else {
+            longTermGoals = total;
+            longTermGoalsCompleted = completed;
+        }
+    }
+
+    public Map<Skill.Category, Integer> getSkillsByCategory() {
+        return Collections.unmodifiableMap(skillsByCategory);
+    }
+
+    public void setSkillCount(Skill.Category category, int count) {
+        put(skillsByCategory, category, count);
+    }
+
+    public Map<Skill.ProficiencyLevel, Integer> getSkillsByProficiency() {
+        return Collections.unmodifiableMap(skillsByProficiency);
+    }
+
+    public void setSkillCount(Skill.ProficiencyLevel level, int count) {
+        put(skillsByProficiency, level, count);
+    }
+
+    public Map<Achievement.Type, Integer> getAchievementsByType() {
+        return Collections.unmodifiableMap(achievementsByType);
+    }
+
+    public void setAchievementCount(Achievement.Type type, int count) {
+        put(achievementsByType, type, count);
+    }
+
+    private static <K> void put(Map<K, Integer> counts, K key, int count) {
+        if (count > 0) {
+            counts.put(key, count);
+        } else {
+            counts.remove(key);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DashboardStats)) {
+            return false;
+        }
+        DashboardStats other = (DashboardStats) o;
+        return jobsByStatus.equals(other.jobsByStatus)
+                && skillsByCategory.equals(other.skillsByCategory)
+                && skillsByProficiency.equals(other.skillsByProficiency)
+                && achievementsByType.equals(other.achievementsByType)
+                && shortTermGoals == other.shortTermGoals
+                && shortTermGoalsCompleted == other.shortTermGoalsCompleted
+                && longTermGoals == other.longTermGoals
+                && longTermGoalsCompleted == other.longTermGoalsCompleted;
+    }
+
+    @Override
+    public int hashCode() {
+        return jobsByStatus.hashCode() * 31 + shortTermGoals + longTermGoals;
+    }
+}
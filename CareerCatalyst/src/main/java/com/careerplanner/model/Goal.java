@@ -8,7 +8,7 @@ import java.util.UUID;
  * Represents a professional goal in the Career Planner application.
  * Can be categorized as short-term or long-term.
  */
-public class Goal {
+public class Goal implements ChangeTracked {
     public enum Status {
         NOT_STARTED("Not Started"),
         IN_PROGRESS("In Progress"),
@@ -43,6 +43,7 @@ public class Goal {
     private LocalDate targetDate;
     private LocalDate completionDate;
     private String actionPlan;
+    private volatile boolean dirty = true;
     
     /**
      * Default constructor
@@ -71,6 +72,7 @@ public class Goal {
 
     public void setId(int id) {
         this.id = id;
+        this.dirty = true;
     }
     
     // For backward compatibility
@@ -86,6 +88,7 @@ public class Goal {
             // For backward compatibility, we'll keep the string ID
             // and assign a proper integer ID when saving to database
         }
+        this.dirty = true;
     }
 
     public String getTitle() {
@@ -94,6 +97,7 @@ public class Goal {
 
     public void setTitle(String title) {
         this.title = title;
+        this.dirty = true;
     }
 
     public String getDescription() {
@@ -102,6 +106,7 @@ public class Goal {
 
     public void setDescription(String description) {
         this.description = description;
+        this.dirty = true;
     }
 
     public boolean isShortTerm() {
@@ -110,6 +115,7 @@ public class Goal {
 
     public void setShortTerm(boolean shortTerm) {
         this.shortTerm = shortTerm;
+        this.dirty = true;
     }
 
     public Status getStatus() {
@@ -121,6 +127,7 @@ public class Goal {
         if (status == Status.COMPLETED && completionDate == null) {
             completionDate = LocalDate.now();
         }
+        this.dirty = true;
     }
 
     public LocalDate getTargetDate() {
@@ -129,6 +136,7 @@ public class Goal {
 
     public void setTargetDate(LocalDate targetDate) {
         this.targetDate = targetDate;
+        this.dirty = true;
     }
 
     public LocalDate getCompletionDate() {
@@ -137,6 +145,7 @@ public class Goal {
 
     public void setCompletionDate(LocalDate completionDate) {
         this.completionDate = completionDate;
+        this.dirty = true;
     }
 
     public String getActionPlan() {
@@ -145,6 +154,7 @@ public class Goal {
 
     public void setActionPlan(String actionPlan) {
         this.actionPlan = actionPlan;
+        this.dirty = true;
     }
     
     /**
@@ -191,6 +201,16 @@ public class Goal {
         return shortTerm ? "Short-term" : "Long-term";
     }
     
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void markClean() {
+        dirty = false;
+    }
+    
     /**
      * Returns a string representation of this goal
      * @return goal title and term type
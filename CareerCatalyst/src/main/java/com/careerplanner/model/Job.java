@@ -8,7 +8,7 @@ import java.time.format.DateTimeFormatter;
  * Represents a job application in the Career Planner application.
  * Tracks details like company, position, status, and application deadlines.
  */
-public class Job {
+public class Job implements ChangeTracked {
     public enum Status {
         SAVED("Saved"),
         APPLIED("Applied"),
@@ -47,6 +47,7 @@ public class Job {
     private String notes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private volatile boolean dirty = true;
     
     /**
      * Default constructor
@@ -87,6 +88,7 @@ public class Job {
 
     public void setId(int id) {
         this.id = id;
+        this.dirty = true;
     }
     
     // Backward compatibility for String ID
@@ -101,6 +103,7 @@ public class Job {
             // For backward compatibility, we'll allow setting string IDs temporarily
             // but they'll be converted to proper IDs when saved to database
         }
+        this.dirty = true;
     }
 
     public int getUserId() {
@@ -109,6 +112,7 @@ public class Job {
 
     public void setUserId(int userId) {
         this.userId = userId;
+        this.dirty = true;
     }
 
     public String getCompanyName() {
@@ -118,6 +122,7 @@ public class Job {
     public void setCompanyName(String companyName) {
         this.companyName = companyName;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public String getPosition() {
@@ -127,6 +132,7 @@ public class Job {
     public void setPosition(String position) {
         this.position = position;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public String getDescription() {
@@ -136,6 +142,7 @@ public class Job {
     public void setDescription(String description) {
         this.description = description;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public String getUrl() {
@@ -145,6 +152,7 @@ public class Job {
     public void setUrl(String url) {
         this.url = url;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public String getLocation() {
@@ -154,6 +162,7 @@ public class Job {
     public void setLocation(String location) {
         this.location = location;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public LocalDateTime getApplicationDate() {
@@ -163,6 +172,7 @@ public class Job {
     public void setApplicationDate(LocalDateTime applicationDate) {
         this.applicationDate = applicationDate;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public LocalDateTime getDeadlineDate() {
@@ -172,6 +182,7 @@ public class Job {
     public void setDeadlineDate(LocalDateTime deadlineDate) {
         this.deadlineDate = deadlineDate;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public Status getStatus() {
@@ -181,6 +192,7 @@ public class Job {
     public void setStatus(Status status) {
         this.status = status;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public String getNotes() {
@@ -190,6 +202,7 @@ public class Job {
     public void setNotes(String notes) {
         this.notes = notes;
         this.updatedAt = LocalDateTime.now();
+        this.dirty = true;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -198,6 +211,7 @@ public class Job {
 
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
+        this.dirty = true;
     }
 
     public LocalDateTime getUpdatedAt() {
@@ -206,6 +220,7 @@ public class Job {
 
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
+        this.dirty = true;
     }
     
     // Backward compatibility getters and setters
@@ -251,6 +266,7 @@ public class Job {
         } else {
             this.deadlineDate = null;
         }
+        this.dirty = true;
     }
     
     public LocalDate getDateAdded() {
@@ -261,6 +277,7 @@ public class Job {
         if (dateAdded != null) {
             this.createdAt = dateAdded.atStartOfDay();
         }
+        this.dirty = true;
     }
     
     public LocalDate getLastUpdated() {
@@ -271,6 +288,7 @@ public class Job {
         if (lastUpdated != null) {
             this.updatedAt = lastUpdated.atStartOfDay();
         }
+        this.dirty = true;
     }
     
     /**
@@ -327,6 +345,16 @@ public class Job {
         return updatedAt.format(formatter);
     }
     
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void markClean() {
+        dirty = false;
+    }
+    
     /**
      * Returns a string representation of this job
      * @return string with company name and position
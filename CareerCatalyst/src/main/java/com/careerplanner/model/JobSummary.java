@@ -0,0 +1,120 @@
+package com.careerplanner.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Read-only summary of a job application with just the fields that list and card views
+ * show. It leaves out the description and notes, which can be large; the full {@link Job}
+ * is loaded by id when the details are opened or the job is edited.
+ */
+public class JobSummary {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+
+    private final int id;
+    private final int userId;
+    private final String companyName;
+    private final String position;
+    private final String location;
+    private final Job.Status status;
+    private final LocalDateTime deadlineDate;
+    private final LocalDateTime createdAt;
+
+    /**
+     * Constructor with all summary fields
+     */
+    public JobSummary(int id, int userId, String companyName, String position, String location,
+                      Job.Status status, LocalDateTime deadlineDate, LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.companyName = companyName;
+        this.position = position;
+        this.location = location;
+        this.status = status;
+        this.deadlineDate = deadlineDate;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Creates the summary of a job that is already loaded
+     * @param job the job
+     * @return summary with the job's list fields
+     */
+    public static JobSummary of(Job job) {
+        return new JobSummary(job.getId(), job.getUserId(), job.getCompanyName(), job.getPosition(),
+                job.getLocation(), job.getStatus(), job.getDeadlineDate(), job.getCreatedAt());
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Job.Status getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDeadlineDate() {
+        return deadlineDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Checks if the deadline is within the next 10 days, the same rule as
+     * {@link Job#isDeadlineApproaching()}
+     * @return true if the deadline is within 10 days, false otherwise
+     */
+    public boolean isDeadlineApproaching() {
+        if (deadlineDate == null) {
+            return false;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate deadlineLocalDate = deadlineDate.toLocalDate();
+        return !deadlineLocalDate.isBefore(today) && !deadlineLocalDate.isAfter(today.plusDays(10));
+    }
+
+    /**
+     * Returns a formatted string of the application deadline
+     * @return formatted date string or "Not specified" if no deadline is set
+     */
+    public String getFormattedDeadline() {
+        return deadlineDate != null ? deadlineDate.format(DATE_FORMAT) : "Not specified";
+    }
+
+    /**
+     * Returns a formatted string of the date added
+     * @return formatted date string or "Not specified" if unknown
+     */
+    public String getFormattedDateAdded() {
+        return createdAt != null ? createdAt.format(DATE_FORMAT) : "Not specified";
+    }
+
+    /**
+     * Returns a string representation of this summary
+     * @return string with company name and position
+     */
+    @Override
+    public String toString() {
+        return position + " at " + companyName;
+    }
+}
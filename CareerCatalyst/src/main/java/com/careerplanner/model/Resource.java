@@ -6,7 +6,7 @@ import java.util.UUID;
  * Represents a career resource in the Career Planner application.
  * This could be a course, book, website, or other learning resource.
  */
-public class Resource {
+public class Resource implements ChangeTracked {
     public enum Type {
         COURSE("Course"),
         BOOK("Book"),
@@ -46,6 +46,7 @@ public class Resource {
     private double rating; // 0-5 rating scale
     private boolean completed;
     private String notes;
+    private volatile boolean dirty = true;
     
     /**
      * Default constructor
@@ -75,6 +76,7 @@ public class Resource {
 
     public void setId(int id) {
         this.id = id;
+        this.dirty = true;
     }
     
     // For backward compatibility
@@ -90,6 +92,7 @@ public class Resource {
             // For backward compatibility, we'll keep the string ID
             // and assign a proper integer ID when saving to database
         }
+        this.dirty = true;
     }
 
     public String getTitle() {
@@ -98,6 +101,7 @@ public class Resource {
 
     public void setTitle(String title) {
         this.title = title;
+        this.dirty = true;
     }
 
     public String getDescription() {
@@ -106,6 +110,7 @@ public class Resource {
 
     public void setDescription(String description) {
         this.description = description;
+        this.dirty = true;
     }
 
     public Type getType() {
@@ -114,6 +119,7 @@ public class Resource {
 
     public void setType(Type type) {
         this.type = type;
+        this.dirty = true;
     }
 
     public String getUrl() {
@@ -122,6 +128,7 @@ public class Resource {
 
     public void setUrl(String url) {
         this.url = url;
+        this.dirty = true;
     }
 
     public String getAuthor() {
@@ -130,6 +137,7 @@ public class Resource {
 
     public void setAuthor(String author) {
         this.author = author;
+        this.dirty = true;
     }
 
     public String getProvider() {
@@ -138,6 +146,7 @@ public class Resource {
 
     public void setProvider(String provider) {
         this.provider = provider;
+        this.dirty = true;
     }
 
     public double getRating() {
@@ -152,6 +161,7 @@ public class Resource {
         } else {
             this.rating = rating;
         }
+        this.dirty = true;
     }
 
     public boolean isCompleted() {
@@ -160,6 +170,7 @@ public class Resource {
 
     public void setCompleted(boolean completed) {
         this.completed = completed;
+        this.dirty = true;
     }
 
     public String getNotes() {
@@ -168,6 +179,7 @@ public class Resource {
 
     public void setNotes(String notes) {
         this.notes = notes;
+        this.dirty = true;
     }
     
     /**
@@ -189,6 +201,16 @@ public class Resource {
         return stars.toString();
     }
     
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void markClean() {
+        dirty = false;
+    }
+    
     /**
      * Returns a string representation of this resource
      * @return resource title and type
@@ -1,6 +1,7 @@
 package com.careerplanner.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,7 +9,7 @@ import java.util.UUID;
  * Represents a resume in the Career Planner application.
  * Contains sections for education, experience, projects, and more.
  */
-public class Resume {
+public class Resume implements ChangeTracked {
     public enum Template {
         PROFESSIONAL("Professional"),
         CREATIVE("Creative"),
@@ -43,10 +44,14 @@ public class Resume {
     private List<String> references;
     private String additionalInfo;
 
+    // Change tracking, see ChangeTracked
+    private volatile boolean dirty = true;
+    private int[] cleanSizes;
+
     /**
      * Inner class representing an education entry
      */
-    public static class Education {
+    public static class Education implements ChangeTracked {
         private String degree;
         private String institution;
         private String location;
@@ -54,6 +59,7 @@ public class Resume {
         private String endDate;
         private String description;
         private String gpa;
+        private volatile boolean dirty = true;
         
         // Getters and Setters
         public String getDegree() {
@@ -62,6 +68,7 @@ public class Resume {
         
         public void setDegree(String degree) {
             this.degree = degree;
+            this.dirty = true;
         }
         
         public String getInstitution() {
@@ -70,6 +77,7 @@ public class Resume {
         
         public void setInstitution(String institution) {
             this.institution = institution;
+            this.dirty = true;
         }
         
         public String getLocation() {
@@ -78,6 +86,7 @@ public class Resume {
         
         public void setLocation(String location) {
             this.location = location;
+            this.dirty = true;
         }
         
         public String getStartDate() {
@@ -86,6 +95,7 @@ public class Resume {
         
         public void setStartDate(String startDate) {
             this.startDate = startDate;
+            this.dirty = true;
         }
         
         public String getEndDate() {
@@ -94,6 +104,7 @@ public class Resume {
         
         public void setEndDate(String endDate) {
             this.endDate = endDate;
+            this.dirty = true;
         }
         
         public String getDescription() {
@@ -102,6 +113,7 @@ public class Resume {
         
         public void setDescription(String description) {
             this.description = description;
+            this.dirty = true;
         }
         
         public String getGpa() {
@@ -110,13 +122,24 @@ public class Resume {
         
         public void setGpa(String gpa) {
             this.gpa = gpa;
+            this.dirty = true;
+        }
+        
+        @Override
+        public boolean isDirty() {
+            return dirty;
+        }
+
+        @Override
+        public void markClean() {
+            dirty = false;
         }
     }
     
     /**
      * Inner class representing a work experience entry
      */
-    public static class Experience {
+    public static class Experience implements ChangeTracked {
         private String position;
         private String company;
         private String location;
@@ -124,6 +147,7 @@ public class Resume {
         private String endDate;
         private String description;
         private List<String> responsibilities;
+        private volatile boolean dirty = true;
         
         public Experience() {
             this.responsibilities = new ArrayList<>();
@@ -136,6 +160,7 @@ public class Resume {
         
         public void setPosition(String position) {
             this.position = position;
+            this.dirty = true;
         }
         
         public String getCompany() {
@@ -144,6 +169,7 @@ public class Resume {
         
         public void setCompany(String company) {
             this.company = company;
+            this.dirty = true;
         }
         
         public String getLocation() {
@@ -152,6 +178,7 @@ public class Resume {
         
         public void setLocation(String location) {
             this.location = location;
+            this.dirty = true;
         }
         
         public String getStartDate() {
@@ -160,6 +187,7 @@ public class Resume {
         
         public void setStartDate(String startDate) {
             this.startDate = startDate;
+            this.dirty = true;
         }
         
         public String getEndDate() {
@@ -168,6 +196,7 @@ public class Resume {
         
         public void setEndDate(String endDate) {
             this.endDate = endDate;
+            this.dirty = true;
         }
         
         public String getDescription() {
@@ -176,6 +205,7 @@ public class Resume {
         
         public void setDescription(String description) {
             this.description = description;
+            this.dirty = true;
         }
         
         public List<String> getResponsibilities() {
@@ -184,23 +214,36 @@ public class Resume {
         
         public void setResponsibilities(List<String> responsibilities) {
             this.responsibilities = responsibilities;
+            this.dirty = true;
         }
         
         public void addResponsibility(String responsibility) {
             this.responsibilities.add(responsibility);
+            this.dirty = true;
+        }
+        
+        @Override
+        public boolean isDirty() {
+            return dirty;
+        }
+
+        @Override
+        public void markClean() {
+            dirty = false;
         }
     }
     
     /**
      * Inner class representing a project entry
      */
-    public static class Project {
+    public static class Project implements ChangeTracked {
         private String name;
         private String description;
         private String startDate;
         private String endDate;
         private String technologies;
         private String url;
+        private volatile boolean dirty = true;
         
         // Getters and Setters
         public String getName() {
@@ -209,6 +252,7 @@ public class Resume {
         
         public void setName(String name) {
             this.name = name;
+            this.dirty = true;
         }
         
         public String getDescription() {
@@ -217,6 +261,7 @@ public class Resume {
         
         public void setDescription(String description) {
             this.description = description;
+            this.dirty = true;
         }
         
         public String getStartDate() {
@@ -225,6 +270,7 @@ public class Resume {
         
         public void setStartDate(String startDate) {
             this.startDate = startDate;
+            this.dirty = true;
         }
         
         public String getEndDate() {
@@ -233,6 +279,7 @@ public class Resume {
         
         public void setEndDate(String endDate) {
             this.endDate = endDate;
+            this.dirty = true;
         }
         
         public String getTechnologies() {
@@ -241,6 +288,7 @@ public class Resume {
         
         public void setTechnologies(String technologies) {
             this.technologies = technologies;
+            this.dirty = true;
         }
         
         public String getUrl() {
@@ -249,6 +297,17 @@ public class Resume {
         
         public void setUrl(String url) {
             this.url = url;
+            this.dirty = true;
+        }
+        
+        @Override
+        public boolean isDirty() {
+            return dirty;
+        }
+
+        @Override
+        public void markClean() {
+            dirty = false;
         }
     }
     
@@ -273,6 +332,7 @@ public class Resume {
 
     public void setId(String id) {
         this.id = id;
+        this.dirty = true;
     }
 
     public String getTitle() {
@@ -281,6 +341,7 @@ public class Resume {
 
     public void setTitle(String title) {
         this.title = title;
+        this.dirty = true;
     }
 
     public Template getTemplate() {
@@ -289,6 +350,7 @@ public class Resume {
 
     public void setTemplate(Template template) {
         this.template = template;
+        this.dirty = true;
     }
 
     public String getSummary() {
@@ -297,6 +359,7 @@ public class Resume {
 
     public void setSummary(String summary) {
         this.summary = summary;
+        this.dirty = true;
     }
 
     public List<Education> getEducationList() {
@@ -305,14 +368,17 @@ public class Resume {
 
     public void setEducationList(List<Education> educationList) {
         this.educationList = educationList;
+        this.dirty = true;
     }
     
     public void addEducation(Education education) {
         this.educationList.add(education);
+        this.dirty = true;
     }
     
     public void removeEducation(Education education) {
         this.educationList.remove(education);
+        this.dirty = true;
     }
 
     public List<Experience> getWorkExperienceList() {
@@ -321,14 +387,17 @@ public class Resume {
 
     public void setWorkExperienceList(List<Experience> workExperienceList) {
         this.workExperienceList = workExperienceList;
+        this.dirty = true;
     }
     
     public void addWorkExperience(Experience experience) {
         this.workExperienceList.add(experience);
+        this.dirty = true;
     }
     
     public void removeWorkExperience(Experience experience) {
         this.workExperienceList.remove(experience);
+        this.dirty = true;
     }
 
     public List<Project> getProjectsList() {
@@ -337,14 +406,17 @@ public class Resume {
 
     public void setProjectsList(List<Project> projectsList) {
         this.projectsList = projectsList;
+        this.dirty = true;
     }
     
     public void addProject(Project project) {
         this.projectsList.add(project);
+        this.dirty = true;
     }
     
     public void removeProject(Project project) {
         this.projectsList.remove(project);
+        this.dirty = true;
     }
 
     public List<String> getLanguages() {
@@ -353,14 +425,17 @@ public class Resume {
 
     public void setLanguages(List<String> languages) {
         this.languages = languages;
+        this.dirty = true;
     }
     
     public void addLanguage(String language) {
         this.languages.add(language);
+        this.dirty = true;
     }
     
     public void removeLanguage(String language) {
         this.languages.remove(language);
+        this.dirty = true;
     }
 
     public List<String> getReferences() {
@@ -369,14 +444,17 @@ public class Resume {
 
     public void setReferences(List<String> references) {
         this.references = references;
+        this.dirty = true;
     }
     
     public void addReference(String reference) {
         this.references.add(reference);
+        this.dirty = true;
     }
     
     public void removeReference(String reference) {
         this.references.remove(reference);
+        this.dirty = true;
     }
 
     public String getAdditionalInfo() {
@@ -385,5 +463,28 @@ public class Resume {
 
     public void setAdditionalInfo(String additionalInfo) {
         this.additionalInfo = additionalInfo;
+        this.dirty = true;
+    }
+
+    @Override
+    public boolean isDirty() {
+        return dirty
+                || !Arrays.equals(cleanSizes, listSizes())
+                || ChangeTracked.anyDirty(educationList)
+                || ChangeTracked.anyDirty(workExperienceList)
+                || ChangeTracked.anyDirty(projectsList);
+    }
+
+    @Override
+    public void markClean() {
+        cleanSizes = listSizes();
+        dirty = false;
+        ChangeTracked.markAllClean(educationList);
+        ChangeTracked.markAllClean(workExperienceList);
+        ChangeTracked.markAllClean(projectsList);
+    }
+
+    private int[] listSizes() {
+        return ChangeTracked.sizesOf(educationList, workExperienceList, projectsList, languages, references);
     }
 }
@@ -6,7 +6,7 @@ import java.util.UUID;
  * Represents a skill in the Career Planner application.
  * Tracks details like name, proficiency level, and category.
  */
-public class Skill {
+public class Skill implements ChangeTracked {
     public enum ProficiencyLevel {
         BEGINNER("Beginner"),
         INTERMEDIATE("Intermediate"),
@@ -62,6 +62,7 @@ public class Skill {
     private Category category;
     private String description;
     private boolean includeInResume;
+    private volatile boolean dirty = true;
     
     /**
      * Default constructor
@@ -90,6 +91,7 @@ public class Skill {
 
     public void setId(int id) {
         this.id = id;
+        this.dirty = true;
     }
     
     // For backward compatibility
@@ -105,6 +107,7 @@ public class Skill {
             // For backward compatibility, we'll keep the string ID
             // and assign a proper integer ID when saving to database
         }
+        this.dirty = true;
     }
 
     public String getName() {
@@ -113,6 +116,7 @@ public class Skill {
 
     public void setName(String name) {
         this.name = name;
+        this.dirty = true;
     }
 
     public ProficiencyLevel getProficiencyLevel() {
@@ -121,6 +125,7 @@ public class Skill {
 
     public void setProficiencyLevel(ProficiencyLevel proficiencyLevel) {
         this.proficiencyLevel = proficiencyLevel;
+        this.dirty = true;
     }
 
     public Category getCategory() {
@@ -129,6 +134,7 @@ public class Skill {
 
     public void setCategory(Category category) {
         this.category = category;
+        this.dirty = true;
     }
 
     public String getDescription() {
@@ -137,6 +143,7 @@ public class Skill {
 
     public void setDescription(String description) {
         this.description = description;
+        this.dirty = true;
     }
 
     public boolean isIncludeInResume() {
@@ -145,6 +152,7 @@ public class Skill {
 
     public void setIncludeInResume(boolean includeInResume) {
         this.includeInResume = includeInResume;
+        this.dirty = true;
     }
     
     /**
@@ -166,6 +174,16 @@ public class Skill {
         }
     }
     
+    @Override
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void markClean() {
+        dirty = false;
+    }
+    
     /**
      * Returns a string representation of this skill
      * @return skill name and proficiency level
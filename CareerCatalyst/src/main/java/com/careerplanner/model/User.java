@@ -2,13 +2,14 @@ package com.careerplanner.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents a user in the Career Planner application.
  * Contains personal information and references to job applications, skills, achievements, and goals.
  */
-public class User {
+public class User implements ChangeTracked {
     private int id;
     private String username;
     private String email;
@@ -33,6 +34,31 @@ public class User {
     private List<Goal> longTermGoals;
     private Resume resume;
 
+    // Change tracking, see ChangeTracked
+    private volatile boolean dirty = true;
+    private int[] cleanSizes;
+    
+    // Decodes the lists and resume on first access; null once they are in memory
+    private volatile SectionLoader sectionLoader;
+
+    /**
+     * Decodes the stored jobs, skills, achievements, goals and resume of a user.
+     * Used by stores that keep a cheap encoded form of each user and only build
+     * the full object graph for users that are actually opened.
+     */
+    public interface SectionLoader {
+        /**
+         * Decodes the stored sections into the given empty lists.
+         *
+         * @param jobs Receives the job applications
+         * @param skills Receives the skills
+         * @param achievements Receives the achievements
+         * @param goals Receives the goals
+         * @return The decoded resume
+         */
+        Resume load(List<Job> jobs, List<Skill> skills, List<Achievement> achievements, List<Goal> goals);
+    }
+
     /**
      * Default constructor
      */
@@ -80,6 +106,7 @@ public class User {
 
     public void setId(int id) {
         this.id = id;
+        this.dirty = true;
     }
 
     public String getUsername() {
@@ -88,6 +115,7 @@ public class User {
 
     public void setUsername(String username) {
         this.username = username;
+        this.dirty = true;
     }
 
     public String getEmail() {
@@ -96,6 +124,7 @@ public class User {
 
     public void setEmail(String email) {
         this.email = email;
+        this.dirty = true;
     }
 
     public String getPasswordHash() {
@@ -104,6 +133,7 @@ public class User {
 
     public void setPasswordHash(String passwordHash) {
         this.passwordHash = passwordHash;
+        this.dirty = true;
     }
 
     public String getFullName() {
@@ -112,6 +142,7 @@ public class User {
 
     public void setFullName(String fullName) {
         this.fullName = fullName;
+        this.dirty = true;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -120,6 +151,7 @@ public class User {
 
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
+        this.dirty = true;
     }
 
     public LocalDateTime getUpdatedAt() {
@@ -128,46 +160,62 @@ public class User {
 
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
+        this.dirty = true;
     }
 
     public List<Job> getJobApplications() {
+        materialize();
         return jobApplications;
     }
 
     public void setJobApplications(List<Job> jobApplications) {
+        materialize();
         this.jobApplications = jobApplications;
+        this.dirty = true;
     }
 
     public List<Skill> getSkills() {
+        materialize();
         return skills;
     }
 
     public void setSkills(List<Skill> skills) {
+        materialize();
         this.skills = skills;
+        this.dirty = true;
     }
 
     public List<Achievement> getAchievements() {
+        materialize();
         return achievements;
     }
 
     public void setAchievements(List<Achievement> achievements) {
+        materialize();
         this.achievements = achievements;
+        this.dirty = true;
     }
 
     public List<Goal> getGoals() {
+        materialize();
         return goals;
     }
 
     public void setGoals(List<Goal> goals) {
+        materialize();
         this.goals = goals;
+        this.dirty = true;
     }
 
     public Resume getResume() {
+        materialize();
         return resume;
     }
 
     public void setResume(Resume resume) {
+        materialize();
         this.resume = resume;
+        this.dirty = true;
     }
     
     // Backward compatibility getters and setters
@@ -183,6 +231,7 @@ public class User {
     public void setFirstName(String firstName) {
         this.firstName = firstName;
         updateFullName();
+        this.dirty = true;
     }
     
     public String getLastName() {
@@ -198,6 +247,7 @@ public class User {
     public void setLastName(String lastName) {
         this.lastName = lastName;
         updateFullName();
+        this.dirty = true;
     }
     
     private void updateFullName() {
@@ -212,6 +262,7 @@ public class User {
     
     public void setPhone(String phone) {
         this.phone = phone;
+        this.dirty = true;
     }
     
     public String getAddress() {
@@ -220,6 +271,7 @@ public class User {
     
     public void setAddress(String address) {
         this.address = address;
+        this.dirty = true;
     }
     
     public String getPassword() {
@@ -229,97 +281,243 @@ public class User {
     public void setPassword(String password) {
         this.password = password;
         this.passwordHash = password; // In production, this should be hashed
+        this.dirty = true;
     }
     
     public List<Goal> getShortTermGoals() {
+        materialize();
         if (shortTermGoals == null) {
-            shortTermGoals = new ArrayList<>();
-            if (goals != null) {
-                for (Goal goal : goals) {
-                    if (goal.isShortTerm()) {
-                        shortTermGoals.add(goal);
-                    }
-                }
-            }
+            shortTermGoals = goalsByTerm(true);
         }
         return shortTermGoals;
     }
     
     public void setShortTermGoals(List<Goal> shortTermGoals) {
+        materialize();
         this.shortTermGoals = shortTermGoals;
+        this.dirty = true;
     }
     
     public List<Goal> getLongTermGoals() {
+        materialize();
         if (longTermGoals == null) {
-            longTermGoals = new ArrayList<>();
-            if (goals != null) {
-                for (Goal goal : goals) {
-                    if (!goal.isShortTerm()) {
-                        longTermGoals.add(goal);
-                    }
-                }
-            }
+            longTermGoals = goalsByTerm(false);
         }
         return longTermGoals;
     }
     
     public void setLongTermGoals(List<Goal> longTermGoals) {
+        materialize();
         this.longTermGoals = longTermGoals;
+        this.dirty = true;
     }
 
     /**
      * Adds a job application to the user's job applications list
      */
     public void addJobApplication(Job job) {
+        materialize();
         jobApplications.add(job);
+        this.dirty = true;
     }
 
     /**
      * Removes a job application from the user's job applications list
      */
     public void removeJobApplication(Job job) {
+        materialize();
         jobApplications.remove(job);
+        this.dirty = true;
     }
 
     /**
      * Adds a skill to the user's skills list
      */
     public void addSkill(Skill skill) {
+        materialize();
         skills.add(skill);
+        this.dirty = true;
     }
 
     /**
      * Removes a skill from the user's skills list
      */
     public void removeSkill(Skill skill) {
+        materialize();
         skills.remove(skill);
+        this.dirty = true;
     }
 
     /**
      * Adds an achievement to the user's achievements list
      */
     public void addAchievement(Achievement achievement) {
+        materialize();
         achievements.add(achievement);
+        this.dirty = true;
     }
 
     /**
      * Removes an achievement from the user's achievements list
      */
     public void removeAchievement(Achievement achievement) {
+        materialize();
         achievements.remove(achievement);
+        this.dirty = true;
     }
 
     /**
      * Adds a goal to the goals list
      */
     public void addGoal(Goal goal) {
+        materialize();
         goals.add(goal);
+        this.dirty = true;
     }
 
     /**
      * Removes a goal from the goals list
      */
     public void removeGoal(Goal goal) {
+        materialize();
         goals.remove(goal);
+        this.dirty = true;
+    }
+
+    /**
+     * Defers decoding the jobs, skills, achievements, goals and resume until one of them
+     * is first accessed. A user whose sections are never opened never builds them.
+     *
+     * @param sectionLoader Decodes the sections on first access
+     */
+    public void setSectionLoader(SectionLoader sectionLoader) {
+        this.sectionLoader = sectionLoader;
+    }
+
+    /**
+     * Checks whether the jobs, skills, achievements, goals and resume are in memory.
+     *
+     * @return false if they are still waiting to be decoded
+     */
+    public boolean isMaterialized() {
+        return sectionLoader == null;
+    }
+
+    private void materialize() {
+        if (sectionLoader != null) {
+            materializeSections();
+        }
+    }
+
+    private synchronized void materializeSections() {
+        SectionLoader loader = sectionLoader;
+        if (loader == null) {
+            return; // Another thread got here first
+        }
+
+        List<Job> loadedJobs = new ArrayList<>();
+        List<Skill> loadedSkills = new ArrayList<>();
+        List<Achievement> loadedAchievements = new ArrayList<>();
+        List<Goal> loadedGoals = new ArrayList<>();
+        Resume loadedResume = loader.load(loadedJobs, loadedSkills, loadedAchievements, loadedGoals);
+
+        // The decoded sections match the stored user, so they start out clean
+        ChangeTracked.markAllClean(loadedJobs);
+        ChangeTracked.markAllClean(loadedSkills);
+        ChangeTracked.markAllClean(loadedAchievements);
+        ChangeTracked.markAllClean(loadedGoals);
+        if (loadedResume != null) {
+            loadedResume.markClean();
+        }
+
+        jobApplications = loadedJobs;
+        skills = loadedSkills;
+        achievements = loadedAchievements;
+        goals = loadedGoals;
+        resume = loadedResume;
+        shortTermGoals = null;
+        longTermGoals = null;
+        buildGoalLists();
+        cleanSizes = listSizes();
+        sectionLoader = null;
+    }
+
+    /**
+     * Checks whether the user or any of its jobs, skills, achievements, goals or resume
+     * changed since the last {@link #markClean()}.
+     */
+    @Override
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        if (sectionLoader != null) {
+            return false; // Sections that were never decoded cannot have changed
+        }
+        return !Arrays.equals(cleanSizes, listSizes())
+                || ChangeTracked.anyDirty(jobApplications)
+                || ChangeTracked.anyDirty(skills)
+                || ChangeTracked.anyDirty(achievements)
+                || ChangeTracked.anyDirty(goals)
+                || ChangeTracked.anyDirty(shortTermGoals)
+                || ChangeTracked.anyDirty(longTermGoals)
+                || (resume != null && resume.isDirty());
+    }
+
+    @Override
+    public void markClean() {
+        if (sectionLoader != null) {
+            dirty = false;
+            return;
+        }
+
+        buildGoalLists();
+        cleanSizes = listSizes();
+        dirty = false;
+        ChangeTracked.markAllClean(jobApplications);
+        ChangeTracked.markAllClean(skills);
+        ChangeTracked.markAllClean(achievements);
+        ChangeTracked.markAllClean(goals);
+        ChangeTracked.markAllClean(shortTermGoals);
+        ChangeTracked.markAllClean(longTermGoals);
+        if (resume != null) {
+            resume.markClean();
+        }
+    }
+
+    /**
+     * Marks the user as changed, for edits the user cannot see by itself.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    private List<Goal> goalsByTerm(boolean shortTerm) {
+        List<Goal> termGoals = new ArrayList<>();
+        if (goals != null) {
+            for (Goal goal : goals) {
+                if (goal.isShortTerm() == shortTerm) {
+                    termGoals.add(goal);
+                }
+            }
+        }
+        return termGoals;
+    }
+
+    /**
+     * Builds the derived goal lists now, as encoding would, so that doing so later
+     * does not look like an edit.
+     */
+    private void buildGoalLists() {
+        if (shortTermGoals == null) {
+            shortTermGoals = goalsByTerm(true);
+        }
+        if (longTermGoals == null) {
+            longTermGoals = goalsByTerm(false);
+        }
+    }
+
+    private int[] listSizes() {
+        return ChangeTracked.sizesOf(jobApplications, skills, achievements, goals, shortTermGoals, longTermGoals);
     }
 }
@@ -0,0 +1,453 @@
+package com.careerplanner.repository;
+
+import com.careerplanner.model.Job;
+import com.careerplanner.model.Resource;
+import com.careerplanner.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Storage backend that keeps everything in indexed maps in the heap. Users are indexed by
+ * id and by lower-cased email, jobs by id and by owning user, so every repository lookup is
+ * a map access or a scan of one user's jobs; nothing touches the network.
+ *
+ * <p>Meant for single-node deployments and tests; the data is lost when the process ends
+ * unless a subclass such as {@link JsonFileStorageBackend} persists it. Stored objects are
+ * kept by reference rather than copied. A saved job is also added to its owner's job list,
+ * so a user loaded from this backend carries the jobs stored for it.</p>
+ *
+ * <p>All repositories share one read-write lock, so concurrent reads do not block each
+ * other and every write is atomic.</p>
+ */
+public class InMemoryStorageBackend implements StorageBackend {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<Integer, User> users = new TreeMap<>();
+    private final Map<String, User> usersByEmail = new HashMap<>();
+    private final Map<Integer, String> emailKeys = new HashMap<>();
+    private final Map<Integer, Job> jobs = new HashMap<>();
+    private final Map<Integer, TreeMap<Integer, Job>> jobsByUser = new HashMap<>();
+    private final Map<Integer, Integer> jobOwners = new HashMap<>();
+    private final TreeMap<Integer, Resource> resources = new TreeMap<>();
+
+    private int lastUserId;
+    private int lastJobId;
+    private int lastResourceId;
+
+    private final UserRepository userRepository = new Users();
+    private final JobRepository jobRepository = new Jobs();
+    private final ResourceRepository resourceRepository = new Resources();
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public UserRepository users() {
+        return userRepository;
+    }
+
+    @Override
+    public JobRepository jobs() {
+        return jobRepository;
+    }
+
+    @Override
+    public ResourceRepository resources() {
+        return resourceRepository;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Called after every change, while the write lock is still held. Does nothing here;
+     * persistent subclasses schedule a write.
+     */
+    protected void changed() {
+    }
+
+    /**
+     * Gets the lock guarding the data, for subclasses that read all of it at once.
+     *
+     * @return The lock
+     */
+    protected ReadWriteLock getLock() {
+        return lock;
+    }
+
+    /**
+     * Adds a user loaded from elsewhere, keeping its id unless the id is missing or taken,
+     * and indexes the jobs in its job list. Does not call {@link #changed()}.
+     *
+     * @param user The user to add
+     */
+    protected void load(User user) {
+        lock.writeLock().lock();
+        try {
+            if (user.getId() <= 0 || users.containsKey(user.getId())) {
+                user.setId(0);
+            }
+            storeUser(user);
+            for (Job job : user.getJobApplications()) {
+                if (job.getId() <= 0 || jobs.containsKey(job.getId())) {
+                    job.setId(0);
+                }
+                job.setUserId(user.getId());
+                storeJob(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a resource loaded from elsewhere, as {@link #load(User)} does for users.
+     *
+     * @param resource The resource to add
+     */
+    protected void load(Resource resource) {
+        lock.writeLock().lock();
+        try {
+            if (resource.getId() <= 0 || resources.containsKey(resource.getId())) {
+                resource.setId(0);
+            }
+            storeResource(resource);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets all users, for subclasses that write them out.
+     *
+     * @return The users in id order
+     */
+    protected List<User> snapshotUsers() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(users.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets all resources, for subclasses that write them out.
+     *
+     * @return The resources in id order
+     */
+    protected List<Resource> snapshotResources() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(resources.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void storeUser(User user) {
+        if (user.getId() <= 0) {
+            user.setId(++lastUserId);
+        } else {
+            lastUserId = Math.max(lastUserId, user.getId());
+        }
+
+        String oldKey = emailKeys.remove(user.getId());
+        if (oldKey != null) {
+            usersByEmail.remove(oldKey);
+        }
+        users.put(user.getId(), user);
+        if (user.getEmail() != null) {
+            String key = user.getEmail().toLowerCase();
+            usersByEmail.put(key, user);
+            emailKeys.put(user.getId(), key);
+        }
+    }
+
+    private void storeJob(Job job) {
+        if (job.getId() <= 0) {
+            job.setId(++lastJobId);
+        } else {
+            lastJobId = Math.max(lastJobId, job.getId());
+        }
+
+        Integer previousOwner = jobOwners.put(job.getId(), job.getUserId());
+        if (previousOwner != null && previousOwner != job.getUserId()) {
+            unindexJob(job.getId(), previousOwner);
+        }
+        jobs.put(job.getId(), job);
+        jobsByUser.computeIfAbsent(job.getUserId(), id -> new TreeMap<>()).put(job.getId(), job);
+
+        User owner = users.get(job.getUserId());
+        if (owner != null && !containsIdentical(owner.getJobApplications(), job)) {
+            owner.addJobApplication(job);
+        }
+    }
+
+    private Job removeJob(int id) {
+        Job job = jobs.remove(id);
+        if (job != null) {
+            unindexJob(id, jobOwners.remove(id));
+        }
+        return job;
+    }
+
+    private void unindexJob(int id, int userId) {
+        TreeMap<Integer, Job> userJobs = jobsByUser.get(userId);
+        if (userJobs == null) {
+            return;
+        }
+        Job job = userJobs.remove(id);
+        if (userJobs.isEmpty()) {
+            jobsByUser.remove(userId);
+        }
+        User owner = users.get(userId);
+        if (job != null && owner != null) {
+            owner.removeJobApplication(job);
+        }
+    }
+
+    private void storeResource(Resource resource) {
+        if (resource.getId() <= 0) {
+            resource.setId(++lastResourceId);
+        } else {
+            lastResourceId = Math.max(lastResourceId, resource.getId());
+        }
+        resources.put(resource.getId(), resource);
+    }
+
+    private static boolean containsIdentical(List<Job> list, Job job) {
+        for (Job candidate : list) {
+            if (candidate == job) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Job> userJobs(int userId) {
+        TreeMap<Integer, Job> userJobs = jobsByUser.get(userId);
+        return userJobs != null ? new ArrayList<>(userJobs.values()) : new ArrayList<>();
+    }
+
+    private class Users implements UserRepository {
+        @Override
+        public Optional<User> findById(int id) {
+            lock.readLock().lock();
+            try {
+                return Optional.ofNullable(users.get(id));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            lock.readLock().lock();
+            try {
+                return Optional.ofNullable(usersByEmail.get(email.toLowerCase()));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public List<User> findAll() {
+            return snapshotUsers();
+        }
+
+        @Override
+        public User save(User user) {
+            lock.writeLock().lock();
+            try {
+                User sameEmail = user.getEmail() != null ? usersByEmail.get(user.getEmail().toLowerCase()) : null;
+                if (sameEmail != null && sameEmail.getId() != user.getId()) {
+                    throw new RepositoryException("Email already in use: " + user.getEmail());
+                }
+                storeUser(user);
+                changed();
+                return user;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean delete(int id) {
+            lock.writeLock().lock();
+            try {
+                User user = users.remove(id);
+                if (user == null) {
+                    return false;
+                }
+                String key = emailKeys.remove(id);
+                if (key != null) {
+                    usersByEmail.remove(key);
+                }
+                TreeMap<Integer, Job> userJobs = jobsByUser.remove(id);
+                if (userJobs != null) {
+                    for (Integer jobId : userJobs.keySet()) {
+                        jobs.remove(jobId);
+                        jobOwners.remove(jobId);
+                    }
+                }
+                changed();
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private class Jobs implements JobRepository {
+        @Override
+        public Optional<Job> findById(int id) {
+            lock.readLock().lock();
+            try {
+                return Optional.ofNullable(jobs.get(id));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public List<Job> findByUser(int userId) {
+            lock.readLock().lock();
+            try {
+                return userJobs(userId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public List<Job> findByUserAndStatus(int userId, Job.Status status) {
+            lock.readLock().lock();
+            try {
+                List<Job> result = userJobs(userId);
+                result.removeIf(job -> job.getStatus() != status);
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public List<Job> findWithDeadlineWithin(int userId, int days) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime until = now.plusDays(days);
+            lock.readLock().lock();
+            try {
+                List<Job> result = userJobs(userId);
+                result.removeIf(job -> job.getDeadlineDate() == null
+                        || job.getDeadlineDate().isBefore(now) || job.getDeadlineDate().isAfter(until));
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Job save(Job job) {
+            lock.writeLock().lock();
+            try {
+                storeJob(job);
+                changed();
+                return job;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public List<Job> saveAll(List<Job> jobList) {
+            lock.writeLock().lock();
+            try {
+                for (Job job : jobList) {
+                    storeJob(job);
+                }
+                changed();
+                return new ArrayList<>(jobList);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean delete(int id, int userId) {
+            lock.writeLock().lock();
+            try {
+                Integer owner = jobOwners.get(id);
+                if (owner == null || owner != userId) {
+                    return false;
+                }
+                removeJob(id);
+                changed();
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private class Resources implements ResourceRepository {
+        @Override
+        public Optional<Resource> findById(int id) {
+            lock.readLock().lock();
+            try {
+                return Optional.ofNullable(resources.get(id));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public List<Resource> findAll() {
+            return snapshotResources();
+        }
+
+        @Override
+        public List<Resource> findByType(Resource.Type type) {
+            List<Resource> result = findAll();
+            result.removeIf(resource -> resource.getType() != type);
+            return result;
+        }
+
+        @Override
+        public Resource save(Resource resource) {
+            lock.writeLock().lock();
+            try {
+                storeResource(resource);
+                changed();
+                return resource;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public boolean delete(int id) {
+            lock.writeLock().lock();
+            try {
+                boolean removed = resources.remove(id) != null;
+                if (removed) {
+                    changed();
+                }
+                return removed;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.careerplanner.repository;
+
+import com.careerplanner.model.Job;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage of job applications, independent of the backend that holds them.
+ */
+public interface JobRepository {
+
+    /**
+     * Finds a job by id.
+     *
+     * @param id The job id
+     * @return The job, or empty if there is none with this id
+     */
+    Optional<Job> findById(int id);
+
+    /**
+     * Gets all jobs of a user.
+     *
+     * @param userId The user id
+     * @return The jobs in id order
+     */
+    List<Job> findByUser(int userId);
+
+    /**
+     * Gets a user's jobs with a given status.
+     *
+     * @param userId The user id
+     * @param status The status
+     * @return The jobs in id order
+     */
+    List<Job> findByUserAndStatus(int userId, Job.Status status);
+
+    /**
+     * Gets a user's jobs whose deadline lies between now and the given number of days ahead.
+     *
+     * @param userId The user id
+     * @param days Number of days to look ahead
+     * @return The jobs
+     */
+    List<Job> findWithDeadlineWithin(int userId, int days);
+
+    /**
+     * Inserts a job without an id (id 0) and assigns it one, or updates an existing job.
+     *
+     * @param job The job to store, with its user id set
+     * @return The stored job
+     * @throws RepositoryException if the job cannot be stored
+     */
+    Job save(Job job);
+
+    /**
+     * Stores several jobs, as {@link #save(Job)} does for each.
+     *
+     * @param jobs The jobs to store
+     * @return The stored jobs
+     * @throws RepositoryException if the jobs cannot be stored
+     */
+    List<Job> saveAll(List<Job> jobs);
+
+    /**
+     * Deletes a job of a user.
+     *
+     * @param id The job id
+     * @param userId The id of the user the job belongs to
+     * @return true if a job was deleted
+     */
+    boolean delete(int id, int userId);
+}
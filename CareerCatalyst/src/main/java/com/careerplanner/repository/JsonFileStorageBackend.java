@@ -0,0 +1,113 @@
+package com.careerplanner.repository;
+
+import com.careerplanner.model.Resource;
+import com.careerplanner.model.User;
+import com.careerplanner.util.AtomicFiles;
+import com.careerplanner.util.JsonConverter;
+import com.careerplanner.util.JsonStreamReader;
+import com.careerplanner.util.PersistenceWorker;
+import org.json.simple.JSONArray;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Storage backend that keeps the data in users.json and resources.json, in the same format
+ * as {@link com.careerplanner.util.DataManager}. Both files are read into an
+ * {@link InMemoryStorageBackend} when the backend is opened, so lookups are as fast as there;
+ * every change marks the data dirty and a {@link PersistenceWorker} rewrites both files in
+ * the background, coalescing bursts of changes into one write.
+ */
+public class JsonFileStorageBackend extends InMemoryStorageBackend {
+    private static final long WRITE_DELAY_MILLIS = Long.getLong("careerplanner.writeBehind.delayMs", 250);
+
+    private final Path usersFile;
+    private final Path resourcesFile;
+    private final PersistenceWorker persistenceWorker;
+
+    /**
+     * Constructor for the JsonFileStorageBackend class.
+     * Reads the data files in the directory, if there are any.
+     *
+     * @param dataDirectory Directory holding users.json and resources.json
+     * @throws RepositoryException if the files cannot be read
+     */
+    public JsonFileStorageBackend(Path dataDirectory) {
+        this.usersFile = dataDirectory.resolve("users.json");
+        this.resourcesFile = dataDirectory.resolve("resources.json");
+
+        try {
+            Files.createDirectories(dataDirectory);
+            if (Files.exists(usersFile)) {
+                try (Reader reader = Files.newBufferedReader(usersFile)) {
+                    JsonStreamReader.read(reader, (arrayKey, userJson) ->
+                            load(JsonConverter.parseUserFromJSON(userJson)));
+                }
+            }
+            if (Files.exists(resourcesFile)) {
+                try (Reader reader = Files.newBufferedReader(resourcesFile)) {
+                    JsonStreamReader.read(reader, (arrayKey, resourceJson) ->
+                            load(JsonConverter.parseResourceFromJSON(resourceJson)));
+                }
+            }
+        } catch (IOException | ParseException e) {
+            throw new RepositoryException("Error loading data from " + dataDirectory, e);
+        }
+
+        persistenceWorker = new PersistenceWorker("careerplanner-json-backend", this::writeFiles, WRITE_DELAY_MILLIS);
+    }
+
+    @Override
+    public String getName() {
+        return "json";
+    }
+
+    @Override
+    protected void changed() {
+        persistenceWorker.markDirty();
+    }
+
+    /**
+     * Writes any pending changes and stops the background writer.
+     *
+     * @throws RepositoryException if the last changes could not be written
+     */
+    @Override
+    public void close() {
+        if (!persistenceWorker.shutdown()) {
+            throw new RepositoryException("Error writing data files " + usersFile + " and " + resourcesFile);
+        }
+    }
+
+    /**
+     * Writes both files from the current data. The data is encoded under the read lock so
+     * the files always reflect a state between two repository calls.
+     *
+     * @throws IOException if a file cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    private void writeFiles() throws IOException {
+        JSONArray usersJson = new JSONArray();
+        JSONArray resourcesJson = new JSONArray();
+
+        getLock().readLock().lock();
+        try {
+            List<User> users = snapshotUsers();
+            for (User user : users) {
+                usersJson.add(JsonConverter.convertUserToJSON(user));
+            }
+            for (Resource resource : snapshotResources()) {
+                resourcesJson.add(JsonConverter.convertResourceToJSON(resource));
+            }
+        } finally {
+            getLock().readLock().unlock();
+        }
+
+        AtomicFiles.write(usersFile, usersJson.toJSONString());
+        AtomicFiles.write(resourcesFile, resourcesJson.toJSONString());
+    }
+}
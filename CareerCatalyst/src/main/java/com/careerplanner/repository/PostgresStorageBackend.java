@@ -0,0 +1,228 @@
+package com.careerplanner.repository;
+
+import com.careerplanner.dao.JobDAO;
+import com.careerplanner.dao.ResourceDAO;
+import com.careerplanner.dao.UserDAO;
+import com.careerplanner.model.Job;
+import com.careerplanner.model.Resource;
+import com.careerplanner.model.User;
+import com.careerplanner.util.DatabaseManager;
+import com.careerplanner.util.UnitOfWork;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage backend on the PostgreSQL schema, implemented with the DAOs. Every repository
+ * call is one or a few statements on a pooled connection from
+ * {@link com.careerplanner.util.DatabaseManager}.
+ *
+ * <p>The DAOs report failures by returning empty results; a failed write is turned into a
+ * {@link RepositoryException} here. Users read from this backend carry only their account
+ * fields; their jobs are read through {@link #jobs()}.</p>
+ */
+public class PostgresStorageBackend implements StorageBackend {
+    private static final Comparator<Job> BY_ID = Comparator.comparingInt(Job::getId);
+
+    private final UserDAO userDAO;
+    private final JobDAO jobDAO;
+    private final ResourceDAO resourceDAO;
+
+    private final UserRepository userRepository = new Users();
+    private final JobRepository jobRepository = new Jobs();
+    private final ResourceRepository resourceRepository = new Resources();
+
+    /**
+     * Constructor for the PostgresStorageBackend class, using plain DAOs.
+     */
+    public PostgresStorageBackend() {
+        this(new UserDAO(), new JobDAO(), new ResourceDAO());
+    }
+
+    /**
+     * Constructor for the PostgresStorageBackend class, for example with the caching DAOs.
+     *
+     * @param userDAO DAO for users
+     * @param jobDAO DAO for jobs
+     * @param resourceDAO DAO for resources
+     */
+    public PostgresStorageBackend(UserDAO userDAO, JobDAO jobDAO, ResourceDAO resourceDAO) {
+        this.userDAO = userDAO;
+        this.jobDAO = jobDAO;
+        this.resourceDAO = resourceDAO;
+    }
+
+    @Override
+    public String getName() {
+        return "postgres";
+    }
+
+    @Override
+    public UserRepository users() {
+        return userRepository;
+    }
+
+    @Override
+    public JobRepository jobs() {
+        return jobRepository;
+    }
+
+    @Override
+    public ResourceRepository resources() {
+        return resourceRepository;
+    }
+
+    /**
+     * Does nothing; the connection pool belongs to DatabaseManager and is shut down with it.
+     */
+    @Override
+    public void close() {
+    }
+
+    private static List<Job> sortedById(List<Job> jobs) {
+        jobs.sort(BY_ID);
+        return jobs;
+    }
+
+    private class Users implements UserRepository {
+        @Override
+        public Optional<User> findById(int id) {
+            return userDAO.getUserById(id);
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return userDAO.getUserByEmail(email);
+        }
+
+        @Override
+        public List<User> findAll() {
+            return userDAO.getAllUsers();
+        }
+
+        @Override
+        public User save(User user) {
+            if (user.getId() <= 0) {
+                return userDAO.createUser(user)
+                        .orElseThrow(() -> new RepositoryException("Could not create user: " + user.getEmail()));
+            }
+            if (!userDAO.updateUser(user)) {
+                throw new RepositoryException("Could not update user with ID: " + user.getId());
+            }
+            return user;
+        }
+
+        @Override
+        public boolean delete(int id) {
+            // The user's jobs are removed by ON DELETE CASCADE
+            return userDAO.deleteUser(id);
+        }
+    }
+
+    private class Jobs implements JobRepository {
+        @Override
+        public Optional<Job> findById(int id) {
+            return jobDAO.getJobById(id);
+        }
+
+        @Override
+        public List<Job> findByUser(int userId) {
+            return sortedById(jobDAO.getJobsByUserId(userId));
+        }
+
+        @Override
+        public List<Job> findByUserAndStatus(int userId, Job.Status status) {
+            return sortedById(jobDAO.getJobsByUserIdAndStatus(userId, status));
+        }
+
+        @Override
+        public List<Job> findWithDeadlineWithin(int userId, int days) {
+            return jobDAO.getJobsWithDeadlinesInDays(userId, days);
+        }
+
+        @Override
+        public Job save(Job job) {
+            if (job.getId() <= 0) {
+                return jobDAO.createJob(job)
+                        .orElseThrow(() -> new RepositoryException("Could not create job: " + job.getPosition()));
+            }
+            if (!jobDAO.updateJob(job)) {
+                throw new RepositoryException("Could not update job with ID: " + job.getId());
+            }
+            return job;
+        }
+
+        @Override
+        public List<Job> saveAll(List<Job> jobs) {
+            List<Job> created = new ArrayList<>();
+            List<Job> updated = new ArrayList<>();
+            for (Job job : jobs) {
+                (job.getId() <= 0 ? created : updated).add(job);
+            }
+
+            // Both calls are batched: one multi-row INSERT per chunk and one JDBC batch of UPDATEs,
+            // in one transaction so that a failure leaves none of the jobs saved
+            boolean committed = false;
+            try (UnitOfWork work = DatabaseManager.getInstance().beginUnitOfWork()) {
+                if (!created.isEmpty() && jobDAO.createJobs(created).size() != created.size()) {
+                    throw new RepositoryException("Could not create " + created.size() + " jobs");
+                }
+                if (!updated.isEmpty() && jobDAO.updateJobs(updated) != updated.size()) {
+                    throw new RepositoryException("Could not update " + updated.size() + " jobs");
+                }
+                work.commit();
+                committed = true;
+            } catch (SQLException e) {
+                throw new RepositoryException("Could not save " + jobs.size() + " jobs", e);
+            } finally {
+                // The inserts were rolled back, so the ids they handed out are not valid
+                if (!committed) {
+                    created.forEach(job -> job.setId(0));
+                }
+            }
+            return new ArrayList<>(jobs);
+        }
+
+        @Override
+        public boolean delete(int id, int userId) {
+            return jobDAO.deleteJob(id, userId);
+        }
+    }
+
+    private class Resources implements ResourceRepository {
+        @Override
+        public Optional<Resource> findById(int id) {
+            return resourceDAO.getResourceById(id);
+        }
+
+        @Override
+        public List<Resource> findAll() {
+            return resourceDAO.getAllResources();
+        }
+
+        @Override
+        public List<Resource> findByType(Resource.Type type) {
+            return resourceDAO.getResourcesByType(type);
+        }
+
+        @Override
+        public Resource save(Resource resource) {
+            if (resource.getId() <= 0) {
+                return resourceDAO.createResource(resource)
+                        .orElseThrow(() -> new RepositoryException("Could not create resource: " + resource.getTitle()));
+            }
+            if (!resourceDAO.updateResource(resource)) {
+                throw new RepositoryException("Could not update resource with ID: " + resource.getId());
+            }
+            return resource;
+        }
+
+        @Override
+        public boolean delete(int id) {
+            return resourceDAO.deleteResource(id);
+        }
+    }
+}
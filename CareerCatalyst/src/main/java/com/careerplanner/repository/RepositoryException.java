@@ -0,0 +1,17 @@
+package com.careerplanner.repository;
+
+/**
+ * Thrown when a repository cannot store data, for example because the database rejected
+ * the write or the data file cannot be written.
+ */
+public class RepositoryException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public RepositoryException(String message) {
+        super(message);
+    }
+
+    public RepositoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
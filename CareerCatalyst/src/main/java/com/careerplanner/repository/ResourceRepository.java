@@ -0,0 +1,52 @@
+package com.careerplanner.repository;
+
+import com.careerplanner.model.Resource;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage of the shared learning resources, independent of the backend that holds them.
+ */
+public interface ResourceRepository {
+
+    /**
+     * Finds a resource by id.
+     *
+     * @param id The resource id
+     * @return The resource, or empty if there is none with this id
+     */
+    Optional<Resource> findById(int id);
+
+    /**
+     * Gets all resources.
+     *
+     * @return The resources in id order
+     */
+    List<Resource> findAll();
+
+    /**
+     * Gets the resources of one type.
+     *
+     * @param type The resource type
+     * @return The resources in id order
+     */
+    List<Resource> findByType(Resource.Type type);
+
+    /**
+     * Inserts a resource without an id (id 0) and assigns it one, or updates an existing one.
+     *
+     * @param resource The resource to store
+     * @return The stored resource
+     * @throws RepositoryException if the resource cannot be stored
+     */
+    Resource save(Resource resource);
+
+    /**
+     * Deletes a resource.
+     *
+     * @param id The resource id
+     * @return true if a resource was deleted
+     */
+    boolean delete(int id);
+}
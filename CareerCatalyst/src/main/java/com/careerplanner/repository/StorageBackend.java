@@ -0,0 +1,27 @@
+package com.careerplanner.repository;
+
+/**
+ * A set of repositories backed by the same storage. Create one with
+ * {@link StorageBackends#open(String)}.
+ */
+public interface StorageBackend extends AutoCloseable {
+
+    /**
+     * Gets the backend's name as accepted by {@link StorageBackends#open(String)}.
+     *
+     * @return The name
+     */
+    String getName();
+
+    UserRepository users();
+
+    JobRepository jobs();
+
+    ResourceRepository resources();
+
+    /**
+     * Writes out anything that is still buffered and releases the backend's resources.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,51 @@
+package com.careerplanner.repository;
+
+import java.nio.file.Paths;
+
+/**
+ * Opens the storage backend selected by name. The names are:
+ * <ul>
+ *   <li>{@code memory}: {@link InMemoryStorageBackend}, nothing is persisted</li>
+ *   <li>{@code json}: {@link JsonFileStorageBackend} on the directory given by
+ *       {@code -Dcareerplanner.data.dir}, the same files DataManager uses</li>
+ *   <li>{@code postgres}: {@link PostgresStorageBackend} on the database configured by
+ *       DATABASE_URL, PGUSER and PGPASSWORD</li>
+ * </ul>
+ */
+public final class StorageBackends {
+    private static final String DEFAULT_DATA_DIRECTORY = "src/main/resources/data/";
+
+    private StorageBackends() {
+    }
+
+    /**
+     * Opens the backend selected with {@code -Dcareerplanner.backend}, json by default.
+     *
+     * @return The opened backend
+     */
+    public static StorageBackend open() {
+        return open(System.getProperty("careerplanner.backend", "json"));
+    }
+
+    /**
+     * Opens a backend by name.
+     *
+     * @param name memory, json or postgres
+     * @return The opened backend
+     * @throws IllegalArgumentException if the name is unknown
+     * @throws RepositoryException if the backend's data cannot be read
+     */
+    public static StorageBackend open(String name) {
+        switch (name) {
+            case "memory":
+                return new InMemoryStorageBackend();
+            case "json":
+                return new JsonFileStorageBackend(
+                        Paths.get(System.getProperty("careerplanner.data.dir", DEFAULT_DATA_DIRECTORY)));
+            case "postgres":
+                return new PostgresStorageBackend();
+            default:
+                throw new IllegalArgumentException("Unknown storage backend: " + name);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.careerplanner.repository;
+
+import com.careerplanner.model.User;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage of users, independent of the backend that holds them.
+ * A user's jobs are stored through {@link JobRepository}.
+ */
+public interface UserRepository {
+
+    /**
+     * Finds a user by id.
+     *
+     * @param id The user id
+     * @return The user, or empty if there is none with this id
+     */
+    Optional<User> findById(int id);
+
+    /**
+     * Finds a user by email, ignoring case.
+     *
+     * @param email The email address
+     * @return The user, or empty if there is none with this email
+     */
+    Optional<User> findByEmail(String email);
+
+    /**
+     * Gets all users.
+     *
+     * @return The users in id order
+     */
+    List<User> findAll();
+
+    /**
+     * Inserts a user without an id (id 0) and assigns it one, or updates an existing user.
+     *
+     * @param user The user to store
+     * @return The stored user
+     * @throws RepositoryException if the user cannot be stored
+     */
+    User save(User user);
+
+    /**
+     * Deletes a user together with the user's jobs.
+     *
+     * @param id The user id
+     * @return true if a user was deleted
+     */
+    boolean delete(int id);
+}
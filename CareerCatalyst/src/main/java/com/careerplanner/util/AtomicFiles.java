@@ -0,0 +1,82 @@
+package com.careerplanner.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Helper for replacing data files without ever leaving a half-written file behind.
+ * Content is written to a temporary file in the same directory, forced to disk
+ * and then renamed over the target in a single step.
+ */
+public final class AtomicFiles {
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Atomically replaces the target file with the given text.
+     *
+     * @param target The file to replace
+     * @param content The new file content
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path target, String content) throws IOException {
+        write(target, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Atomically replaces the target file with the given bytes.
+     *
+     * @param target The file to replace
+     * @param content The new file content
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path target, byte[] content) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // Not Files.createTempFile, which would give the data file owner-only permissions
+        Path temp = directory.resolve(target.getFileName() + "." + System.nanoTime() + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE_NEW)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        syncDirectory(directory);
+    }
+
+    /**
+     * Forces the directory entry of a rename to disk. Not every platform allows
+     * opening a directory, so failures are ignored.
+     *
+     * @param directory The directory to sync
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directory fsync is best effort (not supported on Windows)
+        }
+    }
+}
@@ -0,0 +1,707 @@
+package com.careerplanner.util;
+
+import com.careerplanner.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, versioned binary format for the DataManager store.
+ *
+ * <p>Layout of a snapshot:</p>
+ * <pre>
+ * magic "CCBS", format version          varint
+ * dictionary    count, then UTF-8 strings
+ * users         count, then length-prefixed user records
+ * resources     count, then length-prefixed resource records
+ * </pre>
+ *
+ * <p>Integers are zigzag varints, dates are epoch days, enums are ordinals and
+ * low-cardinality strings (company names, locations, skill names, providers, ...)
+ * are indexes into the shared dictionary. Within a user record the jobs, skills,
+ * achievements, goals and resume are each written as a length-prefixed section.</p>
+ *
+ * <p>A codec instance owns its dictionary, which only grows. Records encoded by the same
+ * instance therefore stay valid across saves and can be cached and reused as-is.
+ * {@link #load(byte[])} adopts the dictionary of the loaded snapshot, so its records can
+ * be reused too, and only decodes a user's sections when they are first accessed.</p>
+ */
+public class BinarySnapshotCodec {
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {'C', 'C', 'B', 'S'};
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> dictionaryIndex = new HashMap<>();
+
+    /**
+     * Decoded contents of a snapshot.
+     */
+    public static class Snapshot {
+        private final List<User> users;
+        private final List<Resource> resources;
+        private final List<byte[]> userRecords;
+        private final String[] dictionary;
+
+        Snapshot(List<User> users, List<Resource> resources, List<byte[]> userRecords, String[] dictionary) {
+            this.users = users;
+            this.resources = resources;
+            this.userRecords = userRecords;
+            this.dictionary = dictionary;
+        }
+
+        public List<User> getUsers() {
+            return users;
+        }
+
+        public List<Resource> getResources() {
+            return resources;
+        }
+
+        /**
+         * @return The encoded record of each user, in user order, or null if not kept
+         */
+        List<byte[]> getUserRecords() {
+            return userRecords;
+        }
+    }
+
+    /**
+     * Encodes a complete snapshot.
+     *
+     * @param users The users to encode
+     * @param resources The resources to encode
+     * @return The encoded snapshot
+     */
+    public byte[] encode(List<User> users, List<Resource> resources) {
+        List<byte[]> userRecords = new ArrayList<>(users.size());
+        for (User user : users) {
+            userRecords.add(encodeUser(user));
+        }
+
+        List<byte[]> resourceRecords = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            resourceRecords.add(encodeResource(resource));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writeSnapshot(out, userRecords, resourceRecords);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Cannot happen for an in-memory stream
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes a snapshot from already encoded records. The records must have been
+     * produced by this codec instance so their dictionary references are valid.
+     *
+     * @param out The stream to write to
+     * @param userRecords Encoded user records
+     * @param resourceRecords Encoded resource records
+     * @throws IOException if the stream cannot be written
+     */
+    public synchronized void writeSnapshot(OutputStream out, List<byte[]> userRecords,
+                                           List<byte[]> resourceRecords) throws IOException {
+        Output header = new Output();
+        header.write(MAGIC, 0, MAGIC.length);
+        header.writeVarint(VERSION);
+        header.writeVarint(dictionary.size());
+        for (String value : dictionary) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            header.writeVarint(bytes.length);
+            header.write(bytes, 0, bytes.length);
+        }
+        header.writeTo(out);
+
+        writeRecords(out, userRecords);
+        writeRecords(out, resourceRecords);
+    }
+
+    /**
+     * Encodes a single user record.
+     *
+     * @param user The user to encode
+     * @return The encoded record
+     */
+    public synchronized byte[] encodeUser(User user) {
+        Output out = new Output();
+        out.writeInt(user.getId());
+        out.writeString(user.getFirstName());
+        out.writeString(user.getLastName());
+        out.writeString(user.getEmail());
+        out.writeString(user.getPassword());
+        out.writeString(user.getPhone());
+        out.writeString(user.getAddress());
+
+        Output jobs = new Output();
+        jobs.writeVarint(user.getJobApplications().size());
+        for (Job job : user.getJobApplications()) {
+            jobs.writeInt(job.getId());
+            writeDictString(jobs, job.getCompanyName());
+            writeDictString(jobs, job.getPosition());
+            writeDictString(jobs, job.getLocation());
+            jobs.writeString(job.getDescription());
+            jobs.writeString(job.getUrl());
+            jobs.writeVarint(job.getStatus().ordinal());
+            jobs.writeDate(job.getDateAdded());
+            jobs.writeDate(job.getApplicationDeadline());
+            jobs.writeDate(job.getLastUpdated());
+            jobs.writeString(job.getNotes());
+        }
+        out.writeSection(jobs);
+
+        Output skills = new Output();
+        skills.writeVarint(user.getSkills().size());
+        for (Skill skill : user.getSkills()) {
+            skills.writeInt(skill.getId());
+            writeDictString(skills, skill.getName());
+            skills.writeVarint(skill.getProficiencyLevel().ordinal());
+            skills.writeVarint(skill.getCategory().ordinal());
+            skills.writeString(skill.getDescription());
+            skills.writeBoolean(skill.isIncludeInResume());
+        }
+        out.writeSection(skills);
+
+        Output achievements = new Output();
+        achievements.writeVarint(user.getAchievements().size());
+        for (Achievement achievement : user.getAchievements()) {
+            achievements.writeInt(achievement.getId());
+            achievements.writeString(achievement.getTitle());
+            achievements.writeString(achievement.getDescription());
+            achievements.writeDate(achievement.getDate());
+            achievements.writeVarint(achievement.getType().ordinal());
+            achievements.writeBoolean(achievement.isIncludeInResume());
+        }
+        out.writeSection(achievements);
+
+        Output goals = new Output();
+        List<Goal> allGoals = new ArrayList<>(user.getShortTermGoals());
+        allGoals.addAll(user.getLongTermGoals());
+        goals.writeVarint(allGoals.size());
+        for (Goal goal : allGoals) {
+            goals.writeInt(goal.getId());
+            goals.writeString(goal.getTitle());
+            goals.writeString(goal.getDescription());
+            goals.writeBoolean(goal.isShortTerm());
+            goals.writeVarint(goal.getStatus().ordinal());
+            goals.writeDate(goal.getTargetDate());
+            goals.writeDate(goal.getCompletionDate());
+            goals.writeString(goal.getActionPlan());
+        }
+        out.writeSection(goals);
+
+        out.writeSection(encodeResume(user.getResume()));
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes a single resource record.
+     *
+     * @param resource The resource to encode
+     * @return The encoded record
+     */
+    public synchronized byte[] encodeResource(Resource resource) {
+        Output out = new Output();
+        out.writeInt(resource.getId());
+        out.writeString(resource.getTitle());
+        out.writeString(resource.getDescription());
+        out.writeVarint(resource.getType().ordinal());
+        out.writeString(resource.getUrl());
+        writeDictString(out, resource.getAuthor());
+        writeDictString(out, resource.getProvider());
+        out.writeDouble(resource.getRating());
+        out.writeBoolean(resource.isCompleted());
+        out.writeString(resource.getNotes());
+        return out.toByteArray();
+    }
+
+    private Output encodeResume(Resume resume) {
+        Output out = new Output();
+        out.writeString(resume.getId());
+        writeDictString(out, resume.getTitle());
+        out.writeVarint(resume.getTemplate().ordinal());
+        out.writeString(resume.getSummary());
+
+        out.writeVarint(resume.getEducationList().size());
+        for (Resume.Education education : resume.getEducationList()) {
+            writeDictString(out, education.getDegree());
+            writeDictString(out, education.getInstitution());
+            writeDictString(out, education.getLocation());
+            writeDictString(out, education.getStartDate());
+            writeDictString(out, education.getEndDate());
+            out.writeString(education.getDescription());
+            writeDictString(out, education.getGpa());
+        }
+
+        out.writeVarint(resume.getWorkExperienceList().size());
+        for (Resume.Experience experience : resume.getWorkExperienceList()) {
+            writeDictString(out, experience.getPosition());
+            writeDictString(out, experience.getCompany());
+            writeDictString(out, experience.getLocation());
+            writeDictString(out, experience.getStartDate());
+            writeDictString(out, experience.getEndDate());
+            out.writeString(experience.getDescription());
+            out.writeVarint(experience.getResponsibilities().size());
+            for (String responsibility : experience.getResponsibilities()) {
+                out.writeString(responsibility);
+            }
+        }
+
+        out.writeVarint(resume.getProjectsList().size());
+        for (Resume.Project project : resume.getProjectsList()) {
+            out.writeString(project.getName());
+            out.writeString(project.getDescription());
+            writeDictString(out, project.getStartDate());
+            writeDictString(out, project.getEndDate());
+            out.writeString(project.getTechnologies());
+            out.writeString(project.getUrl());
+        }
+
+        out.writeVarint(resume.getLanguages().size());
+        for (String language : resume.getLanguages()) {
+            writeDictString(out, language);
+        }
+
+        out.writeVarint(resume.getReferences().size());
+        for (String reference : resume.getReferences()) {
+            out.writeString(reference);
+        }
+
+        out.writeString(resume.getAdditionalInfo());
+        return out;
+    }
+
+    private void writeDictString(Output out, String value) {
+        if (value == null) {
+            out.writeVarint(0);
+            return;
+        }
+
+        Integer index = dictionaryIndex.get(value);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.add(value);
+            dictionaryIndex.put(value, index);
+        }
+        out.writeVarint(index + 1);
+    }
+
+    private static void writeRecords(OutputStream out, List<byte[]> records) throws IOException {
+        Output count = new Output();
+        count.writeVarint(records.size());
+        count.writeTo(out);
+
+        for (byte[] record : records) {
+            Output length = new Output();
+            length.writeVarint(record.length);
+            length.writeTo(out);
+            out.write(record);
+        }
+    }
+
+    /**
+     * Decodes a snapshot.
+     *
+     * @param data The encoded snapshot
+     * @return The decoded users and resources
+     * @throws IOException if the data is not a snapshot of a supported version
+     */
+    public static Snapshot decode(byte[] data) throws IOException {
+        try {
+            return decodeSnapshot(data, false);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt binary snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads a snapshot into this codec. Only the users' scalar fields are decoded up front;
+     * their jobs, skills, achievements, goals and resume are decoded from the user record
+     * when first accessed (see {@link User#setSectionLoader}). The codec takes over the
+     * snapshot's dictionary, so the records returned by {@link Snapshot#getUserRecords()}
+     * are valid records of this codec and can be written again without re-encoding.
+     *
+     * @param data The encoded snapshot
+     * @return The users, resources and user records
+     * @throws IOException if the data is not a snapshot of a supported version
+     * @throws IllegalStateException if this codec has already encoded or loaded data
+     */
+    public synchronized Snapshot load(byte[] data) throws IOException {
+        if (!dictionary.isEmpty()) {
+            throw new IllegalStateException("Codec dictionary is already in use");
+        }
+
+        Snapshot snapshot;
+        try {
+            snapshot = decodeSnapshot(data, true);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt binary snapshot: " + e.getMessage(), e);
+        }
+
+        for (String value : snapshot.dictionary) {
+            dictionaryIndex.put(value, dictionary.size());
+            dictionary.add(value);
+        }
+        return snapshot;
+    }
+
+    private static Snapshot decodeSnapshot(byte[] data, boolean lazy) throws IOException {
+        Input in = new Input(data, 0, data.length);
+        for (byte expected : MAGIC) {
+            if (in.readByte() != expected) {
+                throw new IOException("Not a binary snapshot");
+            }
+        }
+
+        int version = in.readVarint();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + version);
+        }
+
+        String[] strings = new String[in.readVarint()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = in.readVarint();
+            strings[i] = new String(data, in.position, length, StandardCharsets.UTF_8);
+            in.position += length;
+        }
+        in.dictionary = strings;
+
+        int userCount = in.readVarint();
+        List<User> users = new ArrayList<>(userCount);
+        List<byte[]> userRecords = lazy ? new ArrayList<>(userCount) : null;
+        for (int i = 0; i < userCount; i++) {
+            Input record = in.slice(in.readVarint());
+            if (lazy) {
+                // Copy the record so the lazy sections do not keep the whole file alive
+                byte[] recordBytes = Arrays.copyOfRange(data, record.position, record.limit);
+                Input copy = new Input(recordBytes, 0, recordBytes.length);
+                copy.dictionary = strings;
+                userRecords.add(recordBytes);
+                users.add(decodeUser(copy, true));
+            } else {
+                users.add(decodeUser(record, false));
+            }
+        }
+
+        int resourceCount = in.readVarint();
+        List<Resource> resources = new ArrayList<>(resourceCount);
+        for (int i = 0; i < resourceCount; i++) {
+            resources.add(decodeResource(in.slice(in.readVarint())));
+        }
+
+        return new Snapshot(users, resources, userRecords, strings);
+    }
+
+    private static User decodeUser(Input in, boolean lazy) {
+        User user = new User();
+        user.setId(in.readInt());
+        user.setFirstName(in.readString());
+        user.setLastName(in.readString());
+        user.setEmail(in.readString());
+        user.setPassword(in.readString());
+        user.setPhone(in.readString());
+        user.setAddress(in.readString());
+
+        if (lazy) {
+            Input sections = in.slice(in.limit - in.position);
+            user.setSectionLoader((jobList, skillList, achievementList, goalList) ->
+                    decodeSections(sections, jobList, skillList, achievementList, goalList));
+        } else {
+            user.setResume(decodeSections(in, user.getJobApplications(), user.getSkills(),
+                    user.getAchievements(), user.getGoals()));
+        }
+        return user;
+    }
+
+    private static Resume decodeSections(Input in, List<Job> jobList, List<Skill> skillList,
+                                         List<Achievement> achievementList, List<Goal> goalList) {
+        Input jobs = in.slice(in.readVarint());
+        for (int i = jobs.readVarint(); i > 0; i--) {
+            Job job = new Job();
+            job.setId(jobs.readInt());
+            job.setCompanyName(jobs.readDictString());
+            job.setPosition(jobs.readDictString());
+            job.setLocation(jobs.readDictString());
+            job.setDescription(jobs.readString());
+            job.setUrl(jobs.readString());
+            job.setStatus(Job.Status.values()[jobs.readVarint()]);
+            job.setDateAdded(jobs.readDate());
+            job.setApplicationDeadline(jobs.readDate());
+            LocalDate lastUpdated = jobs.readDate();
+            job.setNotes(jobs.readString());
+            job.setLastUpdated(lastUpdated);
+            jobList.add(job);
+        }
+
+        Input skills = in.slice(in.readVarint());
+        for (int i = skills.readVarint(); i > 0; i--) {
+            Skill skill = new Skill();
+            skill.setId(skills.readInt());
+            skill.setName(skills.readDictString());
+            skill.setProficiencyLevel(Skill.ProficiencyLevel.values()[skills.readVarint()]);
+            skill.setCategory(Skill.Category.values()[skills.readVarint()]);
+            skill.setDescription(skills.readString());
+            skill.setIncludeInResume(skills.readBoolean());
+            skillList.add(skill);
+        }
+
+        Input achievements = in.slice(in.readVarint());
+        for (int i = achievements.readVarint(); i > 0; i--) {
+            Achievement achievement = new Achievement();
+            achievement.setId(achievements.readInt());
+            achievement.setTitle(achievements.readString());
+            achievement.setDescription(achievements.readString());
+            achievement.setDate(achievements.readDate());
+            achievement.setType(Achievement.Type.values()[achievements.readVarint()]);
+            achievement.setIncludeInResume(achievements.readBoolean());
+            achievementList.add(achievement);
+        }
+
+        Input goals = in.slice(in.readVarint());
+        for (int i = goals.readVarint(); i > 0; i--) {
+            Goal goal = new Goal();
+            goal.setId(goals.readInt());
+            goal.setTitle(goals.readString());
+            goal.setDescription(goals.readString());
+            goal.setShortTerm(goals.readBoolean());
+            goal.setStatus(Goal.Status.values()[goals.readVarint()]);
+            goal.setTargetDate(goals.readDate());
+            goal.setCompletionDate(goals.readDate());
+            goal.setActionPlan(goals.readString());
+            goalList.add(goal);
+        }
+
+        return decodeResume(in.slice(in.readVarint()));
+    }
+
+    private static Resume decodeResume(Input in) {
+        Resume resume = new Resume();
+        resume.setId(in.readString());
+        resume.setTitle(in.readDictString());
+        resume.setTemplate(Resume.Template.values()[in.readVarint()]);
+        resume.setSummary(in.readString());
+
+        for (int i = in.readVarint(); i > 0; i--) {
+            Resume.Education education = new Resume.Education();
+            education.setDegree(in.readDictString());
+            education.setInstitution(in.readDictString());
+            education.setLocation(in.readDictString());
+            education.setStartDate(in.readDictString());
+            education.setEndDate(in.readDictString());
+            education.setDescription(in.readString());
+            education.setGpa(in.readDictString());
+            resume.addEducation(education);
+        }
+
+        for (int i = in.readVarint(); i > 0; i--) {
+            Resume.Experience experience = new Resume.Experience();
+            experience.setPosition(in.readDictString());
+            experience.setCompany(in.readDictString());
+            experience.setLocation(in.readDictString());
+            experience.setStartDate(in.readDictString());
+            experience.setEndDate(in.readDictString());
+            experience.setDescription(in.readString());
+            for (int j = in.readVarint(); j > 0; j--) {
+                experience.addResponsibility(in.readString());
+            }
+            resume.addWorkExperience(experience);
+        }
+
+        for (int i = in.readVarint(); i > 0; i--) {
+            Resume.Project project = new Resume.Project();
+            project.setName(in.readString());
+            project.setDescription(in.readString());
+            project.setStartDate(in.readDictString());
+            project.setEndDate(in.readDictString());
+            project.setTechnologies(in.readString());
+            project.setUrl(in.readString());
+            resume.addProject(project);
+        }
+
+        for (int i = in.readVarint(); i > 0; i--) {
+            resume.addLanguage(in.readDictString());
+        }
+
+        for (int i = in.readVarint(); i > 0; i--) {
+            resume.addReference(in.readString());
+        }
+
+        resume.setAdditionalInfo(in.readString());
+        return resume;
+    }
+
+    private static Resource decodeResource(Input in) {
+        Resource resource = new Resource();
+        resource.setId(in.readInt());
+        resource.setTitle(in.readString());
+        resource.setDescription(in.readString());
+        resource.setType(Resource.Type.values()[in.readVarint()]);
+        resource.setUrl(in.readString());
+        resource.setAuthor(in.readDictString());
+        resource.setProvider(in.readDictString());
+        resource.setRating(in.readDouble());
+        resource.setCompleted(in.readBoolean());
+        resource.setNotes(in.readString());
+        return resource;
+    }
+
+    /**
+     * Growable output buffer with the primitive encodings used by the format.
+     */
+    static class Output extends ByteArrayOutputStream {
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeInt(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        void writeBoolean(boolean value) {
+            write(value ? 1 : 0);
+        }
+
+        void writeDouble(double value) {
+            long bits = Double.doubleToLongBits(value);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (bits >>> shift));
+            }
+        }
+
+        /**
+         * Writes a nullable date as epoch day + 1, with 0 meaning null.
+         */
+        void writeDate(LocalDate date) {
+            if (date == null) {
+                writeInt(0);
+            } else {
+                long epochDay = date.toEpochDay();
+                writeInt((int) (epochDay >= 0 ? epochDay + 1 : epochDay));
+            }
+        }
+
+        /**
+         * Writes a nullable inline string as byte length + 1, with 0 meaning null.
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeSection(Output section) {
+            writeVarint(section.size());
+            write(section.buf, 0, section.size());
+        }
+    }
+
+    /**
+     * Cursor over a region of an encoded snapshot.
+     */
+    static class Input {
+        private final byte[] data;
+        private final int limit;
+        private int position;
+        private String[] dictionary;
+
+        Input(byte[] data, int position, int limit) {
+            this.data = data;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        /**
+         * Returns a cursor over the next {@code length} bytes and skips past them.
+         */
+        Input slice(int length) {
+            if (position + length > limit) {
+                throw new IllegalArgumentException("Truncated binary snapshot");
+            }
+            Input slice = new Input(data, position, position + length);
+            slice.dictionary = dictionary;
+            position += length;
+            return slice;
+        }
+
+        byte readByte() {
+            if (position >= limit) {
+                throw new IllegalArgumentException("Truncated binary snapshot");
+            }
+            return data[position++];
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        int readInt() {
+            int raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        double readDouble() {
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | (readByte() & 0xFF);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        LocalDate readDate() {
+            int value = readInt();
+            if (value == 0) {
+                return null;
+            }
+            return LocalDate.ofEpochDay(value > 0 ? value - 1 : value);
+        }
+
+        String readString() {
+            int length = readVarint();
+            if (length == 0) {
+                return null;
+            }
+            length--;
+            if (position + length > limit) {
+                throw new IllegalArgumentException("Truncated binary snapshot");
+            }
+            String value = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String readDictString() {
+            int index = readVarint();
+            return index == 0 ? null : dictionary[index - 1];
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.careerplanner.util;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of data changes.
+ * Each record is written as a single line of the form {@code <seq> <crc32> <json>}
+ * and forced to disk before the append returns. A record whose line is incomplete
+ * or whose checksum does not match is treated as the torn tail of an interrupted
+ * write: replay stops there and the file is truncated back to the last good record.
+ */
+public class ChangeJournal implements Closeable {
+    private final Path path;
+    private FileChannel channel;
+    private long lastSeq;
+    private int recordCount;
+
+    /**
+     * Constructor for the ChangeJournal class.
+     *
+     * @param path The journal file
+     */
+    public ChangeJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Replays all records with a sequence number greater than {@code afterSeq}
+     * and opens the journal for appending.
+     *
+     * @param afterSeq Sequence number already contained in the snapshot
+     * @param handler Callback receiving each record in order
+     * @return The number of records applied
+     * @throws IOException if the journal cannot be read or opened
+     */
+    public synchronized int replay(long afterSeq, Consumer<JSONObject> handler) throws IOException {
+        lastSeq = afterSeq;
+        recordCount = 0;
+        int applied = 0;
+        long validLength = 0;
+
+        if (Files.exists(path)) {
+            byte[] data = Files.readAllBytes(path);
+            JSONParser parser = new JSONParser();
+            int lineStart = 0;
+
+            while (lineStart < data.length) {
+                int lineEnd = indexOf(data, (byte) '\n', lineStart);
+                if (lineEnd < 0) {
+                    break; // Incomplete last record
+                }
+
+                JSONObject record = decode(parser, new String(data, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8));
+                if (record == null) {
+                    break; // Corrupt record, everything after it is untrusted
+                }
+
+                long seq = ((Number) record.get("seq")).longValue();
+                if (seq > afterSeq) {
+                    handler.accept(record);
+                    applied++;
+                }
+                lastSeq = Math.max(lastSeq, seq);
+                recordCount++;
+                lineStart = lineEnd + 1;
+                validLength = lineStart;
+            }
+
+            if (validLength < data.length) {
+                System.err.println("Discarding " + (data.length - validLength) + " bytes of incomplete journal data");
+            }
+        }
+
+        openChannel();
+        if (channel.size() > validLength) {
+            channel.truncate(validLength);
+            channel.force(true);
+        }
+        channel.position(validLength);
+        return applied;
+    }
+
+    /**
+     * Appends a record to the journal and forces it to disk.
+     * The record is assigned the next sequence number under the key {@code seq}.
+     *
+     * @param record The record to append
+     * @return The sequence number assigned to the record
+     * @throws IOException if the record cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized long append(JSONObject record) throws IOException {
+        if (channel == null) {
+            openChannel();
+            channel.position(channel.size());
+        }
+
+        long seq = lastSeq + 1;
+        record.put("seq", seq);
+        String json = record.toJSONString();
+
+        CRC32 crc = new CRC32();
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        crc.update(jsonBytes);
+
+        byte[] line = (seq + " " + Long.toHexString(crc.getValue()) + " " + json + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+
+        lastSeq = seq;
+        recordCount++;
+        return seq;
+    }
+
+    /**
+     * Empties the journal after its records have been folded into a snapshot.
+     * Sequence numbers keep increasing so stale records can never be replayed twice.
+     *
+     * @throws IOException if the journal cannot be truncated
+     */
+    public synchronized void reset() throws IOException {
+        if (channel == null) {
+            openChannel();
+        }
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+        recordCount = 0;
+    }
+
+    /**
+     * Gets the number of records currently in the journal.
+     *
+     * @return The record count
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the sequence number of the most recent record.
+     *
+     * @return The last sequence number
+     */
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void openChannel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+    }
+
+    /**
+     * Decodes a single journal line, returning null if it is malformed.
+     */
+    @SuppressWarnings("unchecked")
+    private JSONObject decode(JSONParser parser, String line) {
+        int firstSpace = line.indexOf(' ');
+        int secondSpace = firstSpace < 0 ? -1 : line.indexOf(' ', firstSpace + 1);
+        if (secondSpace < 0) {
+            return null;
+        }
+
+        try {
+            long seq = Long.parseLong(line.substring(0, firstSpace));
+            long expectedCrc = Long.parseLong(line.substring(firstSpace + 1, secondSpace), 16);
+            String json = line.substring(secondSpace + 1);
+
+            CRC32 crc = new CRC32();
+            crc.update(json.getBytes(StandardCharsets.UTF_8));
+            if (crc.getValue() != expectedCrc) {
+                return null;
+            }
+
+            JSONObject record = (JSONObject) parser.parse(json);
+            record.put("seq", seq);
+            return record;
+        } catch (NumberFormatException | ParseException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private static int indexOf(byte[] data, byte value, int from) {
+        for (int i = from; i < data.length; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
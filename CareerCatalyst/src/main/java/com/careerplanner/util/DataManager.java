@@ -3,31 +3,108 @@ package com.careerplanner.util;
 import com.careerplanner.model.*;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
  * Manages the application data, including user information, jobs, resources, etc.
  * Handles data persistence through JSON files.
+ * 
+ * <p>By default every save rewrites users.json and resources.json. When started with
+ * {@code -Dcareerplanner.store=journal} the data is instead kept as a snapshot plus an
+ * append-only change journal: each mutation appends one small record and the journal is
+ * periodically compacted into a new snapshot. With {@code -Dcareerplanner.store=sharded}
+ * each user lives in its own shard file and only the email index is read at startup;
+ * a user's shard is read when that user logs in. With {@code -Dcareerplanner.store=binary}
+ * the data is kept in a compact {@link BinarySnapshotCodec} snapshot and each user's jobs,
+ * skills, achievements, goals and resume are only decoded when first accessed;
+ * {@link #exportJson} writes the plain JSON files for interoperability.</p>
+ * 
+ * <p>In the json, sharded and binary modes writes run on a background {@link PersistenceWorker}:
+ * {@link #saveData()} encodes the changed users and resources on the calling thread and hands
+ * the encodings to the worker, which assembles and writes the files. Bursts of edits are
+ * coalesced into one write of the latest snapshot and every file is replaced atomically. {@link #shutdown()} flushes pending writes.
+ * Pass {@code -Dcareerplanner.writeBehind=false} to write synchronously instead.</p>
+ * 
+ * <p>Model objects track their own changes (see {@link ChangeTracked}). A write only
+ * re-encodes users that changed since they were last written and reuses the cached
+ * encoding of all other users; sharded mode only rewrites the shards of changed users
+ * and journal mode only journals the current user if it changed.</p>
+ * 
+ * <p>While the JSON files are loaded, repeated low-cardinality strings are deduplicated
+ * through a load-scoped {@link StringPool}, bounded by {@code -Dcareerplanner.stringPool.maxEntries}
+ * (0 disables it) and optionally weak with {@code -Dcareerplanner.stringPool.weak=true}.</p>
  */
 public class DataManager {
-    private static final String DATA_DIRECTORY = "src/main/resources/data/";
+    private static final String DATA_DIRECTORY = dataDirectory();
     private static final String USERS_FILE = DATA_DIRECTORY + "users.json";
     private static final String RESOURCES_FILE = DATA_DIRECTORY + "resources.json";
+    private static final String SNAPSHOT_FILE = DATA_DIRECTORY + "store.json";
+    private static final String JOURNAL_FILE = DATA_DIRECTORY + "store.journal";
+    private static final String BINARY_FILE = DATA_DIRECTORY + "store.bin";
+    
+    private static final String STORE_MODE = System.getProperty("careerplanner.store", "json");
+    private static final int JOURNAL_COMPACTION_THRESHOLD =
+            Integer.getInteger("careerplanner.journal.compactAfter", 1000);
+    private static final boolean WRITE_BEHIND =
+            Boolean.parseBoolean(System.getProperty("careerplanner.writeBehind", "true"));
+    private static final long WRITE_BEHIND_DELAY_MILLIS = Long.getLong("careerplanner.writeBehind.delayMs", 250);
+    private static final int STRING_POOL_MAX_ENTRIES = Integer.getInteger("careerplanner.stringPool.maxEntries", 65536);
+    private static final boolean STRING_POOL_WEAK = Boolean.getBoolean("careerplanner.stringPool.weak");
+    private static final int LOAD_PARALLELISM = Integer.getInteger("careerplanner.load.parallelism", 1);
     
     private List<User> users;
     private User currentUser;
     private List<Resource> resources;
     private Map<String, User> userEmailMap;
     
+    // Only set in journal mode
+    private ChangeJournal journal;
+    // Only set in sharded mode
+    private UserShardStore shardStore;
+    // Only set in binary mode
+    private BinarySnapshotCodec binaryCodec;
+    // Set when the resource list itself changed since it was last journaled or queued (journal
+    // and sharded mode); resources edited in place report themselves dirty
+    private boolean resourcesDirty;
+    // Null when writing synchronously or in journal mode
+    private PersistenceWorker persistenceWorker;
+    // Encoded data that still has to be written, guarded by pendingWriteLock
+    private final Object pendingWriteLock = new Object();
+    private WriteSnapshot pendingWrite;
+    // Last written encoding of each user, reused while the user is clean (json and binary mode)
+    private final Map<User, String> userJsonCache = new IdentityHashMap<>();
+    private final Map<User, byte[]> userRecordCache = new IdentityHashMap<>();
+    private final Map<Resource, String> resourceJsonCache = new IdentityHashMap<>();
+    private final Map<Resource, byte[]> resourceRecordCache = new IdentityHashMap<>();
+    // Deduplicates repeated strings while the JSON files are loaded; null after loading
+    private StringPool loadPool;
+    
+    /**
+     * Gets the data directory, which can be overridden with {@code -Dcareerplanner.data.dir}.
+     * 
+     * @return The data directory path ending with a separator
+     */
+    private static String dataDirectory() {
+        String directory = System.getProperty("careerplanner.data.dir", "src/main/resources/data/");
+        return directory.endsWith("/") ? directory : directory + "/";
+    }
+    
     /**
      * Constructor for the DataManager class.
      * Initializes the data structures and loads data from files.
@@ -44,12 +121,39 @@ public class DataManager {
         }
         
         // Load data from files
-        loadUsers();
-        loadResources();
+        if (STRING_POOL_MAX_ENTRIES > 0) {
+            loadPool = new StringPool(STRING_POOL_MAX_ENTRIES, STRING_POOL_WEAK);
+        }
+        if ("journal".equals(STORE_MODE)) {
+            loadJournaledStore();
+        } else if ("sharded".equals(STORE_MODE)) {
+            loadShardIndex();
+            loadResources();
+        } else if ("binary".equals(STORE_MODE)) {
+            loadBinarySnapshot();
+        } else {
+            loadUsers();
+            loadResources();
+        }
+        loadPool = null;
+        
+        // Everything just loaded matches what is on disk
+        for (User user : users) {
+            user.markClean();
+        }
+        ChangeTracked.markAllClean(resources);
+        
+        if (journal == null && WRITE_BEHIND) {
+            persistenceWorker = new PersistenceWorker("careerplanner-persistence", this::writePendingSnapshot,
+                    WRITE_BEHIND_DELAY_MILLIS);
+        }
     }
     
     /**
      * Loads users from the JSON file.
+     * The file is streamed so only one user is held as parse tree at a time.
+     * With {@code -Dcareerplanner.load.parallelism} above 1 the users are parsed and
+     * converted on a {@link ParallelUserLoader} instead.
      */
     private void loadUsers() {
         File usersFile = new File(USERS_FILE);
@@ -57,24 +161,46 @@ public class DataManager {
             return; // No users file yet
         }
         
-        JSONParser parser = new JSONParser();
+        if (LOAD_PARALLELISM > 1) {
+            loadUsersInParallel(usersFile);
+            return;
+        }
         
         try (FileReader reader = new FileReader(usersFile)) {
-            Object obj = parser.parse(reader);
-            JSONArray userArray = (JSONArray) obj;
-            
-            for (Object userObj : userArray) {
-                User user = parseUserFromJSON((JSONObject) userObj);
+            JsonStreamReader.read(reader, (arrayKey, userJson) -> {
+                User user = JsonConverter.parseUserFromJSON(userJson, loadPool);
                 users.add(user);
                 userEmailMap.put(user.getEmail().toLowerCase(), user);
-            }
+            });
         } catch (IOException | ParseException e) {
             System.err.println("Error loading users: " + e.getMessage());
         }
     }
     
+    /**
+     * Loads users from the JSON file on a ForkJoin pool. The users are merged in file order,
+     * so the result is the same as that of the sequential load.
+     * 
+     * @param usersFile The users file
+     */
+    private void loadUsersInParallel(File usersFile) {
+        ForkJoinPool pool = new ForkJoinPool(LOAD_PARALLELISM);
+        try (FileReader reader = new FileReader(usersFile)) {
+            List<User> loaded = new ParallelUserLoader(pool).load(reader, STRING_POOL_MAX_ENTRIES);
+            for (User user : loaded) {
+                users.add(user);
+                userEmailMap.put(user.getEmail().toLowerCase(), user);
+            }
+        } catch (IOException | ParseException | RuntimeException e) {
+            System.err.println("Error loading users: " + e.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
     /**
      * Loads resources from the JSON file.
+     * The file is streamed so only one resource is held as parse tree at a time.
      */
     private void loadResources() {
         File resourcesFile = new File(RESOURCES_FILE);
@@ -82,795 +208,494 @@ public class DataManager {
             return; // No resources file yet
         }
         
-        JSONParser parser = new JSONParser();
-        
         try (FileReader reader = new FileReader(resourcesFile)) {
-            Object obj = parser.parse(reader);
-            JSONArray resourceArray = (JSONArray) obj;
-            
-            for (Object resourceObj : resourceArray) {
-                Resource resource = parseResourceFromJSON((JSONObject) resourceObj);
-                resources.add(resource);
-            }
+            JsonStreamReader.read(reader, (arrayKey, resourceJson) ->
+                    resources.add(JsonConverter.parseResourceFromJSON(resourceJson, loadPool)));
         } catch (IOException | ParseException e) {
             System.err.println("Error loading resources: " + e.getMessage());
         }
     }
     
     /**
-     * Saves all data to the JSON files.
+     * Loads the snapshot and replays the change journal on top of it.
+     * On the first start in journal mode the plain JSON files are imported instead.
      */
-    public void saveData() {
-        saveUsers();
-        saveResources();
+    private void loadJournaledStore() {
+        File snapshotFile = new File(SNAPSHOT_FILE);
+        long snapshotSeq = 0;
+        
+        if (snapshotFile.exists()) {
+            try (FileReader reader = new FileReader(snapshotFile)) {
+                Map<String, Object> header = JsonStreamReader.read(reader, (arrayKey, json) -> {
+                    if ("users".equals(arrayKey)) {
+                        putUser(JsonConverter.parseUserFromJSON(json, loadPool));
+                    } else if ("resources".equals(arrayKey)) {
+                        resources.add(JsonConverter.parseResourceFromJSON(json, loadPool));
+                    }
+                });
+                snapshotSeq = ((Number) header.get("seq")).longValue();
+            } catch (IOException | ParseException e) {
+                System.err.println("Error loading snapshot: " + e.getMessage());
+            }
+        } else {
+            loadUsers();
+            loadResources();
+        }
+        
+        journal = new ChangeJournal(Paths.get(JOURNAL_FILE));
+        try {
+            journal.replay(snapshotSeq, this::applyJournalRecord);
+        } catch (IOException e) {
+            System.err.println("Error replaying journal: " + e.getMessage());
+        }
     }
     
     /**
-     * Saves users to the JSON file.
+     * Loads the binary snapshot. Each user's jobs, skills, achievements, goals and resume
+     * are only decoded when first accessed.
+     * On the first start in binary mode the plain JSON files are imported instead.
      */
-    private void saveUsers() {
-        JSONArray userArray = new JSONArray();
-        
-        for (User user : users) {
-            JSONObject userJson = convertUserToJSON(user);
-            userArray.add(userJson);
-        }
-        
-        try (FileWriter file = new FileWriter(USERS_FILE)) {
-            file.write(userArray.toJSONString());
-            file.flush();
+    private void loadBinarySnapshot() {
+        binaryCodec = new BinarySnapshotCodec();
+        Path binaryFile = Paths.get(BINARY_FILE);
+        
+        if (!Files.exists(binaryFile)) {
+            loadUsers();
+            loadResources();
+            return;
+        }
+        
+        try {
+            BinarySnapshotCodec.Snapshot snapshot = binaryCodec.load(Files.readAllBytes(binaryFile));
+            List<byte[]> userRecords = snapshot.getUserRecords();
+            for (int i = 0; i < userRecords.size(); i++) {
+                User user = snapshot.getUsers().get(i);
+                putUser(user);
+                // Users that are never opened are written back from their stored record
+                userRecordCache.put(user, userRecords.get(i));
+            }
+            resources.addAll(snapshot.getResources());
         } catch (IOException e) {
-            System.err.println("Error saving users: " + e.getMessage());
+            System.err.println("Error loading binary snapshot: " + e.getMessage());
         }
     }
     
     /**
-     * Saves resources to the JSON file.
+     * Opens the per-user shard store, reading only the email index.
+     * On the first start in sharded mode users.json is split into shards.
      */
-    private void saveResources() {
-        JSONArray resourceArray = new JSONArray();
-        
-        for (Resource resource : resources) {
-            JSONObject resourceJson = convertResourceToJSON(resource);
-            resourceArray.add(resourceJson);
-        }
-        
-        try (FileWriter file = new FileWriter(RESOURCES_FILE)) {
-            file.write(resourceArray.toJSONString());
-            file.flush();
-        } catch (IOException e) {
-            System.err.println("Error saving resources: " + e.getMessage());
+    private void loadShardIndex() {
+        shardStore = new UserShardStore(Paths.get(DATA_DIRECTORY));
+        try {
+            shardStore.open(new File(USERS_FILE));
+        } catch (IOException | ParseException e) {
+            System.err.println("Error loading user index: " + e.getMessage());
         }
     }
     
     /**
-     * Converts a User object to a JSONObject.
+     * Finds a user by email, reading the user's shard in sharded mode if it is not loaded yet.
      * 
-     * @param user The User object to convert
-     * @return JSONObject representation of the user
+     * @param email The user's email
+     * @return The user, or null if no user with this email exists
      */
-    private JSONObject convertUserToJSON(User user) {
-        JSONObject userJson = new JSONObject();
-        userJson.put("id", user.getId());
-        userJson.put("firstName", user.getFirstName());
-        userJson.put("lastName", user.getLastName());
-        userJson.put("email", user.getEmail());
-        userJson.put("password", user.getPassword());
-        
-        if (user.getPhone() != null) {
-            userJson.put("phone", user.getPhone());
-        }
-        
-        if (user.getAddress() != null) {
-            userJson.put("address", user.getAddress());
-        }
+    private User findUser(String email) {
+        User user = userEmailMap.get(email.toLowerCase());
         
-        // Add job applications
-        JSONArray jobsArray = new JSONArray();
-        for (Job job : user.getJobApplications()) {
-            JSONObject jobJson = new JSONObject();
-            jobJson.put("id", job.getId());
-            jobJson.put("companyName", job.getCompanyName());
-            jobJson.put("position", job.getPosition());
-            jobJson.put("location", job.getLocation());
-            
-            if (job.getDescription() != null) {
-                jobJson.put("description", job.getDescription());
-            }
-            
-            if (job.getUrl() != null) {
-                jobJson.put("url", job.getUrl());
-            }
-            
-            if (job.getSalary() > 0) {
-                jobJson.put("salary", job.getSalary());
-            }
-            
-            jobJson.put("status", job.getStatus().name());
-            jobJson.put("dateAdded", job.getDateAdded().toString());
-            
-            if (job.getApplicationDeadline() != null) {
-                jobJson.put("applicationDeadline", job.getApplicationDeadline().toString());
-            }
-            
-            jobJson.put("lastUpdated", job.getLastUpdated().toString());
-            
-            if (job.getNotes() != null) {
-                jobJson.put("notes", job.getNotes());
-            }
-            
-            if (job.getContactName() != null) {
-                jobJson.put("contactName", job.getContactName());
-            }
-            
-            if (job.getContactEmail() != null) {
-                jobJson.put("contactEmail", job.getContactEmail());
-            }
-            
-            if (job.getContactPhone() != null) {
-                jobJson.put("contactPhone", job.getContactPhone());
+        if (user == null && shardStore != null) {
+            try {
+                user = shardStore.load(email);
+            } catch (IOException | ParseException e) {
+                System.err.println("Error loading user " + email + ": " + e.getMessage());
             }
             
-            jobsArray.add(jobJson);
-        }
-        userJson.put("jobApplications", jobsArray);
-        
-        // Add skills
-        JSONArray skillsArray = new JSONArray();
-        for (Skill skill : user.getSkills()) {
-            JSONObject skillJson = new JSONObject();
-            skillJson.put("id", skill.getId());
-            skillJson.put("name", skill.getName());
-            skillJson.put("proficiencyLevel", skill.getProficiencyLevel().name());
-            skillJson.put("category", skill.getCategory().name());
-            
-            if (skill.getDescription() != null) {
-                skillJson.put("description", skill.getDescription());
+            if (user != null) {
+                user.markClean();
+                users.add(user);
+                userEmailMap.put(user.getEmail().toLowerCase(), user);
             }
-            
-            skillJson.put("includeInResume", skill.isIncludeInResume());
-            
-            skillsArray.add(skillJson);
         }
-        userJson.put("skills", skillsArray);
         
-        // Add achievements
-        JSONArray achievementsArray = new JSONArray();
-        for (Achievement achievement : user.getAchievements()) {
-            JSONObject achievementJson = new JSONObject();
-            achievementJson.put("id", achievement.getId());
-            achievementJson.put("title", achievement.getTitle());
-            
-            if (achievement.getDescription() != null) {
-                achievementJson.put("description", achievement.getDescription());
-            }
-            
-            achievementJson.put("date", achievement.getDate().toString());
-            achievementJson.put("type", achievement.getType().name());
-            achievementJson.put("includeInResume", achievement.isIncludeInResume());
-            
-            achievementsArray.add(achievementJson);
+        return user;
+    }
+    
+    /**
+     * Applies a single journal record to the in-memory data.
+     * 
+     * @param record The journal record to apply
+     */
+    private void applyJournalRecord(JSONObject record) {
+        String op = (String) record.get("op");
+        
+        switch (op) {
+            case "putUser":
+                putUser(JsonConverter.parseUserFromJSON((JSONObject) record.get("user"), loadPool));
+                break;
+            case "addResource":
+                resources.add(JsonConverter.parseResourceFromJSON((JSONObject) record.get("resource"), loadPool));
+                break;
+            case "removeResource":
+                int index = ((Number) record.get("index")).intValue();
+                if (index >= 0 && index < resources.size()) {
+                    resources.remove(index);
+                }
+                break;
+            case "setResources":
+                resources = new ArrayList<>();
+                for (Object resourceObj : (JSONArray) record.get("resources")) {
+                    resources.add(JsonConverter.parseResourceFromJSON((JSONObject) resourceObj, loadPool));
+                }
+                break;
+            default:
+                System.err.println("Skipping unknown journal record: " + op);
         }
-        userJson.put("achievements", achievementsArray);
+    }
+    
+    /**
+     * Adds a user to the in-memory data, replacing any user with the same email.
+     * 
+     * @param user The user to add or replace
+     */
+    private void putUser(User user) {
+        String key = user.getEmail().toLowerCase();
+        User existing = userEmailMap.put(key, user);
         
-        // Add goals
-        JSONArray shortTermGoalsArray = new JSONArray();
-        for (Goal goal : user.getShortTermGoals()) {
-            JSONObject goalJson = new JSONObject();
-            goalJson.put("id", goal.getId());
-            goalJson.put("title", goal.getTitle());
-            
-            if (goal.getDescription() != null) {
-                goalJson.put("description", goal.getDescription());
-            }
-            
-            goalJson.put("shortTerm", goal.isShortTerm());
-            goalJson.put("status", goal.getStatus().name());
-            
-            if (goal.getTargetDate() != null) {
-                goalJson.put("targetDate", goal.getTargetDate().toString());
-            }
-            
-            if (goal.getCompletionDate() != null) {
-                goalJson.put("completionDate", goal.getCompletionDate().toString());
-            }
-            
-            if (goal.getActionPlan() != null) {
-                goalJson.put("actionPlan", goal.getActionPlan());
-            }
-            
-            shortTermGoalsArray.add(goalJson);
+        if (existing != null) {
+            users.set(users.indexOf(existing), user);
+        } else {
+            users.add(user);
         }
-        userJson.put("shortTermGoals", shortTermGoalsArray);
-        
-        JSONArray longTermGoalsArray = new JSONArray();
-        for (Goal goal : user.getLongTermGoals()) {
-            JSONObject goalJson = new JSONObject();
-            goalJson.put("id", goal.getId());
-            goalJson.put("title", goal.getTitle());
-            
-            if (goal.getDescription() != null) {
-                goalJson.put("description", goal.getDescription());
-            }
-            
-            goalJson.put("shortTerm", goal.isShortTerm());
-            goalJson.put("status", goal.getStatus().name());
-            
-            if (goal.getTargetDate() != null) {
-                goalJson.put("targetDate", goal.getTargetDate().toString());
+    }
+    
+    /**
+     * Saves all data to the JSON files.
+     * In journal mode only the current user and changed resources are appended to the journal.
+     * In sharded mode only the shards of loaded users are rewritten.
+     * With write-behind enabled the write happens on the persistence worker.
+     */
+    public void saveData() {
+        if (journal != null) {
+            if (currentUser == null) {
+                compactJournal();
+                return;
             }
             
-            if (goal.getCompletionDate() != null) {
-                goalJson.put("completionDate", goal.getCompletionDate().toString());
+            if (currentUser.isDirty()) {
+                journalUser(currentUser);
             }
             
-            if (goal.getActionPlan() != null) {
-                goalJson.put("actionPlan", goal.getActionPlan());
+            if (resourcesChanged()) {
+                journalResources();
             }
-            
-            longTermGoalsArray.add(goalJson);
+            return;
         }
-        userJson.put("longTermGoals", longTermGoalsArray);
-        
-        // Add resume
-        JSONObject resumeJson = new JSONObject();
-        Resume resume = user.getResume();
-        
-        resumeJson.put("id", resume.getId());
-        resumeJson.put("title", resume.getTitle());
-        resumeJson.put("template", resume.getTemplate().name());
         
-        if (resume.getSummary() != null) {
-            resumeJson.put("summary", resume.getSummary());
+        requestWrite();
+    }
+    
+    /**
+     * Encodes the data and writes it now, or hands the encoded snapshot to the persistence
+     * worker when write-behind is enabled. The worker never reads the users or resources.
+     */
+    private void requestWrite() {
+        WriteSnapshot snapshot = createSnapshot();
+        synchronized (pendingWriteLock) {
+            pendingWrite = pendingWrite != null ? snapshot.after(pendingWrite) : snapshot;
         }
         
-        // Add education list
-        JSONArray educationArray = new JSONArray();
-        for (Resume.Education education : resume.getEducationList()) {
-            JSONObject educationJson = new JSONObject();
-            educationJson.put("degree", education.getDegree());
-            educationJson.put("institution", education.getInstitution());
-            
-            if (education.getLocation() != null) {
-                educationJson.put("location", education.getLocation());
-            }
-            
-            educationJson.put("startDate", education.getStartDate());
-            educationJson.put("endDate", education.getEndDate());
-            
-            if (education.getDescription() != null) {
-                educationJson.put("description", education.getDescription());
-            }
-            
-            if (education.getGpa() != null) {
-                educationJson.put("gpa", education.getGpa());
-            }
-            
-            educationArray.add(educationJson);
+        if (persistenceWorker != null) {
+            persistenceWorker.markDirty();
+            return;
         }
-        resumeJson.put("educationList", educationArray);
         
-        // Add work experience
-        JSONArray experienceArray = new JSONArray();
-        for (Resume.Experience experience : resume.getWorkExperienceList()) {
-            JSONObject experienceJson = new JSONObject();
-            experienceJson.put("position", experience.getPosition());
-            experienceJson.put("company", experience.getCompany());
-            
-            if (experience.getLocation() != null) {
-                experienceJson.put("location", experience.getLocation());
-            }
-            
-            experienceJson.put("startDate", experience.getStartDate());
-            
-            if (experience.getEndDate() != null) {
-                experienceJson.put("endDate", experience.getEndDate());
-            }
-            
-            if (experience.getDescription() != null) {
-                experienceJson.put("description", experience.getDescription());
-            }
-            
-            // Add responsibilities
-            JSONArray responsibilitiesArray = new JSONArray();
-            for (String responsibility : experience.getResponsibilities()) {
-                responsibilitiesArray.add(responsibility);
-            }
-            experienceJson.put("responsibilities", responsibilitiesArray);
-            
-            experienceArray.add(experienceJson);
+        try {
+            writePendingSnapshot();
+        } catch (IOException e) {
+            System.err.println("Error saving data: " + e.getMessage());
         }
-        resumeJson.put("workExperienceList", experienceArray);
-        
-        // Add projects
-        JSONArray projectsArray = new JSONArray();
-        for (Resume.Project project : resume.getProjectsList()) {
-            JSONObject projectJson = new JSONObject();
-            projectJson.put("name", project.getName());
-            
-            if (project.getDescription() != null) {
-                projectJson.put("description", project.getDescription());
-            }
-            
-            projectJson.put("startDate", project.getStartDate());
-            
-            if (project.getEndDate() != null) {
-                projectJson.put("endDate", project.getEndDate());
-            }
-            
-            if (project.getTechnologies() != null) {
-                projectJson.put("technologies", project.getTechnologies());
+    }
+    
+    /**
+     * Encodes the users and resources to be written. Runs on the thread that changed them.
+     * 
+     * @return The encoded data
+     */
+    private WriteSnapshot createSnapshot() {
+        WriteSnapshot snapshot = new WriteSnapshot();
+        
+        if (shardStore != null) {
+            snapshot.shards = new LinkedHashMap<>();
+            for (User user : users) {
+                if (user.isDirty()) {
+                    String shard = shardStore.assignShard(user);
+                    snapshot.shards.put(shard, JsonConverter.convertUserToJSON(user).toJSONString());
+                    user.markClean();
+                }
             }
+            snapshot.shardIndex = shardStore.takeIndexUpdate();
             
-            if (project.getUrl() != null) {
-                projectJson.put("url", project.getUrl());
+            if (resourcesChanged()) {
+                resourcesDirty = false;
+                snapshot.resourceJson = encodeAll(resources, resourceJsonCache, DataManager::encodeResourceJson);
             }
-            
-            projectsArray.add(projectJson);
-        }
-        resumeJson.put("projectsList", projectsArray);
-        
-        // Add languages
-        JSONArray languagesArray = new JSONArray();
-        for (String language : resume.getLanguages()) {
-            languagesArray.add(language);
-        }
-        resumeJson.put("languages", languagesArray);
-        
-        // Add references
-        JSONArray referencesArray = new JSONArray();
-        for (String reference : resume.getReferences()) {
-            referencesArray.add(reference);
+            return snapshot;
         }
-        resumeJson.put("references", referencesArray);
         
-        if (resume.getAdditionalInfo() != null) {
-            resumeJson.put("additionalInfo", resume.getAdditionalInfo());
+        if (binaryCodec != null) {
+            snapshot.userRecords = encodeAll(users, userRecordCache, binaryCodec::encodeUser);
+            snapshot.resourceRecords = encodeAll(resources, resourceRecordCache, binaryCodec::encodeResource);
+            return snapshot;
         }
         
-        userJson.put("resume", resumeJson);
-        
-        return userJson;
+        snapshot.userJson = encodeAll(users, userJsonCache, user -> JsonConverter.convertUserToJSON(user).toJSONString());
+        snapshot.resourceJson = encodeAll(resources, resourceJsonCache, DataManager::encodeResourceJson);
+        return snapshot;
+    }
+    
+    private static String encodeResourceJson(Resource resource) {
+        return JsonConverter.convertResourceToJSON(resource).toJSONString();
     }
     
     /**
-     * Converts a Resource object to a JSONObject.
+     * Writes the pending snapshot to disk. Runs on the persistence worker when write-behind is
+     * enabled. A snapshot that fails to write stays pending, so the next attempt writes it again.
      * 
-     * @param resource The Resource object to convert
-     * @return JSONObject representation of the resource
+     * @throws IOException if a file cannot be written
      */
-    private JSONObject convertResourceToJSON(Resource resource) {
-        JSONObject resourceJson = new JSONObject();
-        resourceJson.put("id", resource.getId());
-        resourceJson.put("title", resource.getTitle());
-        
-        if (resource.getDescription() != null) {
-            resourceJson.put("description", resource.getDescription());
+    private void writePendingSnapshot() throws IOException {
+        WriteSnapshot snapshot;
+        synchronized (pendingWriteLock) {
+            snapshot = pendingWrite;
         }
-        
-        resourceJson.put("type", resource.getType().name());
-        
-        if (resource.getUrl() != null) {
-            resourceJson.put("url", resource.getUrl());
+        if (snapshot == null) {
+            return;
         }
         
-        if (resource.getAuthor() != null) {
-            resourceJson.put("author", resource.getAuthor());
+        if (snapshot.userRecords != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            binaryCodec.writeSnapshot(out, snapshot.userRecords, snapshot.resourceRecords);
+            AtomicFiles.write(Paths.get(BINARY_FILE), out.toByteArray());
+        } else if (snapshot.shards != null) {
+            for (Map.Entry<String, String> shard : snapshot.shards.entrySet()) {
+                shardStore.writeShard(shard.getKey(), shard.getValue());
+            }
+            if (snapshot.shardIndex != null) {
+                shardStore.writeIndex(snapshot.shardIndex);
+            }
+        } else {
+            AtomicFiles.write(Paths.get(USERS_FILE), jsonArray(snapshot.userJson));
         }
-        
-        if (resource.getProvider() != null) {
-            resourceJson.put("provider", resource.getProvider());
+        if (snapshot.resourceJson != null) {
+            AtomicFiles.write(Paths.get(RESOURCES_FILE), jsonArray(snapshot.resourceJson));
         }
         
-        resourceJson.put("rating", resource.getRating());
-        resourceJson.put("completed", resource.isCompleted());
-        
-        if (resource.getNotes() != null) {
-            resourceJson.put("notes", resource.getNotes());
+        synchronized (pendingWriteLock) {
+            if (pendingWrite == snapshot) {
+                pendingWrite = null;
+            }
         }
-        
-        return resourceJson;
     }
     
     /**
-     * Parses a User object from a JSONObject.
+     * Encodes all entries, reusing the cached encoding of entries that have not changed since
+     * they were last encoded. Entries that are no longer present are dropped from the cache.
+     * Runs on the thread that edits the data, so no edit can happen between encoding an entry
+     * and marking it clean.
      * 
-     * @param userJson The JSONObject to parse
-     * @return User object
+     * @param entries The users or resources to encode
+     * @param cache The encodings from the previous write, updated in place
+     * @param encoder Encodes a single entry
+     * @return The encoding of every entry, in list order
      */
-    private User parseUserFromJSON(JSONObject userJson) {
-        User user = new User();
-        
-        String idString = (String) userJson.get("id");
-        if (idString != null) {
-            try {
-                user.setId(Integer.parseInt(idString));
-            } catch (NumberFormatException e) {
-                // For migration, we'll assign a temporary ID
-                user.setId(1); // We'll assign proper IDs when saving to database
-            }
-        }
-        user.setFirstName((String) userJson.get("firstName"));
-        user.setLastName((String) userJson.get("lastName"));
-        user.setEmail((String) userJson.get("email"));
-        user.setPassword((String) userJson.get("password"));
-        
-        if (userJson.containsKey("phone")) {
-            user.setPhone((String) userJson.get("phone"));
-        }
-        
-        if (userJson.containsKey("address")) {
-            user.setAddress((String) userJson.get("address"));
-        }
-        
-        // Parse job applications
-        if (userJson.containsKey("jobApplications")) {
-            JSONArray jobsArray = (JSONArray) userJson.get("jobApplications");
-            for (Object jobObj : jobsArray) {
-                JSONObject jobJson = (JSONObject) jobObj;
-                Job job = new Job();
-                
-                String jobIdString = (String) jobJson.get("id");
-                if (jobIdString != null) {
-                    try {
-                        job.setId(Integer.parseInt(jobIdString));
-                    } catch (NumberFormatException e) {
-                        // For migration, we'll assign a temporary ID
-                        job.setId(1); // We'll assign proper IDs when saving to database
-                    }
-                }
-                job.setCompanyName((String) jobJson.get("companyName"));
-                job.setPosition((String) jobJson.get("position"));
-                job.setLocation((String) jobJson.get("location"));
-                
-                if (jobJson.containsKey("description")) {
-                    job.setDescription((String) jobJson.get("description"));
-                }
-                
-                if (jobJson.containsKey("url")) {
-                    job.setUrl((String) jobJson.get("url"));
-                }
-                
-                if (jobJson.containsKey("salary")) {
-                    job.setSalary((Double) jobJson.get("salary"));
-                }
-                
-                job.setStatus(Job.Status.valueOf((String) jobJson.get("status")));
-                job.setDateAdded(LocalDate.parse((String) jobJson.get("dateAdded")));
-                
-                if (jobJson.containsKey("applicationDeadline")) {
-                    job.setApplicationDeadline(LocalDate.parse((String) jobJson.get("applicationDeadline")));
-                }
-                
-                job.setLastUpdated(LocalDate.parse((String) jobJson.get("lastUpdated")));
-                
-                if (jobJson.containsKey("notes")) {
-                    job.setNotes((String) jobJson.get("notes"));
-                }
-                
-                if (jobJson.containsKey("contactName")) {
-                    job.setContactName((String) jobJson.get("contactName"));
-                }
-                
-                if (jobJson.containsKey("contactEmail")) {
-                    job.setContactEmail((String) jobJson.get("contactEmail"));
-                }
-                
-                if (jobJson.containsKey("contactPhone")) {
-                    job.setContactPhone((String) jobJson.get("contactPhone"));
-                }
-                
-                user.addJobApplication(job);
-            }
-        }
-        
-        // Parse skills
-        if (userJson.containsKey("skills")) {
-            JSONArray skillsArray = (JSONArray) userJson.get("skills");
-            for (Object skillObj : skillsArray) {
-                JSONObject skillJson = (JSONObject) skillObj;
-                Skill skill = new Skill();
-                
-                String skillIdString = (String) skillJson.get("id");
-                if (skillIdString != null) {
-                    try {
-                        skill.setId(Integer.parseInt(skillIdString));
-                    } catch (NumberFormatException e) {
-                        // For migration, we'll assign a temporary ID
-                        skill.setId(1); // We'll assign proper IDs when saving to database
-                    }
-                }
-                skill.setName((String) skillJson.get("name"));
-                skill.setProficiencyLevel(Skill.ProficiencyLevel.valueOf((String) skillJson.get("proficiencyLevel")));
-                skill.setCategory(Skill.Category.valueOf((String) skillJson.get("category")));
-                
-                if (skillJson.containsKey("description")) {
-                    skill.setDescription((String) skillJson.get("description"));
-                }
-                
-                skill.setIncludeInResume((Boolean) skillJson.get("includeInResume"));
-                
-                user.addSkill(skill);
-            }
-        }
-        
-        // Parse achievements
-        if (userJson.containsKey("achievements")) {
-            JSONArray achievementsArray = (JSONArray) userJson.get("achievements");
-            for (Object achievementObj : achievementsArray) {
-                JSONObject achievementJson = (JSONObject) achievementObj;
-                Achievement achievement = new Achievement();
-                
-                String achievementIdString = (String) achievementJson.get("id");
-                if (achievementIdString != null) {
-                    try {
-                        achievement.setId(Integer.parseInt(achievementIdString));
-                    } catch (NumberFormatException e) {
-                        // For migration, we'll assign a temporary ID
-                        achievement.setId(1); // We'll assign proper IDs when saving to database
-                    }
-                }
-                achievement.setTitle((String) achievementJson.get("title"));
-                
-                if (achievementJson.containsKey("description")) {
-                    achievement.setDescription((String) achievementJson.get("description"));
-                }
-                
-                achievement.setDate(LocalDate.parse((String) achievementJson.get("date")));
-                achievement.setType(Achievement.Type.valueOf((String) achievementJson.get("type")));
-                achievement.setIncludeInResume((Boolean) achievementJson.get("includeInResume"));
-                
-                user.addAchievement(achievement);
-            }
-        }
+    private static <E extends ChangeTracked, T> List<T> encodeAll(List<E> entries, Map<E, T> cache,
+                                                                 Function<E, T> encoder) {
+        Map<E, T> current = new IdentityHashMap<>(entries.size());
+        List<T> encoded = new ArrayList<>(entries.size());
         
-        // Parse short-term goals
-        if (userJson.containsKey("shortTermGoals")) {
-            JSONArray goalsArray = (JSONArray) userJson.get("shortTermGoals");
-            for (Object goalObj : goalsArray) {
-                JSONObject goalJson = (JSONObject) goalObj;
-                Goal goal = new Goal();
-                
-                goal.setId((String) goalJson.get("id"));
-                goal.setTitle((String) goalJson.get("title"));
-                
-                if (goalJson.containsKey("description")) {
-                    goal.setDescription((String) goalJson.get("description"));
-                }
-                
-                goal.setShortTerm((Boolean) goalJson.get("shortTerm"));
-                goal.setStatus(Goal.Status.valueOf((String) goalJson.get("status")));
-                
-                if (goalJson.containsKey("targetDate")) {
-                    goal.setTargetDate(LocalDate.parse((String) goalJson.get("targetDate")));
-                }
-                
-                if (goalJson.containsKey("completionDate")) {
-                    goal.setCompletionDate(LocalDate.parse((String) goalJson.get("completionDate")));
-                }
-                
-                if (goalJson.containsKey("actionPlan")) {
-                    goal.setActionPlan((String) goalJson.get("actionPlan"));
-                }
-                
-                user.addGoal(goal);
+        for (E entry : entries) {
+            T encoding = cache.get(entry);
+            if (encoding == null || entry.isDirty()) {
+                encoding = encoder.apply(entry);
+                entry.markClean();
             }
+            current.put(entry, encoding);
+            encoded.add(encoding);
         }
         
-        // Parse long-term goals
-        if (userJson.containsKey("longTermGoals")) {
-            JSONArray goalsArray = (JSONArray) userJson.get("longTermGoals");
-            for (Object goalObj : goalsArray) {
-                JSONObject goalJson = (JSONObject) goalObj;
-                Goal goal = new Goal();
-                
-                goal.setId((String) goalJson.get("id"));
-                goal.setTitle((String) goalJson.get("title"));
-                
-                if (goalJson.containsKey("description")) {
-                    goal.setDescription((String) goalJson.get("description"));
-                }
-                
-                goal.setShortTerm((Boolean) goalJson.get("shortTerm"));
-                goal.setStatus(Goal.Status.valueOf((String) goalJson.get("status")));
-                
-                if (goalJson.containsKey("targetDate")) {
-                    goal.setTargetDate(LocalDate.parse((String) goalJson.get("targetDate")));
-                }
-                
-                if (goalJson.containsKey("completionDate")) {
-                    goal.setCompletionDate(LocalDate.parse((String) goalJson.get("completionDate")));
-                }
-                
-                if (goalJson.containsKey("actionPlan")) {
-                    goal.setActionPlan((String) goalJson.get("actionPlan"));
-                }
-                
-                user.addGoal(goal);
-            }
+        cache.clear();
+        cache.putAll(current);
+        return Collections.unmodifiableList(encoded);
+    }
+    
+    /**
+     * Joins encoded JSON objects into a JSON array.
+     * 
+     * @param elements The encoded elements
+     * @return The array
+     */
+    private static String jsonArray(List<String> elements) {
+        int length = 2 + elements.size();
+        for (String element : elements) {
+            length += element.length();
         }
         
-        // Parse resume
-        if (userJson.containsKey("resume")) {
-            JSONObject resumeJson = (JSONObject) userJson.get("resume");
-            Resume resume = new Resume();
-            
-            resume.setId((String) resumeJson.get("id"));
-            resume.setTitle((String) resumeJson.get("title"));
-            resume.setTemplate(Resume.Template.valueOf((String) resumeJson.get("template")));
-            
-            if (resumeJson.containsKey("summary")) {
-                resume.setSummary((String) resumeJson.get("summary"));
-            }
-            
-            // Parse education list
-            if (resumeJson.containsKey("educationList")) {
-                JSONArray educationArray = (JSONArray) resumeJson.get("educationList");
-                for (Object educationObj : educationArray) {
-                    JSONObject educationJson = (JSONObject) educationObj;
-                    Resume.Education education = new Resume.Education();
-                    
-                    education.setDegree((String) educationJson.get("degree"));
-                    education.setInstitution((String) educationJson.get("institution"));
-                    
-                    if (educationJson.containsKey("location")) {
-                        education.setLocation((String) educationJson.get("location"));
-                    }
-                    
-                    education.setStartDate((String) educationJson.get("startDate"));
-                    education.setEndDate((String) educationJson.get("endDate"));
-                    
-                    if (educationJson.containsKey("description")) {
-                        education.setDescription((String) educationJson.get("description"));
-                    }
-                    
-                    if (educationJson.containsKey("gpa")) {
-                        education.setGpa((String) educationJson.get("gpa"));
-                    }
-                    
-                    resume.addEducation(education);
-                }
-            }
-            
-            // Parse work experience
-            if (resumeJson.containsKey("workExperienceList")) {
-                JSONArray experienceArray = (JSONArray) resumeJson.get("workExperienceList");
-                for (Object experienceObj : experienceArray) {
-                    JSONObject experienceJson = (JSONObject) experienceObj;
-                    Resume.Experience experience = new Resume.Experience();
-                    
-                    experience.setPosition((String) experienceJson.get("position"));
-                    experience.setCompany((String) experienceJson.get("company"));
-                    
-                    if (experienceJson.containsKey("location")) {
-                        experience.setLocation((String) experienceJson.get("location"));
-                    }
-                    
-                    experience.setStartDate((String) experienceJson.get("startDate"));
-                    
-                    if (experienceJson.containsKey("endDate")) {
-                        experience.setEndDate((String) experienceJson.get("endDate"));
-                    }
-                    
-                    if (experienceJson.containsKey("description")) {
-                        experience.setDescription((String) experienceJson.get("description"));
-                    }
-                    
-                    // Parse responsibilities
-                    if (experienceJson.containsKey("responsibilities")) {
-                        JSONArray responsibilitiesArray = (JSONArray) experienceJson.get("responsibilities");
-                        for (Object responsibilityObj : responsibilitiesArray) {
-                            experience.addResponsibility((String) responsibilityObj);
-                        }
-                    }
-                    
-                    resume.addWorkExperience(experience);
-                }
-            }
-            
-            // Parse projects
-            if (resumeJson.containsKey("projectsList")) {
-                JSONArray projectsArray = (JSONArray) resumeJson.get("projectsList");
-                for (Object projectObj : projectsArray) {
-                    JSONObject projectJson = (JSONObject) projectObj;
-                    Resume.Project project = new Resume.Project();
-                    
-                    project.setName((String) projectJson.get("name"));
-                    
-                    if (projectJson.containsKey("description")) {
-                        project.setDescription((String) projectJson.get("description"));
-                    }
-                    
-                    project.setStartDate((String) projectJson.get("startDate"));
-                    
-                    if (projectJson.containsKey("endDate")) {
-                        project.setEndDate((String) projectJson.get("endDate"));
-                    }
-                    
-                    if (projectJson.containsKey("technologies")) {
-                        project.setTechnologies((String) projectJson.get("technologies"));
-                    }
-                    
-                    if (projectJson.containsKey("url")) {
-                        project.setUrl((String) projectJson.get("url"));
-                    }
-                    
-                    resume.addProject(project);
-                }
-            }
-            
-            // Parse languages
-            if (resumeJson.containsKey("languages")) {
-                JSONArray languagesArray = (JSONArray) resumeJson.get("languages");
-                for (Object languageObj : languagesArray) {
-                    resume.addLanguage((String) languageObj);
-                }
-            }
-            
-            // Parse references
-            if (resumeJson.containsKey("references")) {
-                JSONArray referencesArray = (JSONArray) resumeJson.get("references");
-                for (Object referenceObj : referencesArray) {
-                    resume.addReference((String) referenceObj);
-                }
+        StringBuilder json = new StringBuilder(length).append('[');
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                json.append(',');
             }
-            
-            if (resumeJson.containsKey("additionalInfo")) {
-                resume.setAdditionalInfo((String) resumeJson.get("additionalInfo"));
-            }
-            
-            user.setResume(resume);
+            json.append(elements.get(i));
         }
-        
-        return user;
+        return json.append(']').toString();
     }
     
     /**
-     * Parses a Resource object from a JSONObject.
+     * Exports all loaded users and resources in the plain users.json/resources.json format.
      * 
-     * @param resourceJson The JSONObject to parse
-     * @return Resource object
+     * @param usersFile The file to write users to
+     * @param resourcesFile The file to write resources to
+     * @throws IOException if a file cannot be written
      */
-    private Resource parseResourceFromJSON(JSONObject resourceJson) {
-        Resource resource = new Resource();
+    public void exportJson(Path usersFile, Path resourcesFile) throws IOException {
+        AtomicFiles.write(usersFile, convertUsersToJSON().toJSONString());
+        AtomicFiles.write(resourcesFile, convertResourcesToJSON().toJSONString());
+    }
+    
+    /**
+     * Writes any pending changes and stops the persistence worker.
+     * Called when the application shuts down.
+     */
+    public void shutdown() {
+        if (persistenceWorker != null && !persistenceWorker.shutdown()) {
+            System.err.println("Error saving data: the latest changes could not be written");
+        }
         
-        String resourceIdString = (String) resourceJson.get("id");
-        if (resourceIdString != null) {
+        if (journal != null) {
             try {
-                resource.setId(Integer.parseInt(resourceIdString));
-            } catch (NumberFormatException e) {
-                // For migration, we'll assign a temporary ID
-                resource.setId(1); // We'll assign proper IDs when saving to database
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("Error closing journal: " + e.getMessage());
             }
         }
-        resource.setTitle((String) resourceJson.get("title"));
-        
-        if (resourceJson.containsKey("description")) {
-            resource.setDescription((String) resourceJson.get("description"));
+    }
+    
+    /**
+     * Gets the persistence worker metrics (queue depth, write counts and latency).
+     * 
+     * @return The metrics, or null when writes are synchronous
+     */
+    public PersistenceWorker.Metrics getPersistenceMetrics() {
+        return persistenceWorker != null ? persistenceWorker.getMetrics() : null;
+    }
+    
+    /**
+     * Checks whether the resources changed since they were last journaled or queued for writing.
+     * 
+     * @return true if the resources need to be saved
+     */
+    private boolean resourcesChanged() {
+        return resourcesDirty || ChangeTracked.anyDirty(resources);
+    }
+    
+    /**
+     * Appends an upsert record for the given user to the journal.
+     * 
+     * @param user The user that changed
+     */
+    private void journalUser(User user) {
+        user.markClean();
+        JSONObject record = new JSONObject();
+        record.put("op", "putUser");
+        record.put("user", JsonConverter.convertUserToJSON(user));
+        appendToJournal(record);
+    }
+    
+    /**
+     * Appends the full resource list to the journal.
+     */
+    private void journalResources() {
+        resourcesDirty = false;
+        ChangeTracked.markAllClean(resources);
+        JSONObject record = new JSONObject();
+        record.put("op", "setResources");
+        record.put("resources", convertResourcesToJSON());
+        appendToJournal(record);
+    }
+    
+    /**
+     * Appends a record to the journal, compacting it once it grows past the threshold.
+     * If the append fails a full snapshot is written instead so no change is lost.
+     * 
+     * @param record The record to append
+     */
+    private void appendToJournal(JSONObject record) {
+        try {
+            journal.append(record);
+        } catch (IOException e) {
+            System.err.println("Error writing journal, writing full snapshot instead: " + e.getMessage());
+            compactJournal();
+            return;
         }
         
-        resource.setType(Resource.Type.valueOf((String) resourceJson.get("type")));
-        
-        if (resourceJson.containsKey("url")) {
-            resource.setUrl((String) resourceJson.get("url"));
+        if (journal.getRecordCount() >= JOURNAL_COMPACTION_THRESHOLD) {
+            compactJournal();
         }
-        
-        if (resourceJson.containsKey("author")) {
-            resource.setAuthor((String) resourceJson.get("author"));
+    }
+    
+    /**
+     * Folds the journal into a new snapshot of the complete in-memory data.
+     * The snapshot is written atomically and records the last journal sequence number,
+     * so a crash between writing the snapshot and truncating the journal never applies
+     * a record twice.
+     */
+    private void compactJournal() {
+        resourcesDirty = false;
+        ChangeTracked.markAllClean(resources);
+        
+        JSONObject snapshot = new JSONObject();
+        snapshot.put("seq", journal.getLastSeq());
+        snapshot.put("users", convertUsersToJSON());
+        snapshot.put("resources", convertResourcesToJSON());
+        
+        try {
+            AtomicFiles.write(Paths.get(SNAPSHOT_FILE), snapshot.toJSONString());
+            journal.reset();
+        } catch (IOException e) {
+            System.err.println("Error compacting journal: " + e.getMessage());
+            resourcesDirty = true;
         }
+    }
+    
+    /**
+     * Converts all users to a JSONArray.
+     * 
+     * @return JSONArray of all users
+     */
+    private JSONArray convertUsersToJSON() {
+        JSONArray userArray = new JSONArray();
         
-        if (resourceJson.containsKey("provider")) {
-            resource.setProvider((String) resourceJson.get("provider"));
+        for (User user : users) {
+            JSONObject userJson = JsonConverter.convertUserToJSON(user);
+            userArray.add(userJson);
         }
         
-        resource.setRating((Double) resourceJson.get("rating"));
-        resource.setCompleted((Boolean) resourceJson.get("completed"));
+        return userArray;
+    }
+    
+    /**
+     * Converts all resources to a JSONArray.
+     * 
+     * @return JSONArray of all resources
+     */
+    private JSONArray convertResourcesToJSON() {
+        JSONArray resourceArray = new JSONArray();
         
-        if (resourceJson.containsKey("notes")) {
-            resource.setNotes((String) resourceJson.get("notes"));
+        for (Resource resource : resources) {
+            JSONObject resourceJson = JsonConverter.convertResourceToJSON(resource);
+            resourceArray.add(resourceJson);
         }
         
-        return resource;
+        return resourceArray;
     }
     
     /**
@@ -881,7 +706,7 @@ public class DataManager {
      * @return User object if authentication is successful, null otherwise
      */
     public User authenticateUser(String email, String password) {
-        User user = userEmailMap.get(email.toLowerCase());
+        User user = findUser(email);
         
         if (user != null && user.getPassword().equals(password)) {
             return user;
@@ -897,6 +722,9 @@ public class DataManager {
      * @return true if a user with the email exists, false otherwise
      */
     public boolean userExistsByEmail(String email) {
+        if (shardStore != null && shardStore.contains(email)) {
+            return true;
+        }
         return userEmailMap.containsKey(email.toLowerCase());
     }
     
@@ -908,7 +736,12 @@ public class DataManager {
     public void addUser(User user) {
         users.add(user);
         userEmailMap.put(user.getEmail().toLowerCase(), user);
-        saveUsers();
+        
+        if (journal != null) {
+            journalUser(user);
+        } else {
+            requestWrite();
+        }
     }
     
     /**
@@ -918,7 +751,16 @@ public class DataManager {
      */
     public void addResource(Resource resource) {
         resources.add(resource);
-        saveResources();
+        
+        if (journal != null) {
+            resource.markClean();
+            JSONObject record = new JSONObject();
+            record.put("op", "addResource");
+            record.put("resource", JsonConverter.convertResourceToJSON(resource));
+            appendToJournal(record);
+        } else {
+            requestWrite();
+        }
     }
     
     /**
@@ -927,8 +769,20 @@ public class DataManager {
      * @param resource The resource to remove
      */
     public void removeResource(Resource resource) {
+        int index = resources.indexOf(resource);
         resources.remove(resource);
-        saveResources();
+        
+        if (journal != null) {
+            if (index >= 0) {
+                JSONObject record = new JSONObject();
+                record.put("op", "removeResource");
+                record.put("index", index);
+                appendToJournal(record);
+            }
+        } else {
+            resourcesDirty = true;
+            requestWrite();
+        }
     }
     
     /**
@@ -965,7 +819,13 @@ public class DataManager {
      */
     public void setResources(List<Resource> resources) {
         this.resources = resources;
-        saveResources();
+        
+        if (journal != null) {
+            journalResources();
+        } else {
+            resourcesDirty = true;
+            requestWrite();
+        }
     }
     
     /**
@@ -975,10 +835,9 @@ public class DataManager {
      * @return Demo user
      */
     public User getDemoUser() {
-        for (User user : users) {
-            if (user.getEmail().equals("demo@example.com")) {
-                return user;
-            }
+        User existingDemoUser = findUser("demo@example.com");
+        if (existingDemoUser != null) {
+            return existingDemoUser;
         }
         
         // Create a demo user with sample data
@@ -1098,4 +957,43 @@ public class DataManager {
         addUser(demoUser);
         return demoUser;
     }
+    
+    /**
+     * Encoded data waiting to be written. In json and binary mode a snapshot holds all data
+     * and replaces any older one; in sharded mode it only holds the changed users and resources.
+     */
+    private static class WriteSnapshot {
+        // Json mode; resourceJson is also set in sharded mode when the resources changed
+        List<String> userJson;
+        List<String> resourceJson;
+        // Binary mode
+        List<byte[]> userRecords;
+        List<byte[]> resourceRecords;
+        // Sharded mode: shard file name to user JSON
+        Map<String, String> shards;
+        String shardIndex;
+        
+        /**
+         * Combines this snapshot with an older one that has not been written yet.
+         * 
+         * @param previous The older snapshot
+         * @return A snapshot holding the changes of both
+         */
+        WriteSnapshot after(WriteSnapshot previous) {
+            if (shards == null || previous.shards == null) {
+                return this;
+            }
+            
+            Map<String, String> merged = new LinkedHashMap<>(previous.shards);
+            merged.putAll(shards);
+            shards = merged;
+            if (shardIndex == null) {
+                shardIndex = previous.shardIndex;
+            }
+            if (resourceJson == null) {
+                resourceJson = previous.resourceJson;
+            }
+            return this;
+        }
+    }
 }
@@ -2,8 +2,13 @@ package com.careerplanner.util;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
 
+import java.nio.file.Paths;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -14,10 +19,24 @@ import java.util.logging.Logger;
 /**
  * DatabaseManager handles all database connections and operations
  * for the Career Planner application.
+ *
+ * <p>Writes go through the primary pool, configured by DATABASE_URL, PGUSER and PGPASSWORD
+ * and sized by careerplanner.db.poolSize. When DATABASE_READ_URL is set, read-only DAO
+ * methods use a separate read pool against it, with PGREADUSER and PGREADPASSWORD if set and
+ * sized by careerplanner.db.readPoolSize, so dashboards, exports and search do not hold
+ * connections the editors need. Otherwise, or if that pool cannot be started, reads share
+ * the primary pool.</p>
  */
 public class DatabaseManager {
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
     private static HikariDataSource dataSource;
+    private static HikariDataSource readDataSource;
+    private static final int POOL_SIZE = Integer.getInteger("careerplanner.db.poolSize", 10);
+    private static final int READ_POOL_SIZE = Integer.getInteger("careerplanner.db.readPoolSize", 10);
+    private static volatile MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+    // When set, a Prometheus text snapshot of the metrics is written to this file every 15 seconds
+    private static final String METRICS_FILE = System.getProperty("careerplanner.metrics.file");
+    private PrometheusExporter metricsExporter;
     
     // Singleton instance
     private static DatabaseManager instance;
@@ -39,10 +58,13 @@ public class DatabaseManager {
     private DatabaseManager() {
         initializeDataSource();
         initializeDatabase();
+        startMetricsExporter();
     }
     
     /**
-     * Initializes the connection pool
+     * Initializes the connection pools: the primary pool for writes and, when DATABASE_READ_URL
+     * is set, a separate read pool against it, typically a replica. Without one, reads share
+     * the primary pool
      */
     private void initializeDataSource() {
         try {
@@ -55,119 +77,84 @@ public class DatabaseManager {
                 throw new IllegalStateException("Database environment variables not set");
             }
             
-            HikariConfig config = new HikariConfig();
-            config.setJdbcUrl(jdbcUrl);
-            config.setUsername(username);
-            config.setPassword(password);
-            config.setMaximumPoolSize(10);
-            config.setMinimumIdle(2);
-            config.setAutoCommit(true);
-            config.addDataSourceProperty("cachePrepStmts", "true");
-            config.addDataSourceProperty("prepStmtCacheSize", "250");
-            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
-            
-            dataSource = new HikariDataSource(config);
+            dataSource = createDataSource("careerplanner-primary", jdbcUrl, username, password, POOL_SIZE, false, "pool_");
             LOGGER.info("Database connection pool initialized successfully");
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to initialize database connection pool", e);
             throw new RuntimeException("Failed to initialize database connection pool", e);
         }
+        
+        String readUrl = System.getenv("DATABASE_READ_URL");
+        if (readUrl == null) {
+            readDataSource = dataSource;
+            LOGGER.info("DATABASE_READ_URL not set, reading from the primary pool");
+            return;
+        }
+        String readUsername = System.getenv().getOrDefault("PGREADUSER", System.getenv("PGUSER"));
+        String readPassword = System.getenv().getOrDefault("PGREADPASSWORD", System.getenv("PGPASSWORD"));
+        try {
+            readDataSource = createDataSource("careerplanner-read", readUrl, readUsername, readPassword,
+                    READ_POOL_SIZE, true, "read_pool_");
+            LOGGER.info("Read connection pool initialized");
+        } catch (Exception e) {
+            // Reads then share the primary pool
+            LOGGER.log(Level.WARNING, "Failed to initialize read connection pool, reading from the primary pool", e);
+            readDataSource = dataSource;
+        }
+    }
+    
+    /**
+     * Creates one connection pool
+     * @param poolName the pool name
+     * @param jdbcUrl the database URL
+     * @param username the user
+     * @param password the password
+     * @param poolSize maximum number of connections
+     * @param readOnly true to mark the connections read-only, so the server rejects writes
+     * @param gaugePrefix prefix of the pool's gauge names
+     * @return the pool
+     */
+    private static HikariDataSource createDataSource(String poolName, String jdbcUrl, String username, String password,
+                                                     int poolSize, boolean readOnly, String gaugePrefix) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(Math.min(2, poolSize));
+        config.setAutoCommit(true);
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        if (readOnly) {
+            config.setReadOnly(true);
+            // Applies the read-only flag to auto-commit statements as well, not only to explicit transactions
+            config.addDataSourceProperty("readOnlyMode", "always");
+        } else {
+            // Lets the driver collapse batched single-row INSERTs into multi-row statements
+            config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        }
+        
+        config.setMetricsTrackerFactory(new PoolMetricsTrackerFactory(gaugePrefix));
+        
+        return new HikariDataSource(config);
     }
     
     /**
-     * Initializes database schema by creating necessary tables if they don't exist
+     * Brings the database schema up to date by applying any pending migrations.
+     * When the schema is already current no DDL is executed.
      */
     private void initializeDatabase() {
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-                
-            // Create users table
-            stmt.execute("CREATE TABLE IF NOT EXISTS users (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "username VARCHAR(50) UNIQUE NOT NULL, " +
-                    "email VARCHAR(255) UNIQUE NOT NULL, " +
-                    "password_hash VARCHAR(255) NOT NULL, " +
-                    "full_name VARCHAR(100), " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            // Create skills table    
-            stmt.execute("CREATE TABLE IF NOT EXISTS skills (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
-                    "name VARCHAR(100) NOT NULL, " +
-                    "category VARCHAR(50) NOT NULL, " +
-                    "proficiency_level VARCHAR(20) NOT NULL, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            // Create jobs table
-            stmt.execute("CREATE TABLE IF NOT EXISTS jobs (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
-                    "company_name VARCHAR(100) NOT NULL, " +
-                    "position VARCHAR(100) NOT NULL, " +
-                    "description TEXT, " +
-                    "url VARCHAR(255), " +
-                    "location VARCHAR(100), " +
-                    "application_date TIMESTAMP, " +
-                    "deadline_date TIMESTAMP, " +
-                    "status VARCHAR(20) NOT NULL, " +
-                    "notes TEXT, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            // Create goals table
-            stmt.execute("CREATE TABLE IF NOT EXISTS goals (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
-                    "title VARCHAR(100) NOT NULL, " +
-                    "description TEXT, " +
-                    "target_date TIMESTAMP, " +
-                    "status VARCHAR(20) NOT NULL, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            // Create resources table
-            stmt.execute("CREATE TABLE IF NOT EXISTS resources (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
-                    "title VARCHAR(100) NOT NULL, " +
-                    "description TEXT, " +
-                    "url VARCHAR(255), " +
-                    "type VARCHAR(20) NOT NULL, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            // Create achievements table
-            stmt.execute("CREATE TABLE IF NOT EXISTS achievements (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
-                    "title VARCHAR(100) NOT NULL, " +
-                    "description TEXT, " +
-                    "date_achieved TIMESTAMP, " +
-                    "type VARCHAR(20) NOT NULL, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            // Create resume table
-            stmt.execute("CREATE TABLE IF NOT EXISTS resumes (" +
-                    "id SERIAL PRIMARY KEY, " +
-                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
-                    "title VARCHAR(100) NOT NULL, " +
-                    "template VARCHAR(50) NOT NULL, " +
-                    "content JSONB NOT NULL, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                    ")");
-                
-            LOGGER.info("Database tables created or verified successfully");
+        SchemaMigrator migrator = new SchemaMigrator();
+        try (Connection conn = getConnection()) {
+            int applied = migrator.migrate(conn);
+            if (applied > 0) {
+                LOGGER.info("Database schema migrated to version " + migrator.getLatestVersion()
+                        + " (" + applied + " migrations applied)");
+            } else {
+                LOGGER.info("Database schema is up to date at version " + migrator.getLatestVersion());
+            }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Failed to initialize database tables", e);
             throw new RuntimeException("Failed to initialize database tables", e);
@@ -175,17 +162,146 @@ public class DatabaseManager {
     }
     
     /**
-     * Gets a connection from the connection pool
+     * Starts exporting the metrics to the file named by careerplanner.metrics.file, if set
+     */
+    private void startMetricsExporter() {
+        if (METRICS_FILE != null && metricsRegistry instanceof InMemoryMetricsRegistry) {
+            metricsExporter = new PrometheusExporter((InMemoryMetricsRegistry) metricsRegistry, Paths.get(METRICS_FILE));
+            metricsExporter.start(15);
+            LOGGER.info("Writing database metrics to " + METRICS_FILE);
+        }
+    }
+    
+    /**
+     * Gets a connection from the connection pool, or the connection of the unit of work
+     * open on the current thread
      * @return Connection object
      * @throws SQLException if connection cannot be obtained
      */
     public Connection getConnection() throws SQLException {
+        UnitOfWork unit = UnitOfWork.current();
+        if (unit != null) {
+            return unit.getSharedConnection();
+        }
         if (dataSource == null) {
             initializeDataSource();
         }
         return dataSource.getConnection();
     }
     
+    /**
+     * Gets a connection for a read-only DAO method from the read pool, or from the primary
+     * pool when there is no separate read pool. Inside a unit of work
+     * the unit's connection is returned instead, so the unit reads its own writes. When the
+     * read pool points at a replica, rows written moments ago may not be visible yet
+     * @return Connection object
+     * @throws SQLException if connection cannot be obtained
+     */
+    public Connection getReadConnection() throws SQLException {
+        UnitOfWork unit = UnitOfWork.current();
+        if (unit != null) {
+            return unit.getSharedConnection();
+        }
+        if (readDataSource == null) {
+            initializeDataSource();
+        }
+        return readDataSource.getConnection();
+    }
+    
+    /**
+     * Opens a unit of work on the current thread, or joins the one already open. Until it
+     * is closed, every DAO call on this thread runs on one connection and in one transaction,
+     * and statements are prepared once and reused; see {@link UnitOfWork}.
+     * @return the unit of work, to be closed with try-with-resources
+     * @throws SQLException if no connection can be obtained
+     */
+    public UnitOfWork beginUnitOfWork() throws SQLException {
+        return UnitOfWork.begin(this);
+    }
+    
+    /**
+     * Opens a connection outside the pool, for a session that stays open for the lifetime
+     * of a component, such as a LISTEN session. The caller must close it.
+     * @return a new Connection
+     * @throws SQLException if the connection cannot be opened
+     */
+    public Connection openDedicatedConnection() throws SQLException {
+        return DriverManager.getConnection(System.getenv("DATABASE_URL"), System.getenv("PGUSER"),
+                System.getenv("PGPASSWORD"));
+    }
+    
+    /**
+     * Prepares a statement whose executions are recorded under a query name in the
+     * metrics registry
+     * @param conn the connection
+     * @param queryName name the executions are recorded under, e.g. "jobs.getById"
+     * @param sql the SQL
+     * @return the prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareStatement(Connection conn, String queryName, String sql) throws SQLException {
+        return prepareStatement(conn, queryName, sql, Statement.NO_GENERATED_KEYS);
+    }
+    
+    /**
+     * Prepares a statement that returns generated keys and whose executions are recorded
+     * under a query name in the metrics registry
+     * @param conn the connection
+     * @param queryName name the executions are recorded under
+     * @param sql the SQL
+     * @param autoGeneratedKeys e.g. Statement.RETURN_GENERATED_KEYS
+     * @return the prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement prepareStatement(Connection conn, String queryName, String sql, int autoGeneratedKeys)
+            throws SQLException {
+        UnitOfWork unit = UnitOfWork.current();
+        if (unit != null && conn == unit.getSharedConnection()) {
+            return InstrumentedStatement.wrap(unit.prepare(sql, autoGeneratedKeys), queryName,
+                    unit.track(metricsRegistry));
+        }
+        return InstrumentedStatement.wrap(conn.prepareStatement(sql, autoGeneratedKeys), queryName, metricsRegistry);
+    }
+    
+    /**
+     * Gets the registry that query and pool metrics are reported to
+     * @return the metrics registry
+     */
+    public static MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+    
+    /**
+     * Replaces the metrics registry. Pool gauges are registered when the pool starts, so
+     * this should be called before the first getInstance()
+     * @param registry the new registry
+     */
+    public static void setMetricsRegistry(MetricsRegistry registry) {
+        metricsRegistry = registry;
+    }
+    
+    /**
+     * Gets the maximum number of connections in the pool
+     * @return the pool size
+     */
+    public int getMaximumPoolSize() {
+        if (dataSource == null) {
+            initializeDataSource();
+        }
+        return dataSource.getMaximumPoolSize();
+    }
+    
+    /**
+     * Gets the maximum number of connections in the separate read pool
+     * @return the read pool size, or 0 when reads share the primary pool
+     */
+    public int getMaximumReadPoolSize() {
+        if (readDataSource == null) {
+            initializeDataSource();
+        }
+        return readDataSource != dataSource ? readDataSource.getMaximumPoolSize() : 0;
+    }
+    
     /**
      * Closes database resources safely
      * @param connection The connection to close
@@ -222,6 +338,14 @@ public class DatabaseManager {
      * Closes the datasource when application terminates
      */
     public void shutdown() {
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+            metricsExporter = null;
+        }
+        if (readDataSource != null && readDataSource != dataSource && !readDataSource.isClosed()) {
+            readDataSource.close();
+            LOGGER.info("Read connection pool closed");
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             LOGGER.info("Database connection pool closed");
@@ -240,4 +364,37 @@ public class DatabaseManager {
             return false;
         }
     }
+    
+    /**
+     * Forwards Hikari's pool events and statistics to the current metrics registry
+     */
+    private static class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+        private final String gaugePrefix;
+        
+        PoolMetricsTrackerFactory(String gaugePrefix) {
+            this.gaugePrefix = gaugePrefix;
+        }
+        
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            MetricsRegistry registry = metricsRegistry;
+            registry.registerGauge(gaugePrefix + "active_connections", "Connections in use", poolStats::getActiveConnections);
+            registry.registerGauge(gaugePrefix + "idle_connections", "Idle connections in the pool", poolStats::getIdleConnections);
+            registry.registerGauge(gaugePrefix + "pending_threads", "Threads waiting for a connection", poolStats::getPendingThreads);
+            registry.registerGauge(gaugePrefix + "total_connections", "Open connections", poolStats::getTotalConnections);
+            registry.registerGauge(gaugePrefix + "max_connections", "Maximum pool size", poolStats::getMaxConnections);
+            
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    metricsRegistry.recordConnectionAcquired(elapsedAcquiredNanos);
+                }
+                
+                @Override
+                public void recordConnectionTimeout() {
+                    metricsRegistry.recordConnectionTimeout();
+                }
+            };
+        }
+    }
 }
\ No newline at end of file
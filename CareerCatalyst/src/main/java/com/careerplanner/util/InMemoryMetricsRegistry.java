@@ -0,0 +1,172 @@
+package com.careerplanner.util;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Default {@link MetricsRegistry}: keeps a latency histogram, a row count and an error
+ * count per named query, plus the pool's acquisition times and gauges, and writes them in
+ * the Prometheus text exposition format.
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+    private static final String PREFIX = "careerplanner_";
+
+    private final ConcurrentMap<String, QueryStats> queries = new ConcurrentHashMap<>();
+    private final LatencyHistogram connectionAcquire = new LatencyHistogram();
+    private final LongAdder connectionTimeouts = new LongAdder();
+    private final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics of one named query.
+     */
+    public static class QueryStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+    }
+
+    private static class Gauge {
+        private final String help;
+        private final DoubleSupplier value;
+
+        Gauge(String help, DoubleSupplier value) {
+            this.help = help;
+            this.value = value;
+        }
+    }
+
+    @Override
+    public void recordQuery(String queryName, long elapsedNanos, long rows, boolean failed) {
+        QueryStats stats = queries.computeIfAbsent(queryName, name -> new QueryStats());
+        stats.latency.record(elapsedNanos);
+        stats.rows.add(rows);
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    @Override
+    public void recordConnectionAcquired(long elapsedNanos) {
+        connectionAcquire.record(elapsedNanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        connectionTimeouts.increment();
+    }
+
+    @Override
+    public void registerGauge(String name, String help, DoubleSupplier value) {
+        gauges.put(name, new Gauge(help, value));
+    }
+
+    /**
+     * Gets the statistics of all queries executed so far.
+     *
+     * @return Statistics by query name, sorted by name
+     */
+    public Map<String, QueryStats> getQueryStats() {
+        return new TreeMap<>(queries);
+    }
+
+    /**
+     * Gets the histogram of connection acquisition times.
+     *
+     * @return The histogram
+     */
+    public LatencyHistogram getConnectionAcquire() {
+        return connectionAcquire;
+    }
+
+    /**
+     * Writes a snapshot of all metrics in the Prometheus text format.
+     *
+     * @param out Destination of the text
+     * @throws IOException if writing fails
+     */
+    public void writePrometheus(Appendable out) throws IOException {
+        Map<String, QueryStats> sorted = getQueryStats();
+
+        header(out, "query_duration_seconds", "summary", "Execution time of DAO queries");
+        for (Map.Entry<String, QueryStats> entry : sorted.entrySet()) {
+            summary(out, "query_duration_seconds", "query=\"" + escape(entry.getKey()) + "\"",
+                    entry.getValue().latency);
+        }
+        header(out, "query_duration_max_seconds", "gauge", "Slowest execution of each DAO query");
+        for (Map.Entry<String, QueryStats> entry : sorted.entrySet()) {
+            sample(out, "query_duration_max_seconds", "query=\"" + escape(entry.getKey()) + "\"",
+                    seconds(entry.getValue().latency.getMaxNanos()));
+        }
+        header(out, "query_rows_total", "counter", "Rows returned or affected by DAO queries");
+        for (Map.Entry<String, QueryStats> entry : sorted.entrySet()) {
+            sample(out, "query_rows_total", "query=\"" + escape(entry.getKey()) + "\"", entry.getValue().getRows());
+        }
+        header(out, "query_errors_total", "counter", "DAO query executions that failed");
+        for (Map.Entry<String, QueryStats> entry : sorted.entrySet()) {
+            sample(out, "query_errors_total", "query=\"" + escape(entry.getKey()) + "\"", entry.getValue().getErrors());
+        }
+
+        header(out, "pool_connection_acquire_seconds", "summary", "Time spent waiting for a pooled connection");
+        summary(out, "pool_connection_acquire_seconds", null, connectionAcquire);
+        header(out, "pool_connection_timeouts_total", "counter", "Connection requests that timed out");
+        sample(out, "pool_connection_timeouts_total", null, connectionTimeouts.sum());
+
+        for (Map.Entry<String, Gauge> entry : new TreeMap<>(gauges).entrySet()) {
+            header(out, entry.getKey(), "gauge", entry.getValue().help);
+            sample(out, entry.getKey(), null, entry.getValue().value.getAsDouble());
+        }
+    }
+
+    private static void summary(Appendable out, String name, String labels, LatencyHistogram histogram)
+            throws IOException {
+        String prefix = labels != null ? labels + "," : "";
+        sample(out, name, prefix + "quantile=\"0.5\"", seconds(histogram.getPercentileNanos(0.5)));
+        sample(out, name, prefix + "quantile=\"0.99\"", seconds(histogram.getPercentileNanos(0.99)));
+        sample(out, name + "_sum", labels, seconds(histogram.getSumNanos()));
+        sample(out, name + "_count", labels, histogram.getCount());
+    }
+
+    private static void header(Appendable out, String name, String type, String help) throws IOException {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(Appendable out, String name, String labels, double value) throws IOException {
+        out.append(PREFIX).append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append(Long.toString((long) value));
+        } else {
+            out.append(Double.toString(value));
+        }
+        out.append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,150 @@
+package com.careerplanner.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Wraps a PreparedStatement so that its executions are reported to a {@link MetricsRegistry}
+ * under the statement's query name.
+ *
+ * <p>For updates and batches the affected rows are known when the call returns. For queries
+ * the time spent in executeQuery and in fetching rows with next() is added up and the rows
+ * are counted by a {@link CountingResultSet}; the execution is reported when the result set
+ * or the statement is closed.</p>
+ */
+final class InstrumentedStatement implements InvocationHandler {
+    private final PreparedStatement delegate;
+    private final String queryName;
+    private final MetricsRegistry registry;
+
+    // State of the query whose result set is being read, reported on close
+    private boolean queryPending;
+    private long queryNanos;
+    private long queryRows;
+    private boolean queryFailed;
+
+    private InstrumentedStatement(PreparedStatement delegate, String queryName, MetricsRegistry registry) {
+        this.delegate = delegate;
+        this.queryName = queryName;
+        this.registry = registry;
+    }
+
+    /**
+     * Wraps a statement.
+     *
+     * @param statement The statement to instrument
+     * @param queryName Name the executions are recorded under
+     * @param registry Registry to report to
+     * @return A statement that behaves like the original
+     */
+    static PreparedStatement wrap(PreparedStatement statement, String queryName, MetricsRegistry registry) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, new InstrumentedStatement(statement, queryName, registry));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        boolean parameterless = args == null || args.length == 0;
+
+        if (name.equals("executeQuery") && parameterless) {
+            reportPendingQuery();
+            long start = System.nanoTime();
+            ResultSet resultSet;
+            try {
+                resultSet = (ResultSet) call(method, args);
+            } catch (SQLException e) {
+                registry.recordQuery(queryName, System.nanoTime() - start, 0, true);
+                throw e;
+            }
+            queryPending = true;
+            queryNanos = System.nanoTime() - start;
+            queryRows = 0;
+            queryFailed = false;
+            return new CountingResultSet(resultSet, this);
+        }
+
+        if ((name.equals("executeUpdate") || name.equals("executeLargeUpdate") || name.equals("executeBatch")
+                || name.equals("executeLargeBatch") || name.equals("execute")) && parameterless) {
+            long start = System.nanoTime();
+            try {
+                Object result = call(method, args);
+                registry.recordQuery(queryName, System.nanoTime() - start, affectedRows(result), false);
+                return result;
+            } catch (SQLException e) {
+                registry.recordQuery(queryName, System.nanoTime() - start, 0, true);
+                throw e;
+            }
+        }
+
+        if (name.equals("close") && parameterless) {
+            reportPendingQuery();
+        }
+        return call(method, args);
+    }
+
+    private Object call(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long affectedRows(Object result) throws SQLException {
+        if (result instanceof Integer || result instanceof Long) {
+            return ((Number) result).longValue();
+        }
+        if (result instanceof int[]) {
+            long sum = 0;
+            for (int count : (int[]) result) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        if (result instanceof long[]) {
+            long sum = 0;
+            for (long count : (long[]) result) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        // execute(): the update count, or -1 for a query whose rows are not read here
+        return Math.max(delegate.getUpdateCount(), 0);
+    }
+
+    void reportPendingQuery() {
+        if (queryPending) {
+            queryPending = false;
+            registry.recordQuery(queryName, queryNanos, queryRows, queryFailed);
+        }
+    }
+
+    /**
+     * Adds a call to next() on the pending query's result set.
+     *
+     * @param elapsedNanos Time the call took
+     * @param hasRow Whether it moved to a row
+     */
+    void fetched(long elapsedNanos, boolean hasRow) {
+        queryNanos += elapsedNanos;
+        if (hasRow) {
+            queryRows++;
+        }
+    }
+
+    /**
+     * Marks the pending query failed after a call to next() threw.
+     *
+     * @param elapsedNanos Time the call took
+     */
+    void fetchFailed(long elapsedNanos) {
+        queryNanos += elapsedNanos;
+        queryFailed = true;
+    }
+}
@@ -0,0 +1,882 @@
+package com.careerplanner.util;
+
+import com.careerplanner.model.*;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+import java.time.LocalDate;
+
+/**
+ * Converts model objects to and from the json-simple representation used by the data files.
+ * Shared by the DataManager loaders and the tools that read or write the same files.
+ */
+public final class JsonConverter {
+    
+    private JsonConverter() {
+    }
+    
+    /**
+     * Converts a User object to a JSONObject.
+     * 
+     * @param user The User object to convert
+     * @return JSONObject representation of the user
+     */
+    public static JSONObject convertUserToJSON(User user) {
+        JSONObject userJson = new JSONObject();
+        userJson.put("id", user.getId());
+        userJson.put("firstName", user.getFirstName());
+        userJson.put("lastName", user.getLastName());
+        userJson.put("email", user.getEmail());
+        userJson.put("password", user.getPassword());
+        
+        if (user.getPhone() != null) {
+            userJson.put("phone", user.getPhone());
+        }
+        
+        if (user.getAddress() != null) {
+            userJson.put("address", user.getAddress());
+        }
+        
+        // Add job applications
+        JSONArray jobsArray = new JSONArray();
+        for (Job job : user.getJobApplications()) {
+            JSONObject jobJson = new JSONObject();
+            jobJson.put("id", job.getId());
+            jobJson.put("companyName", job.getCompanyName());
+            jobJson.put("position", job.getPosition());
+            jobJson.put("location", job.getLocation());
+            
+            if (job.getDescription() != null) {
+                jobJson.put("description", job.getDescription());
+            }
+            
+            if (job.getUrl() != null) {
+                jobJson.put("url", job.getUrl());
+            }
+            
+            if (job.getSalary() > 0) {
+                jobJson.put("salary", job.getSalary());
+            }
+            
+            jobJson.put("status", job.getStatus().name());
+            jobJson.put("dateAdded", job.getDateAdded().toString());
+            
+            if (job.getApplicationDeadline() != null) {
+                jobJson.put("applicationDeadline", job.getApplicationDeadline().toString());
+            }
+            
+            jobJson.put("lastUpdated", job.getLastUpdated().toString());
+            
+            if (job.getNotes() != null) {
+                jobJson.put("notes", job.getNotes());
+            }
+            
+            if (job.getContactName() != null) {
+                jobJson.put("contactName", job.getContactName());
+            }
+            
+            if (job.getContactEmail() != null) {
+                jobJson.put("contactEmail", job.getContactEmail());
+            }
+            
+            if (job.getContactPhone() != null) {
+                jobJson.put("contactPhone", job.getContactPhone());
+            }
+            
+            jobsArray.add(jobJson);
+        }
+        userJson.put("jobApplications", jobsArray);
+        
+        // Add skills
+        JSONArray skillsArray = new JSONArray();
+        for (Skill skill : user.getSkills()) {
+            JSONObject skillJson = new JSONObject();
+            skillJson.put("id", skill.getId());
+            skillJson.put("name", skill.getName());
+            skillJson.put("proficiencyLevel", skill.getProficiencyLevel().name());
+            skillJson.put("category", skill.getCategory().name());
+            
+            if (skill.getDescription() != null) {
+                skillJson.put("description", skill.getDescription());
+            }
+            
+            skillJson.put("includeInResume", skill.isIncludeInResume());
+            
+            skillsArray.add(skillJson);
+        }
+        userJson.put("skills", skillsArray);
+        
+        // Add achievements
+        JSONArray achievementsArray = new JSONArray();
+        for (Achievement achievement : user.getAchievements()) {
+            JSONObject achievementJson = new JSONObject();
+            achievementJson.put("id", achievement.getId());
+            achievementJson.put("title", achievement.getTitle());
+            
+            if (achievement.getDescription() != null) {
+                achievementJson.put("description", achievement.getDescription());
+            }
+            
+            achievementJson.put("date", achievement.getDate().toString());
+            achievementJson.put("type", achievement.getType().name());
+            achievementJson.put("includeInResume", achievement.isIncludeInResume());
+            
+            achievementsArray.add(achievementJson);
+        }
+        userJson.put("achievements", achievementsArray);
+        
+        // Add goals
+        JSONArray shortTermGoalsArray = new JSONArray();
+        for (Goal goal : user.getShortTermGoals()) {
+            JSONObject goalJson = new JSONObject();
+            goalJson.put("id", goal.getId());
+            goalJson.put("title", goal.getTitle());
+            
+            if (goal.getDescription() != null) {
+                goalJson.put("description", goal.getDescription());
+            }
+            
+            goalJson.put("shortTerm", goal.isShortTerm());
+            goalJson.put("status", goal.getStatus().name());
+            
+            if (goal.getTargetDate() != null) {
+                goalJson.put("targetDate", goal.getTargetDate().toString());
+            }
+            
+            if (goal.getCompletionDate() != null) {
+                goalJson.put("completionDate", goal.getCompletionDate().toString());
+            }
+            
+            if (goal.getActionPlan() != null) {
+                goalJson.put("actionPlan", goal.getActionPlan());
+            }
+            
+            shortTermGoalsArray.add(goalJson);
+        }
+        userJson.put("shortTermGoals", shortTermGoalsArray);
+        
+        JSONArray longTermGoalsArray = new JSONArray();
+        for (Goal goal : user.getLongTermGoals()) {
+            JSONObject goalJson = new JSONObject();
+            goalJson.put("id", goal.getId());
+            goalJson.put("title", goal.getTitle());
+            
+            if (goal.getDescription() != null) {
+                goalJson.put("description", goal.getDescription());
+            }
+            
+            goalJson.put("shortTerm", goal.isShortTerm());
+            goalJson.put("status", goal.getStatus().name());
+            
+            if (goal.getTargetDate() != null) {
+                goalJson.put("targetDate", goal.getTargetDate().toString());
+            }
+            
+            if (goal.getCompletionDate() != null) {
+                goalJson.put("completionDate", goal.getCompletionDate().toString());
+            }
+            
+            if (goal.getActionPlan() != null) {
+                goalJson.put("actionPlan", goal.getActionPlan());
+            }
+            
+            longTermGoalsArray.add(goalJson);
+        }
+        userJson.put("longTermGoals", longTermGoalsArray);
+        
+        // Add resume
+        userJson.put("resume", convertResumeToJSON(user.getResume()));
+        
+        return userJson;
+    }
+    
+    /**
+     * Converts a Resume object to a JSONObject.
+     * 
+     * @param resume The Resume object to convert
+     * @return JSONObject representation of the resume
+     */
+    public static JSONObject convertResumeToJSON(Resume resume) {
+        JSONObject resumeJson = new JSONObject();
+        
+        resumeJson.put("id", resume.getId());
+        resumeJson.put("title", resume.getTitle());
+        resumeJson.put("template", resume.getTemplate().name());
+        
+        if (resume.getSummary() != null) {
+            resumeJson.put("summary", resume.getSummary());
+        }
+        
+        // Add education list
+        JSONArray educationArray = new JSONArray();
+        for (Resume.Education education : resume.getEducationList()) {
+            educationArray.add(convertEducationToJSON(education));
+        }
+        resumeJson.put("educationList", educationArray);
+        
+        // Add work experience
+        JSONArray experienceArray = new JSONArray();
+        for (Resume.Experience experience : resume.getWorkExperienceList()) {
+            experienceArray.add(convertExperienceToJSON(experience));
+        }
+        resumeJson.put("workExperienceList", experienceArray);
+        
+        // Add projects
+        JSONArray projectsArray = new JSONArray();
+        for (Resume.Project project : resume.getProjectsList()) {
+            projectsArray.add(convertProjectToJSON(project));
+        }
+        resumeJson.put("projectsList", projectsArray);
+        
+        // Add languages
+        JSONArray languagesArray = new JSONArray();
+        for (String language : resume.getLanguages()) {
+            languagesArray.add(language);
+        }
+        resumeJson.put("languages", languagesArray);
+        
+        // Add references
+        JSONArray referencesArray = new JSONArray();
+        for (String reference : resume.getReferences()) {
+            referencesArray.add(reference);
+        }
+        resumeJson.put("references", referencesArray);
+        
+        if (resume.getAdditionalInfo() != null) {
+            resumeJson.put("additionalInfo", resume.getAdditionalInfo());
+        }
+        
+        return resumeJson;
+    }
+    
+    /**
+     * Converts a resume education entry to a JSONObject.
+     * 
+     * @param education The education entry to convert
+     * @return JSONObject representation of the entry
+     */
+    public static JSONObject convertEducationToJSON(Resume.Education education) {
+        JSONObject educationJson = new JSONObject();
+        educationJson.put("degree", education.getDegree());
+        educationJson.put("institution", education.getInstitution());
+        
+        if (education.getLocation() != null) {
+            educationJson.put("location", education.getLocation());
+        }
+        
+        educationJson.put("startDate", education.getStartDate());
+        educationJson.put("endDate", education.getEndDate());
+        
+        if (education.getDescription() != null) {
+            educationJson.put("description", education.getDescription());
+        }
+        
+        if (education.getGpa() != null) {
+            educationJson.put("gpa", education.getGpa());
+        }
+        
+        return educationJson;
+    }
+    
+    /**
+     * Converts a resume work experience entry to a JSONObject.
+     * 
+     * @param experience The experience entry to convert
+     * @return JSONObject representation of the entry
+     */
+    public static JSONObject convertExperienceToJSON(Resume.Experience experience) {
+        JSONObject experienceJson = new JSONObject();
+        experienceJson.put("position", experience.getPosition());
+        experienceJson.put("company", experience.getCompany());
+        
+        if (experience.getLocation() != null) {
+            experienceJson.put("location", experience.getLocation());
+        }
+        
+        experienceJson.put("startDate", experience.getStartDate());
+        
+        if (experience.getEndDate() != null) {
+            experienceJson.put("endDate", experience.getEndDate());
+        }
+        
+        if (experience.getDescription() != null) {
+            experienceJson.put("description", experience.getDescription());
+        }
+        
+        // Add responsibilities
+        JSONArray responsibilitiesArray = new JSONArray();
+        for (String responsibility : experience.getResponsibilities()) {
+            responsibilitiesArray.add(responsibility);
+        }
+        experienceJson.put("responsibilities", responsibilitiesArray);
+        
+        return experienceJson;
+    }
+    
+    /**
+     * Converts a resume project entry to a JSONObject.
+     * 
+     * @param project The project entry to convert
+     * @return JSONObject representation of the entry
+     */
+    public static JSONObject convertProjectToJSON(Resume.Project project) {
+        JSONObject projectJson = new JSONObject();
+        projectJson.put("name", project.getName());
+        
+        if (project.getDescription() != null) {
+            projectJson.put("description", project.getDescription());
+        }
+        
+        projectJson.put("startDate", project.getStartDate());
+        
+        if (project.getEndDate() != null) {
+            projectJson.put("endDate", project.getEndDate());
+        }
+        
+        if (project.getTechnologies() != null) {
+            projectJson.put("technologies", project.getTechnologies());
+        }
+        
+        if (project.getUrl() != null) {
+            projectJson.put("url", project.getUrl());
+        }
+        
+        return projectJson;
+    }
+    
+    /**
+     * Converts a Resource object to a JSONObject.
+     * 
+     * @param resource The Resource object to convert
+     * @return JSONObject representation of the resource
+     */
+    public static JSONObject convertResourceToJSON(Resource resource) {
+        JSONObject resourceJson = new JSONObject();
+        resourceJson.put("id", resource.getId());
+        resourceJson.put("title", resource.getTitle());
+        
+        if (resource.getDescription() != null) {
+            resourceJson.put("description", resource.getDescription());
+        }
+        
+        resourceJson.put("type", resource.getType().name());
+        
+        if (resource.getUrl() != null) {
+            resourceJson.put("url", resource.getUrl());
+        }
+        
+        if (resource.getAuthor() != null) {
+            resourceJson.put("author", resource.getAuthor());
+        }
+        
+        if (resource.getProvider() != null) {
+            resourceJson.put("provider", resource.getProvider());
+        }
+        
+        resourceJson.put("rating", resource.getRating());
+        resourceJson.put("completed", resource.isCompleted());
+        
+        if (resource.getNotes() != null) {
+            resourceJson.put("notes", resource.getNotes());
+        }
+        
+        return resourceJson;
+    }
+    
+    /**
+     * Parses a User object from a JSONObject.
+     * 
+     * @param userJson The JSONObject to parse
+     * @return User object
+     */
+    public static User parseUserFromJSON(JSONObject userJson) {
+        return parseUserFromJSON(userJson, null);
+    }
+    
+    /**
+     * Parses a User object from a JSONObject, deduplicating low-cardinality strings
+     * (company names, locations, skill names, resume dates, ...) through the given pool.
+     * 
+     * @param userJson The JSONObject to parse
+     * @param pool The load-scoped string pool, or null to keep the parsed strings
+     * @return User object
+     */
+    public static User parseUserFromJSON(JSONObject userJson, StringPool pool) {
+        User user = new User();
+        
+        String idString = idToString(userJson.get("id"));
+        if (idString != null) {
+            try {
+                user.setId(Integer.parseInt(idString));
+            } catch (NumberFormatException e) {
+                // For migration, we'll assign a temporary ID
+                user.setId(1); // We'll assign proper IDs when saving to database
+            }
+        }
+        user.setFirstName((String) userJson.get("firstName"));
+        user.setLastName((String) userJson.get("lastName"));
+        user.setEmail((String) userJson.get("email"));
+        user.setPassword((String) userJson.get("password"));
+        
+        if (userJson.containsKey("phone")) {
+            user.setPhone((String) userJson.get("phone"));
+        }
+        
+        if (userJson.containsKey("address")) {
+            user.setAddress((String) userJson.get("address"));
+        }
+        
+        // Parse job applications
+        if (userJson.containsKey("jobApplications")) {
+            JSONArray jobsArray = (JSONArray) userJson.get("jobApplications");
+            for (Object jobObj : jobsArray) {
+                JSONObject jobJson = (JSONObject) jobObj;
+                Job job = new Job();
+                
+                String jobIdString = idToString(jobJson.get("id"));
+                if (jobIdString != null) {
+                    try {
+                        job.setId(Integer.parseInt(jobIdString));
+                    } catch (NumberFormatException e) {
+                        // For migration, we'll assign a temporary ID
+                        job.setId(1); // We'll assign proper IDs when saving to database
+                    }
+                }
+                job.setCompanyName(pooled(pool, jobJson.get("companyName")));
+                job.setPosition(pooled(pool, jobJson.get("position")));
+                job.setLocation(pooled(pool, jobJson.get("location")));
+                
+                if (jobJson.containsKey("description")) {
+                    job.setDescription((String) jobJson.get("description"));
+                }
+                
+                if (jobJson.containsKey("url")) {
+                    job.setUrl((String) jobJson.get("url"));
+                }
+                
+                if (jobJson.containsKey("salary")) {
+                    job.setSalary((Double) jobJson.get("salary"));
+                }
+                
+                job.setStatus(Job.Status.valueOf((String) jobJson.get("status")));
+                job.setDateAdded(LocalDate.parse((String) jobJson.get("dateAdded")));
+                
+                if (jobJson.containsKey("applicationDeadline")) {
+                    job.setApplicationDeadline(LocalDate.parse((String) jobJson.get("applicationDeadline")));
+                }
+                
+                job.setLastUpdated(LocalDate.parse((String) jobJson.get("lastUpdated")));
+                
+                if (jobJson.containsKey("notes")) {
+                    job.setNotes((String) jobJson.get("notes"));
+                }
+                
+                if (jobJson.containsKey("contactName")) {
+                    job.setContactName((String) jobJson.get("contactName"));
+                }
+                
+                if (jobJson.containsKey("contactEmail")) {
+                    job.setContactEmail((String) jobJson.get("contactEmail"));
+                }
+                
+                if (jobJson.containsKey("contactPhone")) {
+                    job.setContactPhone((String) jobJson.get("contactPhone"));
+                }
+                
+                user.addJobApplication(job);
+            }
+        }
+        
+        // Parse skills
+        if (userJson.containsKey("skills")) {
+            JSONArray skillsArray = (JSONArray) userJson.get("skills");
+            for (Object skillObj : skillsArray) {
+                JSONObject skillJson = (JSONObject) skillObj;
+                Skill skill = new Skill();
+                
+                String skillIdString = idToString(skillJson.get("id"));
+                if (skillIdString != null) {
+                    try {
+                        skill.setId(Integer.parseInt(skillIdString));
+                    } catch (NumberFormatException e) {
+                        // For migration, we'll assign a temporary ID
+                        skill.setId(1); // We'll assign proper IDs when saving to database
+                    }
+                }
+                skill.setName(pooled(pool, skillJson.get("name")));
+                skill.setProficiencyLevel(Skill.ProficiencyLevel.valueOf((String) skillJson.get("proficiencyLevel")));
+                skill.setCategory(Skill.Category.valueOf((String) skillJson.get("category")));
+                
+                if (skillJson.containsKey("description")) {
+                    skill.setDescription((String) skillJson.get("description"));
+                }
+                
+                skill.setIncludeInResume((Boolean) skillJson.get("includeInResume"));
+                
+                user.addSkill(skill);
+            }
+        }
+        
+        // Parse achievements
+        if (userJson.containsKey("achievements")) {
+            JSONArray achievementsArray = (JSONArray) userJson.get("achievements");
+            for (Object achievementObj : achievementsArray) {
+                JSONObject achievementJson = (JSONObject) achievementObj;
+                Achievement achievement = new Achievement();
+                
+                String achievementIdString = idToString(achievementJson.get("id"));
+                if (achievementIdString != null) {
+                    try {
+                        achievement.setId(Integer.parseInt(achievementIdString));
+                    } catch (NumberFormatException e) {
+                        // For migration, we'll assign a temporary ID
+                        achievement.setId(1); // We'll assign proper IDs when saving to database
+                    }
+                }
+                achievement.setTitle((String) achievementJson.get("title"));
+                
+                if (achievementJson.containsKey("description")) {
+                    achievement.setDescription((String) achievementJson.get("description"));
+                }
+                
+                achievement.setDate(LocalDate.parse((String) achievementJson.get("date")));
+                achievement.setType(Achievement.Type.valueOf((String) achievementJson.get("type")));
+                achievement.setIncludeInResume((Boolean) achievementJson.get("includeInResume"));
+                
+                user.addAchievement(achievement);
+            }
+        }
+        
+        // Parse short-term goals
+        if (userJson.containsKey("shortTermGoals")) {
+            JSONArray goalsArray = (JSONArray) userJson.get("shortTermGoals");
+            for (Object goalObj : goalsArray) {
+                JSONObject goalJson = (JSONObject) goalObj;
+                Goal goal = new Goal();
+                
+                goal.setId(idToString(goalJson.get("id")));
+                goal.setTitle((String) goalJson.get("title"));
+                
+                if (goalJson.containsKey("description")) {
+                    goal.setDescription((String) goalJson.get("description"));
+                }
+                
+                goal.setShortTerm((Boolean) goalJson.get("shortTerm"));
+                goal.setStatus(Goal.Status.valueOf((String) goalJson.get("status")));
+                
+                if (goalJson.containsKey("targetDate")) {
+                    goal.setTargetDate(LocalDate.parse((String) goalJson.get("targetDate")));
+                }
+                
+                if (goalJson.containsKey("completionDate")) {
+                    goal.setCompletionDate(LocalDate.parse((String) goalJson.get("completionDate")));
+                }
+                
+                if (goalJson.containsKey("actionPlan")) {
+                    goal.setActionPlan((String) goalJson.get("actionPlan"));
+                }
+                
+                user.addGoal(goal);
+            }
+        }
+        
+        // Parse long-term goals
+        if (userJson.containsKey("longTermGoals")) {
+            JSONArray goalsArray = (JSONArray) userJson.get("longTermGoals");
+            for (Object goalObj : goalsArray) {
+                JSONObject goalJson = (JSONObject) goalObj;
+                Goal goal = new Goal();
+                
+                goal.setId(idToString(goalJson.get("id")));
+                goal.setTitle((String) goalJson.get("title"));
+                
+                if (goalJson.containsKey("description")) {
+                    goal.setDescription((String) goalJson.get("description"));
+                }
+                
+                goal.setShortTerm((Boolean) goalJson.get("shortTerm"));
+                goal.setStatus(Goal.Status.valueOf((String) goalJson.get("status")));
+                
+                if (goalJson.containsKey("targetDate")) {
+                    goal.setTargetDate(LocalDate.parse((String) goalJson.get("targetDate")));
+                }
+                
+                if (goalJson.containsKey("completionDate")) {
+                    goal.setCompletionDate(LocalDate.parse((String) goalJson.get("completionDate")));
+                }
+                
+                if (goalJson.containsKey("actionPlan")) {
+                    goal.setActionPlan((String) goalJson.get("actionPlan"));
+                }
+                
+                user.addGoal(goal);
+            }
+        }
+        
+        // Parse resume
+        if (userJson.containsKey("resume")) {
+            user.setResume(parseResumeFromJSON((JSONObject) userJson.get("resume"), pool));
+        }
+        
+        return user;
+    }
+    
+    /**
+     * Parses a Resume object from a JSONObject.
+     * 
+     * @param resumeJson The JSONObject to parse
+     * @return Resume object
+     */
+    public static Resume parseResumeFromJSON(JSONObject resumeJson) {
+        return parseResumeFromJSON(resumeJson, null);
+    }
+    
+    /**
+     * Parses a Resume object from a JSONObject, deduplicating strings through the given pool.
+     * 
+     * @param resumeJson The JSONObject to parse
+     * @param pool The load-scoped string pool, or null to keep the parsed strings
+     * @return Resume object
+     */
+    public static Resume parseResumeFromJSON(JSONObject resumeJson, StringPool pool) {
+        Resume resume = new Resume();
+        
+        resume.setId(idToString(resumeJson.get("id")));
+        resume.setTitle(pooled(pool, resumeJson.get("title")));
+        resume.setTemplate(Resume.Template.valueOf((String) resumeJson.get("template")));
+        
+        if (resumeJson.containsKey("summary")) {
+            resume.setSummary((String) resumeJson.get("summary"));
+        }
+        
+        // Parse education list
+        if (resumeJson.containsKey("educationList")) {
+            JSONArray educationArray = (JSONArray) resumeJson.get("educationList");
+            for (Object educationObj : educationArray) {
+                resume.addEducation(parseEducationFromJSON((JSONObject) educationObj, pool));
+            }
+        }
+        
+        // Parse work experience
+        if (resumeJson.containsKey("workExperienceList")) {
+            JSONArray experienceArray = (JSONArray) resumeJson.get("workExperienceList");
+            for (Object experienceObj : experienceArray) {
+                resume.addWorkExperience(parseExperienceFromJSON((JSONObject) experienceObj, pool));
+            }
+        }
+        
+        // Parse projects
+        if (resumeJson.containsKey("projectsList")) {
+            JSONArray projectsArray = (JSONArray) resumeJson.get("projectsList");
+            for (Object projectObj : projectsArray) {
+                resume.addProject(parseProjectFromJSON((JSONObject) projectObj, pool));
+            }
+        }
+        
+        // Parse languages
+        if (resumeJson.containsKey("languages")) {
+            JSONArray languagesArray = (JSONArray) resumeJson.get("languages");
+            for (Object languageObj : languagesArray) {
+                resume.addLanguage(pooled(pool, languageObj));
+            }
+        }
+        
+        // Parse references
+        if (resumeJson.containsKey("references")) {
+            JSONArray referencesArray = (JSONArray) resumeJson.get("references");
+            for (Object referenceObj : referencesArray) {
+                resume.addReference((String) referenceObj);
+            }
+        }
+        
+        if (resumeJson.containsKey("additionalInfo")) {
+            resume.setAdditionalInfo((String) resumeJson.get("additionalInfo"));
+        }
+        
+        return resume;
+    }
+    
+    /**
+     * Parses a resume education entry from a JSONObject.
+     * 
+     * @param educationJson The JSONObject to parse
+     * @param pool The string pool, or null
+     * @return Education entry
+     */
+    public static Resume.Education parseEducationFromJSON(JSONObject educationJson, StringPool pool) {
+        Resume.Education education = new Resume.Education();
+        
+        education.setDegree(pooled(pool, educationJson.get("degree")));
+        education.setInstitution(pooled(pool, educationJson.get("institution")));
+        
+        if (educationJson.containsKey("location")) {
+            education.setLocation(pooled(pool, educationJson.get("location")));
+        }
+        
+        education.setStartDate(pooled(pool, educationJson.get("startDate")));
+        education.setEndDate(pooled(pool, educationJson.get("endDate")));
+        
+        if (educationJson.containsKey("description")) {
+            education.setDescription((String) educationJson.get("description"));
+        }
+        
+        if (educationJson.containsKey("gpa")) {
+            education.setGpa(pooled(pool, educationJson.get("gpa")));
+        }
+        
+        return education;
+    }
+    
+    /**
+     * Parses a resume work experience entry from a JSONObject.
+     * 
+     * @param experienceJson The JSONObject to parse
+     * @param pool The string pool, or null
+     * @return Experience entry
+     */
+    public static Resume.Experience parseExperienceFromJSON(JSONObject experienceJson, StringPool pool) {
+        Resume.Experience experience = new Resume.Experience();
+        
+        experience.setPosition(pooled(pool, experienceJson.get("position")));
+        experience.setCompany(pooled(pool, experienceJson.get("company")));
+        
+        if (experienceJson.containsKey("location")) {
+            experience.setLocation(pooled(pool, experienceJson.get("location")));
+        }
+        
+        experience.setStartDate(pooled(pool, experienceJson.get("startDate")));
+        
+        if (experienceJson.containsKey("endDate")) {
+            experience.setEndDate(pooled(pool, experienceJson.get("endDate")));
+        }
+        
+        if (experienceJson.containsKey("description")) {
+            experience.setDescription((String) experienceJson.get("description"));
+        }
+        
+        // Parse responsibilities
+        if (experienceJson.containsKey("responsibilities")) {
+            JSONArray responsibilitiesArray = (JSONArray) experienceJson.get("responsibilities");
+            for (Object responsibilityObj : responsibilitiesArray) {
+                experience.addResponsibility((String) responsibilityObj);
+            }
+        }
+        
+        return experience;
+    }
+    
+    /**
+     * Parses a resume project entry from a JSONObject.
+     * 
+     * @param projectJson The JSONObject to parse
+     * @param pool The string pool, or null
+     * @return Project entry
+     */
+    public static Resume.Project parseProjectFromJSON(JSONObject projectJson, StringPool pool) {
+        Resume.Project project = new Resume.Project();
+        
+        project.setName((String) projectJson.get("name"));
+        
+        if (projectJson.containsKey("description")) {
+            project.setDescription((String) projectJson.get("description"));
+        }
+        
+        project.setStartDate(pooled(pool, projectJson.get("startDate")));
+        
+        if (projectJson.containsKey("endDate")) {
+            project.setEndDate(pooled(pool, projectJson.get("endDate")));
+        }
+        
+        if (projectJson.containsKey("technologies")) {
+            project.setTechnologies((String) projectJson.get("technologies"));
+        }
+        
+        if (projectJson.containsKey("url")) {
+            project.setUrl((String) projectJson.get("url"));
+        }
+        
+        return project;
+    }
+    
+    /**
+     * Parses a Resource object from a JSONObject.
+     * 
+     * @param resourceJson The JSONObject to parse
+     * @return Resource object
+     */
+    public static Resource parseResourceFromJSON(JSONObject resourceJson) {
+        return parseResourceFromJSON(resourceJson, null);
+    }
+    
+    /**
+     * Parses a Resource object from a JSONObject, deduplicating the author and provider
+     * through the given pool.
+     * 
+     * @param resourceJson The JSONObject to parse
+     * @param pool The load-scoped string pool, or null to keep the parsed strings
+     * @return Resource object
+     */
+    public static Resource parseResourceFromJSON(JSONObject resourceJson, StringPool pool) {
+        Resource resource = new Resource();
+        
+        String resourceIdString = idToString(resourceJson.get("id"));
+        if (resourceIdString != null) {
+            try {
+                resource.setId(Integer.parseInt(resourceIdString));
+            } catch (NumberFormatException e) {
+                // For migration, we'll assign a temporary ID
+                resource.setId(1); // We'll assign proper IDs when saving to database
+            }
+        }
+        resource.setTitle((String) resourceJson.get("title"));
+        
+        if (resourceJson.containsKey("description")) {
+            resource.setDescription((String) resourceJson.get("description"));
+        }
+        
+        resource.setType(Resource.Type.valueOf((String) resourceJson.get("type")));
+        
+        if (resourceJson.containsKey("url")) {
+            resource.setUrl((String) resourceJson.get("url"));
+        }
+        
+        if (resourceJson.containsKey("author")) {
+            resource.setAuthor(pooled(pool, resourceJson.get("author")));
+        }
+        
+        if (resourceJson.containsKey("provider")) {
+            resource.setProvider(pooled(pool, resourceJson.get("provider")));
+        }
+        
+        resource.setRating((Double) resourceJson.get("rating"));
+        resource.setCompleted((Boolean) resourceJson.get("completed"));
+        
+        if (resourceJson.containsKey("notes")) {
+            resource.setNotes((String) resourceJson.get("notes"));
+        }
+        
+        return resource;
+    }
+    
+    /**
+     * Converts a stored id value to a string.
+     * Ids are written as numbers but older files stored them as strings.
+     * 
+     * @param value The stored id value
+     * @return The id as a string, or null if absent
+     */
+    private static String idToString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+    
+    /**
+     * Reads a string value, deduplicated through the pool if there is one.
+     * 
+     * @param pool The string pool, may be null
+     * @param value The parsed string value
+     * @return The pooled value
+     */
+    private static String pooled(StringPool pool, Object value) {
+        return pool != null ? pool.intern((String) value) : (String) value;
+    }
+}
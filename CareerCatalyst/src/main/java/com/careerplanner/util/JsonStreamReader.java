@@ -0,0 +1,199 @@
+package com.careerplanner.util;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token-level reader for the JSON data files.
+ * Instead of building the whole document tree, it hands over one array element at a time
+ * and forgets it as soon as the callback returns, so only a single user or resource is
+ * ever held as parse tree.
+ *
+ * <p>Two document shapes are supported: a root array ({@code [{...}, {...}]}), whose elements
+ * are reported with a null array key, and a root object whose values are arrays
+ * ({@code {"users": [...], "resources": [...]}}), whose elements are reported with the key
+ * of the enclosing array. Other values directly under a root object are collected and can be
+ * read through {@link #getRootValues()}.</p>
+ */
+public class JsonStreamReader implements ContentHandler {
+
+    /**
+     * Callback receiving each streamed array element.
+     */
+    public interface ElementHandler {
+        /**
+         * Handles a single array element.
+         *
+         * @param arrayKey Key of the enclosing array, or null for a root array
+         * @param element The parsed element
+         */
+        void onElement(String arrayKey, JSONObject element);
+    }
+
+    private final ElementHandler handler;
+    private final Deque<Object> containers = new ArrayDeque<>();
+    private final Deque<String> keys = new ArrayDeque<>();
+    private final Map<String, Object> rootValues = new HashMap<>();
+
+    private int depth;
+    private boolean rootIsObject;
+    private boolean streaming;
+    private String rootKey;
+    private String streamKey;
+
+    /**
+     * Constructor for the JsonStreamReader class.
+     *
+     * @param handler Callback receiving each array element
+     */
+    public JsonStreamReader(ElementHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Streams the given document to the handler.
+     *
+     * @param reader The document to read
+     * @param handler Callback receiving each array element
+     * @return The values found directly under a root object that were not streamed
+     * @throws IOException if the document cannot be read
+     * @throws ParseException if the document is not valid JSON
+     */
+    public static Map<String, Object> read(Reader reader, ElementHandler handler) throws IOException, ParseException {
+        JsonStreamReader streamReader = new JsonStreamReader(handler);
+        new JSONParser().parse(reader, streamReader);
+        return streamReader.getRootValues();
+    }
+
+    /**
+     * Gets the values found directly under a root object that were not streamed.
+     *
+     * @return Map of root keys to values
+     */
+    public Map<String, Object> getRootValues() {
+        return rootValues;
+    }
+
+    @Override
+    public void startJSON() {
+        depth = 0;
+        rootIsObject = false;
+        streaming = false;
+        containers.clear();
+        keys.clear();
+        rootValues.clear();
+    }
+
+    @Override
+    public void endJSON() {
+    }
+
+    @Override
+    public boolean startObject() {
+        depth++;
+        if (depth == 1) {
+            rootIsObject = true;
+        } else {
+            containers.push(new JSONObject());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObject() {
+        depth--;
+        if (depth > 0) {
+            complete(containers.pop());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean startObjectEntry(String key) {
+        if (depth == 1 && rootIsObject) {
+            rootKey = key;
+        } else {
+            keys.push(key);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endObjectEntry() {
+        return true;
+    }
+
+    @Override
+    public boolean startArray() {
+        depth++;
+        if (depth == 1) {
+            streaming = true;
+            streamKey = null;
+        } else if (depth == 2 && rootIsObject) {
+            streaming = true;
+            streamKey = rootKey;
+        } else {
+            containers.push(new JSONArray());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean endArray() {
+        depth--;
+        if (containers.isEmpty()) {
+            streaming = false;
+        } else {
+            complete(containers.pop());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean primitive(Object value) {
+        if (containers.isEmpty()) {
+            if (!streaming && rootIsObject) {
+                rootValues.put(rootKey, value);
+            }
+        } else {
+            attach(value);
+        }
+        return true;
+    }
+
+    /**
+     * Places a finished container either into its parent or, for a top-level value,
+     * hands it to the element handler.
+     */
+    private void complete(Object value) {
+        if (!containers.isEmpty()) {
+            attach(value);
+        } else if (streaming) {
+            if (value instanceof JSONObject) {
+                handler.onElement(streamKey, (JSONObject) value);
+            }
+        } else {
+            rootValues.put(rootKey, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void attach(Object value) {
+        Object parent = containers.peek();
+        if (parent instanceof JSONArray) {
+            ((JSONArray) parent).add(value);
+        } else {
+            ((JSONObject) parent).put(keys.pop(), value);
+        }
+    }
+}
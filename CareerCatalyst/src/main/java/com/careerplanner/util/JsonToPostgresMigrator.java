@@ -0,0 +1,481 @@
+package com.careerplanner.util;
+
+import com.careerplanner.model.*;
+import org.json.simple.parser.ParseException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Moves the JSON file store (users.json and resources.json) into the PostgreSQL schema
+ * created by {@link DatabaseManager}.
+ *
+ * <p>Both files are streamed and written in batches. Each batch is loaded with
+ * {@code COPY ... FROM STDIN} through the pgjdbc {@link CopyManager} in a single transaction
+ * that also advances a checkpoint, so an interrupted migration can simply be started again
+ * and continues after the last committed batch.</p>
+ *
+ * <p>The ids in the JSON files are not reliable (older files used strings, and ids that do
+ * not parse were replaced by placeholders), so every row gets a new database id. User ids are
+ * reserved from the users sequence before the batch is copied, which lets the jobs, skills,
+ * goals, achievements and resume of each user reference the new id directly. The mapping from
+ * email and legacy id to the new user id is kept in {@code migration_user_ids}.</p>
+ *
+ * <p>Usage: {@code JsonToPostgresMigrator [dataDirectory] [batchSize]}, with the connection
+ * taken from the usual DATABASE_URL, PGUSER and PGPASSWORD environment variables.</p>
+ */
+public class JsonToPostgresMigrator {
+    private static final Logger LOGGER = Logger.getLogger(JsonToPostgresMigrator.class.getName());
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final DatabaseManager dbManager;
+    private final int batchSize;
+
+    // Progress, reported after every batch
+    private final Map<String, Long> rowsByTable = new LinkedHashMap<>();
+    private long totalRows;
+    private long truncatedValues;
+    private long startNanos;
+
+    /**
+     * Constructor for the JsonToPostgresMigrator class.
+     *
+     * @param dbManager The database to migrate into
+     * @param batchSize Number of users or resources copied per transaction
+     */
+    public JsonToPostgresMigrator(DatabaseManager dbManager, int batchSize) {
+        this.dbManager = dbManager;
+        this.batchSize = batchSize;
+    }
+
+    public static void main(String[] args) {
+        Path dataDirectory = Paths.get(args.length > 0 ? args[0] : "src/main/resources/data");
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BATCH_SIZE;
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        try {
+            new JsonToPostgresMigrator(dbManager, batchSize).migrate(dataDirectory);
+        } catch (IOException | ParseException | SQLException e) {
+            LOGGER.log(Level.SEVERE, "Migration stopped; run it again to continue from the last checkpoint", e);
+            System.exit(1);
+        } finally {
+            dbManager.shutdown();
+        }
+    }
+
+    /**
+     * Migrates users.json and resources.json from the given data directory, continuing
+     * after the last committed batch of an earlier run.
+     *
+     * @param dataDirectory The directory holding the JSON files
+     * @throws IOException if a file cannot be read
+     * @throws ParseException if a file is not valid JSON
+     * @throws SQLException if a batch cannot be written; earlier batches stay committed
+     */
+    public void migrate(Path dataDirectory) throws IOException, ParseException, SQLException {
+        Connection conn = null;
+        try {
+            conn = dbManager.getConnection();
+            createMigrationTables(conn);
+            conn.setAutoCommit(false);
+
+            startNanos = System.nanoTime();
+            migrateUsers(conn, dataDirectory.resolve("users.json").toFile());
+            migrateResources(conn, dataDirectory.resolve("resources.json").toFile());
+            System.out.printf("Migration complete: %s%n", progress());
+            if (truncatedValues > 0) {
+                LOGGER.warning(truncatedValues + " values were longer than their column and were truncated");
+            }
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    LOGGER.log(Level.WARNING, "Failed to restore auto-commit", e);
+                }
+            }
+            dbManager.closeResources(conn, null, null);
+        }
+    }
+
+    private void createMigrationTables(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS migration_checkpoints (" +
+                    "source VARCHAR(255) PRIMARY KEY, " +
+                    "position BIGINT NOT NULL, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")");
+            stmt.execute("CREATE TABLE IF NOT EXISTS migration_user_ids (" +
+                    "email VARCHAR(255) PRIMARY KEY, " +
+                    "legacy_id VARCHAR(64), " +
+                    "user_id INTEGER NOT NULL REFERENCES users(id) ON DELETE CASCADE" +
+                    ")");
+        }
+    }
+
+    /**
+     * Streams users.json and copies it in batches of users.
+     */
+    private void migrateUsers(Connection conn, File usersFile) throws IOException, ParseException, SQLException {
+        if (!usersFile.exists()) {
+            return;
+        }
+
+        String source = usersFile.getAbsolutePath();
+        long checkpoint = readCheckpoint(conn, source);
+        if (checkpoint > 0) {
+            System.out.printf("Resuming %s after %d users%n", usersFile.getName(), checkpoint);
+        }
+
+        List<User> batch = new ArrayList<>(batchSize);
+        long[] position = {0};
+        SQLException[] failure = new SQLException[1];
+
+        try (Reader reader = new FileReader(usersFile)) {
+            JsonStreamReader.read(reader, (arrayKey, userJson) -> {
+                if (failure[0] != null || position[0]++ < checkpoint) {
+                    return; // Already migrated, or a batch failed
+                }
+                batch.add(JsonConverter.parseUserFromJSON(userJson));
+                if (batch.size() >= batchSize) {
+                    try {
+                        copyUsers(conn, batch, source, position[0]);
+                    } catch (SQLException e) {
+                        failure[0] = e;
+                    }
+                    batch.clear();
+                }
+            });
+        }
+
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        if (!batch.isEmpty()) {
+            copyUsers(conn, batch, source, position[0]);
+        }
+    }
+
+    /**
+     * Copies one batch of users with their jobs, skills, goals, achievements and resumes,
+     * and advances the checkpoint, in a single transaction.
+     *
+     * @param position Number of users in the file up to and including this batch
+     */
+    private void copyUsers(Connection conn, List<User> batch, String source, long position) throws SQLException {
+        try {
+            int[] userIds = reserveUserIds(conn, batch.size());
+
+            CsvBuffer users = new CsvBuffer();
+            CsvBuffer jobs = new CsvBuffer();
+            CsvBuffer skills = new CsvBuffer();
+            CsvBuffer goals = new CsvBuffer();
+            CsvBuffer achievements = new CsvBuffer();
+            CsvBuffer resumes = new CsvBuffer();
+
+            for (int i = 0; i < batch.size(); i++) {
+                User user = batch.get(i);
+                int userId = userIds[i];
+
+                users.add(userId).add(limit(usernameFor(user), 50)).add(limit(user.getEmail(), 255))
+                        .add(limit(notNull(user.getPasswordHash()), 255)).add(limit(user.getFullName(), 100))
+                        .add(user.getCreatedAt()).add(user.getUpdatedAt()).endRow();
+
+                for (Job job : user.getJobApplications()) {
+                    jobs.add(userId).add(limit(notNull(job.getCompanyName()), 100))
+                            .add(limit(notNull(job.getPosition()), 100)).add(job.getDescription())
+                            .add(limit(job.getUrl(), 255)).add(limit(job.getLocation(), 100))
+                            .add(job.getApplicationDate()).add(job.getDeadlineDate())
+                            .add(job.getStatus().name()).add(job.getNotes())
+                            .add(job.getCreatedAt()).add(job.getUpdatedAt()).endRow();
+                }
+
+                for (Skill skill : user.getSkills()) {
+                    skills.add(userId).add(limit(notNull(skill.getName()), 100))
+                            .add(skill.getCategory().name()).add(skill.getProficiencyLevel().name()).endRow();
+                }
+
+                List<Goal> userGoals = new ArrayList<>(user.getShortTermGoals());
+                userGoals.addAll(user.getLongTermGoals());
+                for (Goal goal : userGoals) {
+                    goals.add(userId).add(limit(notNull(goal.getTitle()), 100)).add(goal.getDescription())
+                            .add(goal.getTargetDate()).add(goal.getStatus().name()).add(goal.isShortTerm()).endRow();
+                }
+
+                for (Achievement achievement : user.getAchievements()) {
+                    achievements.add(userId).add(limit(notNull(achievement.getTitle()), 100))
+                            .add(achievement.getDescription()).add(achievement.getDate())
+                            .add(achievement.getType().name()).endRow();
+                }
+
+                Resume resume = user.getResume();
+                if (resume != null) {
+                    resumes.add(userId).add(limit(notNull(resume.getTitle()), 100))
+                            .add(resume.getTemplate().name())
+                            .add(JsonConverter.convertResumeToJSON(resume).toJSONString()).endRow();
+                }
+            }
+
+            CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+            // Users first, the other tables reference them
+            copy(copyManager, "users", "id, username, email, password_hash, full_name, created_at, updated_at", users);
+            copy(copyManager, "jobs", "user_id, company_name, position, description, url, location, " +
+                    "application_date, deadline_date, status, notes, created_at, updated_at", jobs);
+            copy(copyManager, "skills", "user_id, name, category, proficiency_level", skills);
+            copy(copyManager, "goals", "user_id, title, description, target_date, status, short_term", goals);
+            copy(copyManager, "achievements", "user_id, title, description, date_achieved, type", achievements);
+            copy(copyManager, "resumes", "user_id, title, template, content", resumes);
+
+            recordUserIds(conn, batch, userIds);
+            writeCheckpoint(conn, source, position);
+            conn.commit();
+        } catch (SQLException | IOException e) {
+            rollback(conn);
+            throw e instanceof SQLException ? (SQLException) e
+                    : new SQLException("Failed to copy users up to position " + position, e);
+        }
+
+        System.out.printf("%d users: %s%n", position, progress());
+    }
+
+    /**
+     * Reserves ids from the users sequence, so child rows can be copied with their user id
+     * before the user rows come back from the database.
+     */
+    private int[] reserveUserIds(Connection conn, int count) throws SQLException {
+        String sql = "SELECT nextval(pg_get_serial_sequence('users', 'id')) FROM generate_series(1, ?)";
+        int[] ids = new int[count];
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, count);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                for (int i = 0; i < count && rs.next(); i++) {
+                    ids[i] = rs.getInt(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void recordUserIds(Connection conn, List<User> batch, int[] userIds) throws SQLException {
+        String sql = "INSERT INTO migration_user_ids (email, legacy_id, user_id) VALUES (?, ?, ?)";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < batch.size(); i++) {
+                pstmt.setString(1, batch.get(i).getEmail());
+                pstmt.setString(2, String.valueOf(batch.get(i).getId()));
+                pstmt.setInt(3, userIds[i]);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Streams resources.json and copies it in batches. Resources are shared, so they are
+     * stored without a user.
+     */
+    private void migrateResources(Connection conn, File resourcesFile)
+            throws IOException, ParseException, SQLException {
+        if (!resourcesFile.exists()) {
+            return;
+        }
+
+        String source = resourcesFile.getAbsolutePath();
+        long checkpoint = readCheckpoint(conn, source);
+
+        List<Resource> batch = new ArrayList<>(batchSize);
+        long[] position = {0};
+        SQLException[] failure = new SQLException[1];
+
+        try (Reader reader = new FileReader(resourcesFile)) {
+            JsonStreamReader.read(reader, (arrayKey, resourceJson) -> {
+                if (failure[0] != null || position[0]++ < checkpoint) {
+                    return;
+                }
+                batch.add(JsonConverter.parseResourceFromJSON(resourceJson));
+                if (batch.size() >= batchSize) {
+                    try {
+                        copyResources(conn, batch, source, position[0]);
+                    } catch (SQLException e) {
+                        failure[0] = e;
+                    }
+                    batch.clear();
+                }
+            });
+        }
+
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        if (!batch.isEmpty()) {
+            copyResources(conn, batch, source, position[0]);
+        }
+    }
+
+    private void copyResources(Connection conn, List<Resource> batch, String source, long position)
+            throws SQLException {
+        try {
+            CsvBuffer resources = new CsvBuffer();
+            for (Resource resource : batch) {
+                resources.add(limit(notNull(resource.getTitle()), 100)).add(resource.getDescription())
+                        .add(limit(resource.getUrl(), 255)).add(resource.getType().name()).endRow();
+            }
+
+            CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+            copy(copyManager, "resources", "title, description, url, type", resources);
+            writeCheckpoint(conn, source, position);
+            conn.commit();
+        } catch (SQLException | IOException e) {
+            rollback(conn);
+            throw e instanceof SQLException ? (SQLException) e
+                    : new SQLException("Failed to copy resources up to position " + position, e);
+        }
+
+        System.out.printf("%d resources: %s%n", position, progress());
+    }
+
+    private void copy(CopyManager copyManager, String table, String columns, CsvBuffer rows)
+            throws SQLException, IOException {
+        if (rows.getRowCount() == 0) {
+            return;
+        }
+
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        long copied = copyManager.copyIn(sql, new StringReader(rows.toString()));
+        rowsByTable.merge(table, copied, Long::sum);
+        totalRows += copied;
+    }
+
+    private long readCheckpoint(Connection conn, String source) throws SQLException {
+        String sql = "SELECT position FROM migration_checkpoints WHERE source = ?";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, source);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private void writeCheckpoint(Connection conn, String source, long position) throws SQLException {
+        String sql = "INSERT INTO migration_checkpoints (source, position) VALUES (?, ?) " +
+                     "ON CONFLICT (source) DO UPDATE SET position = EXCLUDED.position, " +
+                     "updated_at = CURRENT_TIMESTAMP";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, source);
+            pstmt.setLong(2, position);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void rollback(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to roll back migration batch", e);
+        }
+    }
+
+    /**
+     * Formats the rows copied so far and the overall throughput.
+     */
+    private String progress() {
+        double seconds = Math.max(System.nanoTime() - startNanos, 1) / 1e9;
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Long> entry : rowsByTable.entrySet()) {
+            text.append(entry.getKey()).append('=').append(entry.getValue()).append(' ');
+        }
+        return text.append(String.format("| %d rows in %.1f s, %.0f rows/s", totalRows, seconds, totalRows / seconds))
+                .toString();
+    }
+
+    /**
+     * Users from the JSON store have no username, which the users table requires to be unique.
+     * The email is unique already, so it is used as the username, shortened to fit the column.
+     */
+    private static String usernameFor(User user) {
+        String username = user.getUsername() != null ? user.getUsername() : user.getEmail();
+        if (username.length() <= 50) {
+            return username;
+        }
+        return username.substring(0, 41) + "#" + String.format("%08x", username.hashCode());
+    }
+
+    private static String notNull(String value) {
+        return value != null ? value : "";
+    }
+
+    private String limit(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        truncatedValues++;
+        return value.substring(0, maxLength);
+    }
+
+    /**
+     * Builds the CSV input of a COPY command. Values are always quoted, so an empty string
+     * stays an empty string and only an unquoted empty field is read as NULL.
+     */
+    private static class CsvBuffer {
+        private final StringBuilder text = new StringBuilder();
+        private boolean rowStarted;
+        private int rowCount;
+
+        CsvBuffer add(Object value) {
+            if (rowStarted) {
+                text.append(',');
+            }
+            rowStarted = true;
+
+            if (value instanceof LocalDateTime) {
+                value = Timestamp.valueOf((LocalDateTime) value);
+            } else if (value instanceof LocalDate) {
+                value = Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+            }
+
+            if (value != null) {
+                text.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+            return this;
+        }
+
+        void endRow() {
+            text.append('\n');
+            rowStarted = false;
+            rowCount++;
+        }
+
+        int getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
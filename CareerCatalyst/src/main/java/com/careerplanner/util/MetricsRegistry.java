@@ -0,0 +1,46 @@
+package com.careerplanner.util;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Receives the database metrics of the application: one call per executed DAO statement,
+ * the connection pool's acquisition timings and the pool's gauges.
+ *
+ * <p>{@link InMemoryMetricsRegistry} is the default. Another implementation, for example
+ * one that forwards to an existing monitoring library, can be installed with
+ * {@link DatabaseManager#setMetricsRegistry(MetricsRegistry)}. Implementations are called
+ * from many threads at once and must be thread-safe.</p>
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Records one execution of a named query.
+     *
+     * @param queryName The name the statement was prepared with
+     * @param elapsedNanos Time spent executing the statement
+     * @param rows Rows returned or affected
+     * @param failed true if the statement threw an SQLException
+     */
+    void recordQuery(String queryName, long elapsedNanos, long rows, boolean failed);
+
+    /**
+     * Records the time a thread waited for a pooled connection.
+     *
+     * @param elapsedNanos The wait in nanoseconds
+     */
+    void recordConnectionAcquired(long elapsedNanos);
+
+    /**
+     * Records a connection request that timed out.
+     */
+    void recordConnectionTimeout();
+
+    /**
+     * Registers a value that is read whenever the metrics are exported.
+     *
+     * @param name Metric name
+     * @param help One-line description
+     * @param value Supplies the current value
+     */
+    void registerGauge(String name, String help, DoubleSupplier value);
+}
@@ -1,5 +1,6 @@
 package com.careerplanner.util;
 
+import com.careerplanner.dao.DeadlineFeed;
 import com.careerplanner.model.Job;
 import com.careerplanner.model.User;
 import javafx.application.Platform;
@@ -26,6 +27,9 @@ public class NotificationManager {
     private Timer notificationTimer;
     private DataManager dataManager;
     private List<String> notifiedJobIds;
+    // Only set while reminders come from a DeadlineFeed
+    private DeadlineFeed deadlineFeed;
+    private DeadlineFeed.ReminderListener reminderListener;
     
     /**
      * Constructor for NotificationManager.
@@ -38,7 +42,9 @@ public class NotificationManager {
      * Starts the notification service, which checks for approaching deadlines.
      */
     public void startNotificationService() {
-        dataManager = new DataManager();
+        if (dataManager == null) {
+            dataManager = new DataManager();
+        }
         notificationTimer = new Timer(true); // Run as daemon thread
         
         // Schedule a check every hour
@@ -50,6 +56,30 @@ public class NotificationManager {
         }, 0, 3600000); // 1 hour = 3600000 milliseconds
     }
     
+    /**
+     * Starts the notification service for a user whose jobs are stored in the database.
+     * Instead of checking every hour, reminders are pushed by the deadline feed as soon as
+     * a deadline comes within 10 days.
+     * 
+     * @param feed The started deadline feed
+     * @param userId The database id of the user to remind
+     */
+    public void startNotificationService(DeadlineFeed feed, int userId) {
+        stopNotificationService();
+        deadlineFeed = feed;
+        reminderListener = (jobUserId, deadlines) -> {
+            if (jobUserId != userId) {
+                return;
+            }
+            List<Job> jobs = new ArrayList<>();
+            for (DeadlineFeed.UpcomingDeadline deadline : deadlines) {
+                jobs.add(deadline.toJob());
+            }
+            Platform.runLater(() -> showDeadlineNotification(jobs));
+        };
+        feed.addListener(reminderListener);
+    }
+    
     /**
      * Stops the notification service.
      */
@@ -58,6 +88,11 @@ public class NotificationManager {
             notificationTimer.cancel();
             notificationTimer = null;
         }
+        if (deadlineFeed != null) {
+            deadlineFeed.removeListener(reminderListener);
+            deadlineFeed = null;
+            reminderListener = null;
+        }
     }
     
     /**
@@ -0,0 +1,255 @@
+package com.careerplanner.util;
+
+import com.careerplanner.model.User;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Loads a users.json root array on several threads.
+ *
+ * <p>The reading thread only splits the array into the raw text of its elements, which is a
+ * cheap character scan. Chunks of element texts are handed to a {@link ForkJoinPool}, where
+ * each element is parsed and converted to a {@link User}. The chunk results are collected in
+ * file order, so the returned list is the same as that of a sequential load no matter how
+ * the work was scheduled. At most a few chunks per thread are in flight, so the raw text of
+ * the whole file is never held at once.</p>
+ */
+public class ParallelUserLoader {
+    private static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+
+    /**
+     * Constructor for the ParallelUserLoader class.
+     *
+     * @param pool The pool that parses and converts the users
+     */
+    public ParallelUserLoader(ForkJoinPool pool) {
+        this(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor for the ParallelUserLoader class.
+     *
+     * @param pool The pool that parses and converts the users
+     * @param chunkSize Number of users per task
+     */
+    public ParallelUserLoader(ForkJoinPool pool, int chunkSize) {
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = pool.getParallelism() * 4;
+    }
+
+    /**
+     * Reads a JSON array of users.
+     *
+     * @param reader Reader positioned at the start of the document
+     * @param maxPoolEntries Size bound of the string pool each task deduplicates with, 0 for none
+     * @return The users in file order
+     * @throws IOException if the reader fails
+     * @throws ParseException if the document or one of its elements is not valid JSON
+     */
+    public List<User> load(Reader reader, int maxPoolEntries) throws IOException, ParseException {
+        Deque<ForkJoinTask<List<User>>> inFlight = new ArrayDeque<>();
+        List<User> users = new ArrayList<>();
+        List<String> chunk = new ArrayList<>(chunkSize);
+
+        JsonArraySplitter splitter = new JsonArraySplitter(reader);
+        String element;
+        while ((element = splitter.next()) != null) {
+            chunk.add(element);
+            if (chunk.size() == chunkSize) {
+                inFlight.addLast(pool.submit(new ChunkTask(chunk, maxPoolEntries)));
+                chunk = new ArrayList<>(chunkSize);
+                // Wait for the oldest chunk before reading further ahead
+                if (inFlight.size() >= maxChunksInFlight) {
+                    users.addAll(join(inFlight.removeFirst()));
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            inFlight.addLast(pool.submit(new ChunkTask(chunk, maxPoolEntries)));
+        }
+
+        while (!inFlight.isEmpty()) {
+            users.addAll(join(inFlight.removeFirst()));
+        }
+        return users;
+    }
+
+    private static List<User> join(ForkJoinTask<List<User>> task) throws ParseException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading users", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ChunkParseException) {
+                throw ((ChunkParseException) e.getCause()).parseException;
+            }
+            throw new IllegalStateException("Failed to load users", e.getCause());
+        }
+    }
+
+    /**
+     * Parses and converts one chunk of users.
+     */
+    private static class ChunkTask implements Callable<List<User>> {
+        private final List<String> elements;
+        private final int maxPoolEntries;
+
+        ChunkTask(List<String> elements, int maxPoolEntries) {
+            this.elements = elements;
+            this.maxPoolEntries = maxPoolEntries;
+        }
+
+        @Override
+        public List<User> call() {
+            JSONParser parser = new JSONParser();
+            // StringPool is not thread-safe, so each chunk deduplicates on its own
+            StringPool stringPool = maxPoolEntries > 0 ? new StringPool(maxPoolEntries, false) : null;
+            List<User> users = new ArrayList<>(elements.size());
+
+            for (String element : elements) {
+                try {
+                    users.add(JsonConverter.parseUserFromJSON((JSONObject) parser.parse(element), stringPool));
+                } catch (ParseException e) {
+                    throw new ChunkParseException(e);
+                }
+            }
+            return users;
+        }
+    }
+
+    /**
+     * Carries a checked ParseException out of a pool task.
+     */
+    private static class ChunkParseException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final ParseException parseException;
+
+        ChunkParseException(ParseException parseException) {
+            super(parseException);
+            this.parseException = parseException;
+        }
+    }
+
+    /**
+     * Splits a JSON root array of objects into the text of its elements without parsing
+     * them. Only brackets and string quoting are tracked.
+     */
+    static class JsonArraySplitter {
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private int length;
+        private int position;
+        private boolean started;
+        private boolean finished;
+
+        JsonArraySplitter(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the text of the next array element.
+         *
+         * @return The element text, or null after the last element
+         * @throws IOException if the reader fails
+         * @throws ParseException if the document is not a JSON array
+         */
+        String next() throws IOException, ParseException {
+            if (finished) {
+                return null;
+            }
+
+            if (!started) {
+                int c = skipWhitespace();
+                if (c != '[') {
+                    throw new ParseException(ParseException.ERROR_UNEXPECTED_CHAR, c);
+                }
+                started = true;
+            }
+
+            int c = skipWhitespace();
+            if (c == ',') {
+                c = skipWhitespace();
+            }
+            if (c == ']') {
+                finished = true;
+                return null;
+            }
+            if (c == -1) {
+                throw new ParseException(ParseException.ERROR_UNEXPECTED_EXCEPTION);
+            }
+
+            StringBuilder element = new StringBuilder();
+            int depth = 0;
+            boolean inString = false;
+            boolean escaped = false;
+
+            while (true) {
+                element.append((char) c);
+
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+
+                if (depth == 0 && !inString) {
+                    return element.toString();
+                }
+
+                c = read();
+                if (c == -1) {
+                    throw new ParseException(ParseException.ERROR_UNEXPECTED_EXCEPTION);
+                }
+            }
+        }
+
+        private int skipWhitespace() throws IOException {
+            int c;
+            do {
+                c = read();
+            } while (c != -1 && Character.isWhitespace(c));
+            return c;
+        }
+
+        private int read() throws IOException {
+            if (position == length) {
+                length = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (length <= 0) {
+                    length = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+}
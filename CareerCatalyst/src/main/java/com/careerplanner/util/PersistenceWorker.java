@@ -0,0 +1,307 @@
+package com.careerplanner.util;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background thread that performs data writes off the calling thread.
+ * Callers only mark the data dirty; the worker waits a short coalescing window so a
+ * burst of edits turns into a single write, then runs the write task. The write task runs
+ * on the worker thread, so it must only read data that is safe to access from there, such
+ * as a snapshot encoded by the caller before marking the data dirty.
+ */
+public class PersistenceWorker {
+    private static final Logger LOGGER = Logger.getLogger(PersistenceWorker.class.getName());
+    private static final long RETRY_DELAY_MILLIS = 5000;
+
+    /**
+     * The write performed by the worker.
+     */
+    public interface WriteTask {
+        /**
+         * Writes the current data.
+         *
+         * @throws IOException if the data cannot be written
+         */
+        void write() throws IOException;
+    }
+
+    private final String name;
+    private final WriteTask writeTask;
+    private final long coalesceMillis;
+    private final Object lock = new Object();
+
+    private Thread thread;
+    private Thread shutdownHook;
+    private boolean running;
+    private boolean flushRequested;
+    private long requested;
+    private long attempted;
+    private long written;
+
+    // Metrics, guarded by lock
+    private int pending;
+    private long notifications;
+    private long writes;
+    private long failures;
+    private long totalWriteNanos;
+    private long maxWriteNanos;
+    private long lastWriteNanos;
+
+    /**
+     * Constructor for the PersistenceWorker class.
+     * The thread is started lazily on the first dirty notification.
+     *
+     * @param name Thread name
+     * @param writeTask The write to perform
+     * @param coalesceMillis How long to wait for further edits before writing
+     */
+    public PersistenceWorker(String name, WriteTask writeTask, long coalesceMillis) {
+        this.name = name;
+        this.writeTask = writeTask;
+        this.coalesceMillis = coalesceMillis;
+    }
+
+    /**
+     * Notes that the data changed and needs to be written.
+     */
+    public void markDirty() {
+        synchronized (lock) {
+            if (thread == null) {
+                running = true;
+                thread = new Thread(this::run, name);
+                thread.setDaemon(true);
+                thread.start();
+                shutdownHook = new Thread(this::shutdown, name + "-shutdown");
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            }
+            requested++;
+            pending++;
+            notifications++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes any pending changes immediately and waits until the write has been attempted.
+     */
+    public void flush() {
+        synchronized (lock) {
+            long target = requested;
+            flushRequested = true;
+            lock.notifyAll();
+
+            while (running && attempted < target) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Flushes pending changes and stops the worker thread. If the last background write
+     * failed, the write is attempted once more on the calling thread.
+     *
+     * @return true if all changes were written, false if the final write failed as well
+     */
+    public boolean shutdown() {
+        flush();
+
+        Thread worker;
+        Thread hook;
+        synchronized (lock) {
+            running = false;
+            worker = thread;
+            hook = shutdownHook;
+            shutdownHook = null;
+            lock.notifyAll();
+        }
+
+        if (hook != null && hook != Thread.currentThread()) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down and runs the hook anyway
+            }
+        }
+
+        if (worker != null) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long target;
+        synchronized (lock) {
+            if (written >= requested) {
+                return true;
+            }
+            target = requested;
+        }
+
+        try {
+            writeTask.write();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Final write failed, changes are lost", e);
+            synchronized (lock) {
+                failures++;
+            }
+            return false;
+        }
+        synchronized (lock) {
+            attempted = Math.max(attempted, target);
+            written = Math.max(written, target);
+            writes++;
+        }
+        return true;
+    }
+
+    /**
+     * Gets a snapshot of the worker metrics.
+     *
+     * @return Current metrics
+     */
+    public Metrics getMetrics() {
+        synchronized (lock) {
+            return new Metrics(pending, notifications, writes, failures,
+                    writes > 0 ? totalWriteNanos / writes : 0, maxWriteNanos, lastWriteNanos);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            long target;
+
+            synchronized (lock) {
+                try {
+                    while (running && requested == attempted) {
+                        lock.wait();
+                    }
+                    if (!running && (requested == attempted || written < attempted)) {
+                        return; // Nothing left to write, or the last write failed and we are shutting down
+                    }
+
+                    long deadline = System.currentTimeMillis() + (written < attempted ? RETRY_DELAY_MILLIS : coalesceMillis);
+                    long remaining;
+                    while (running && !flushRequested && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                        lock.wait(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                target = requested;
+                pending = 0;
+                flushRequested = false;
+            }
+
+            long start = System.nanoTime();
+            Exception failure = null;
+
+            try {
+                writeTask.write();
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            }
+            boolean success = failure == null;
+
+            long elapsed = System.nanoTime() - start;
+
+            synchronized (lock) {
+                attempted = target;
+                if (success) {
+                    written = target;
+                    writes++;
+                    totalWriteNanos += elapsed;
+                    maxWriteNanos = Math.max(maxWriteNanos, elapsed);
+                    lastWriteNanos = elapsed;
+                } else {
+                    failures++;
+                    requested++; // Keep the data dirty so the write is retried
+                    LOGGER.log(Level.SEVERE, running ? "Background write failed, will retry"
+                            : "Background write failed, retrying on shutdown", failure);
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Immutable snapshot of the worker metrics.
+     */
+    public static class Metrics {
+        private final int queueDepth;
+        private final long notifications;
+        private final long writes;
+        private final long failures;
+        private final long averageWriteNanos;
+        private final long maxWriteNanos;
+        private final long lastWriteNanos;
+
+        Metrics(int queueDepth, long notifications, long writes, long failures,
+                long averageWriteNanos, long maxWriteNanos, long lastWriteNanos) {
+            this.queueDepth = queueDepth;
+            this.notifications = notifications;
+            this.writes = writes;
+            this.failures = failures;
+            this.averageWriteNanos = averageWriteNanos;
+            this.maxWriteNanos = maxWriteNanos;
+            this.lastWriteNanos = lastWriteNanos;
+        }
+
+        /**
+         * @return Dirty notifications received since the last write started
+         */
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        /**
+         * @return Total dirty notifications received
+         */
+        public long getNotifications() {
+            return notifications;
+        }
+
+        /**
+         * @return Number of successful writes; notifications minus writes were coalesced
+         */
+        public long getWrites() {
+            return writes;
+        }
+
+        /**
+         * @return Number of failed writes
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        public double getAverageWriteMillis() {
+            return averageWriteNanos / 1e6;
+        }
+
+        public double getMaxWriteMillis() {
+            return maxWriteNanos / 1e6;
+        }
+
+        public double getLastWriteMillis() {
+            return lastWriteNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("queueDepth=%d notifications=%d writes=%d failures=%d "
+                    + "avgWriteMs=%.2f maxWriteMs=%.2f lastWriteMs=%.2f",
+                    queueDepth, notifications, writes, failures,
+                    getAverageWriteMillis(), getMaxWriteMillis(), getLastWriteMillis());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.careerplanner.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes snapshots of an {@link InMemoryMetricsRegistry} to a local file in the Prometheus
+ * text format, for example for node_exporter's textfile collector or for reading by hand.
+ * Each snapshot replaces the file atomically, so a reader never sees half of one.
+ */
+public class PrometheusExporter {
+    private final InMemoryMetricsRegistry registry;
+    private final Path target;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for the PrometheusExporter class.
+     *
+     * @param registry The registry to export
+     * @param target The file to write, conventionally ending in .prom
+     */
+    public PrometheusExporter(InMemoryMetricsRegistry registry, Path target) {
+        this.registry = registry;
+        this.target = target;
+    }
+
+    /**
+     * Writes one snapshot now.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot() throws IOException {
+        StringBuilder text = new StringBuilder();
+        registry.writePrometheus(text);
+        AtomicFiles.write(target, text.toString());
+    }
+
+    /**
+     * Starts writing a snapshot at a fixed interval on a daemon thread.
+     *
+     * @param periodSeconds Seconds between snapshots
+     */
+    public synchronized void start(long periodSeconds) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                System.err.println("Error writing metrics snapshot: " + e.getMessage());
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic snapshots and writes a final one.
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        try {
+            writeSnapshot();
+        } catch (IOException e) {
+            System.err.println("Error writing metrics snapshot: " + e.getMessage());
+        }
+    }
+}
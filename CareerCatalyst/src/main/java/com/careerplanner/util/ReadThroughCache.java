@@ -0,0 +1,203 @@
+package com.careerplanner.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache with least-recently-used eviction and a time-to-live.
+ *
+ * <p>On a miss the value is produced by the loader passed to {@link #get(Object, Function)}
+ * and stored. The loader runs outside the cache lock, so a slow database query never
+ * blocks other readers. If the cache is invalidated while a value is loading, that value is
+ * returned to its caller but not stored, so an invalidation from a concurrent write cannot
+ * be undone by a read that started before it.</p>
+ *
+ * <p>Instances are thread-safe.</p>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class ReadThroughCache<K, V> {
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Incremented by every invalidation; a load only stores its value if this did not change
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Constructor for the ReadThroughCache class.
+     *
+     * @param maxEntries Maximum number of entries before the least recently used is evicted
+     * @param ttlMillis Time after which an entry is reloaded, 0 for no expiry
+     */
+    public ReadThroughCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000 : Long.MAX_VALUE;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached value for a key, loading and caching it on a miss.
+     *
+     * @param key The key
+     * @param loader Produces the value on a miss; a null result is returned but not cached
+     * @return The cached or loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.incrementAndGet();
+            }
+            loadGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the entry for a key.
+     *
+     * @param key The key
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes every entry matching a condition.
+     *
+     * @param condition Tested with each key and its value
+     */
+    public synchronized void invalidateIf(BiPredicate<? super K, ? super V> condition) {
+        generation++;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (condition.test(entry.getKey(), entry.getValue().value)) {
+                iterator.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     *
+     * @return The cache size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return The number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to call the loader.
+     *
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of entries dropped because the cache was full.
+     *
+     * @return The number of LRU evictions
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the number of entries dropped because their time-to-live had passed.
+     *
+     * @return The number of expirations
+     */
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Gets the number of entries removed by invalidation.
+     *
+     * @return The number of invalidated entries
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReadThroughCache[size=%d hits=%d misses=%d evictions=%d expirations=%d invalidations=%d]",
+                size(), getHits(), getMisses(), getEvictions(), getExpirations(), getInvalidations());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.careerplanner.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Versioned schema migrations for the PostgreSQL database.
+ *
+ * <p>Migrations are numbered and applied in order; each one runs in its own transaction
+ * together with the row that records it in {@code schema_version}. A new schema change is
+ * added as a new migration at the end of {@link #MIGRATIONS}, never by editing one that has
+ * already shipped.</p>
+ *
+ * <p>At startup a single query reads the current version. When it matches the latest
+ * migration no DDL is executed at all. Otherwise a PostgreSQL advisory lock makes sure only
+ * one application instance applies the pending migrations.</p>
+ */
+public class SchemaMigrator {
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrator.class.getName());
+    // Arbitrary key for pg_advisory_lock, shared by all instances of the application
+    private static final long MIGRATION_LOCK_KEY = 0x43617265657243L;
+
+    /**
+     * A single numbered schema change.
+     */
+    public static final class Migration {
+        private final int version;
+        private final String description;
+        private final List<String> statements;
+
+        Migration(int version, String description, String... statements) {
+            this.version = version;
+            this.description = description;
+            this.statements = Collections.unmodifiableList(Arrays.asList(statements));
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public List<String> getStatements() {
+            return statements;
+        }
+    }
+
+    /**
+     * All migrations, in version order.
+     */
+    private static final List<Migration> MIGRATIONS = Collections.unmodifiableList(Arrays.asList(
+            // Version 1 is the schema that initializeDatabase used to create; IF NOT EXISTS
+            // keeps it safe on databases that were set up before versioning existed
+            new Migration(1, "Create base tables",
+                    "CREATE TABLE IF NOT EXISTS users (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "username VARCHAR(50) UNIQUE NOT NULL, " +
+                    "email VARCHAR(255) UNIQUE NOT NULL, " +
+                    "password_hash VARCHAR(255) NOT NULL, " +
+                    "full_name VARCHAR(100), " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")",
+                    "CREATE TABLE IF NOT EXISTS skills (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
+                    "name VARCHAR(100) NOT NULL, " +
+                    "category VARCHAR(50) NOT NULL, " +
+                    "proficiency_level VARCHAR(20) NOT NULL, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")",
+                    "CREATE TABLE IF NOT EXISTS jobs (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
+                    "company_name VARCHAR(100) NOT NULL, " +
+                    "position VARCHAR(100) NOT NULL, " +
+                    "description TEXT, " +
+                    "url VARCHAR(255), " +
+                    "location VARCHAR(100), " +
+                    "application_date TIMESTAMP, " +
+                    "deadline_date TIMESTAMP, " +
+                    "status VARCHAR(20) NOT NULL, " +
+                    "notes TEXT, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")",
+                    "CREATE TABLE IF NOT EXISTS goals (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
+                    "title VARCHAR(100) NOT NULL, " +
+                    "description TEXT, " +
+                    "target_date TIMESTAMP, " +
+                    "status VARCHAR(20) NOT NULL, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")",
+                    "CREATE TABLE IF NOT EXISTS resources (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
+                    "title VARCHAR(100) NOT NULL, " +
+                    "description TEXT, " +
+                    "url VARCHAR(255), " +
+                    "type VARCHAR(20) NOT NULL, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")",
+                    "CREATE TABLE IF NOT EXISTS achievements (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
+                    "title VARCHAR(100) NOT NULL, " +
+                    "description TEXT, " +
+                    "date_achieved TIMESTAMP, " +
+                    "type VARCHAR(20) NOT NULL, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")",
+                    "CREATE TABLE IF NOT EXISTS resumes (" +
+                    "id SERIAL PRIMARY KEY, " +
+                    "user_id INTEGER REFERENCES users(id) ON DELETE CASCADE, " +
+                    "title VARCHAR(100) NOT NULL, " +
+                    "template VARCHAR(50) NOT NULL, " +
+                    "content JSONB NOT NULL, " +
+                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+                    ")"),
+
+            // JobDAO filters jobs by user and status or deadline; every other child table is
+            // only ever read by user. user_id on jobs is covered by both composite indexes.
+            new Migration(2, "Index the per-user job and child table queries",
+                    "CREATE INDEX IF NOT EXISTS idx_jobs_user_status ON jobs (user_id, status)",
+                    "CREATE INDEX IF NOT EXISTS idx_jobs_user_deadline ON jobs (user_id, deadline_date)",
+                    "CREATE INDEX IF NOT EXISTS idx_skills_user ON skills (user_id)",
+                    "CREATE INDEX IF NOT EXISTS idx_goals_user ON goals (user_id)",
+                    "CREATE INDEX IF NOT EXISTS idx_resources_user ON resources (user_id)",
+                    "CREATE INDEX IF NOT EXISTS idx_achievements_user ON achievements (user_id)",
+                    "CREATE INDEX IF NOT EXISTS idx_resumes_user ON resumes (user_id)"),
+
+            // Keyset pagination in JobDAO.getJobsPage; the id tie-breaker is part of each key
+            new Migration(3, "Index the job page orders",
+                    "CREATE INDEX IF NOT EXISTS idx_jobs_user_updated_id ON jobs (user_id, updated_at, id)",
+                    "CREATE INDEX IF NOT EXISTS idx_jobs_user_deadline_id ON jobs " +
+                    "(user_id, (COALESCE(deadline_date, 'infinity'::timestamp)), id)"),
+
+            // Full-text search in JobDAO.searchJobs; position and company rank above location,
+            // location above description and notes. Generated columns need PostgreSQL 12.
+            new Migration(4, "Add a full-text search vector to jobs",
+                    "ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', COALESCE(position, '')), 'A') || " +
+                    "setweight(to_tsvector('english', COALESCE(company_name, '')), 'A') || " +
+                    "setweight(to_tsvector('english', COALESCE(location, '')), 'B') || " +
+                    "setweight(to_tsvector('english', COALESCE(description, '')), 'C') || " +
+                    "setweight(to_tsvector('english', COALESCE(notes, '')), 'D')) STORED",
+                    "CREATE INDEX IF NOT EXISTS idx_jobs_search ON jobs USING GIN (search_vector)"),
+
+            // Feeds DeadlineFeed: every change to a job's deadline, or to the company and
+            // position shown in its reminder, is sent on the job_deadlines channel
+            new Migration(5, "Notify listeners of job deadline changes",
+                    "CREATE OR REPLACE FUNCTION notify_job_deadline() RETURNS trigger AS $$ " +
+                    "BEGIN " +
+                    "IF TG_OP = 'DELETE' THEN " +
+                    "PERFORM pg_notify('job_deadlines', json_build_object(" +
+                    "'op', TG_OP, 'id', OLD.id, 'user_id', OLD.user_id)::text); " +
+                    "RETURN OLD; " +
+                    "END IF; " +
+                    "PERFORM pg_notify('job_deadlines', json_build_object(" +
+                    "'op', TG_OP, 'id', NEW.id, 'user_id', NEW.user_id, 'deadline', NEW.deadline_date, " +
+                    "'company', NEW.company_name, 'position', NEW.position)::text); " +
+                    "RETURN NEW; " +
+                    "END; $$ LANGUAGE plpgsql",
+                    "DROP TRIGGER IF EXISTS jobs_deadline_insert ON jobs",
+                    "CREATE TRIGGER jobs_deadline_insert AFTER INSERT ON jobs FOR EACH ROW " +
+                    "WHEN (NEW.deadline_date IS NOT NULL) EXECUTE FUNCTION notify_job_deadline()",
+                    "DROP TRIGGER IF EXISTS jobs_deadline_update ON jobs",
+                    "CREATE TRIGGER jobs_deadline_update AFTER UPDATE ON jobs FOR EACH ROW " +
+                    "WHEN (OLD.deadline_date IS DISTINCT FROM NEW.deadline_date " +
+                    "OR (NEW.deadline_date IS NOT NULL AND (OLD.company_name IS DISTINCT FROM NEW.company_name " +
+                    "OR OLD.position IS DISTINCT FROM NEW.position))) " +
+                    "EXECUTE FUNCTION notify_job_deadline()",
+                    "DROP TRIGGER IF EXISTS jobs_deadline_delete ON jobs",
+                    "CREATE TRIGGER jobs_deadline_delete AFTER DELETE ON jobs FOR EACH ROW " +
+                    "WHEN (OLD.deadline_date IS NOT NULL) EXECUTE FUNCTION notify_job_deadline()"),
+
+            // Dashboard counts for DashboardStatsDAO, one row per user, metric and bucket.
+            // bump_user_stat only inserts for additions, so the child rows removed by a
+            // cascading user delete never re-create stats for the deleted user.
+            new Migration(6, "Keep per-user dashboard counts in user_stats",
+                    "ALTER TABLE goals ADD COLUMN IF NOT EXISTS short_term BOOLEAN NOT NULL DEFAULT TRUE",
+                    "CREATE TABLE IF NOT EXISTS user_stats (" +
+                    "user_id INTEGER NOT NULL REFERENCES users(id) ON DELETE CASCADE, " +
+                    "metric VARCHAR(20) NOT NULL, " +
+                    "bucket VARCHAR(50) NOT NULL, " +
+                    "total INTEGER NOT NULL, " +
+                    "completed INTEGER NOT NULL DEFAULT 0, " +
+                    "PRIMARY KEY (user_id, metric, bucket)" +
+                    ")",
+                    "CREATE OR REPLACE FUNCTION bump_user_stat(p_user_id INTEGER, p_metric TEXT, p_bucket TEXT, " +
+                    "p_total INTEGER, p_completed INTEGER) RETURNS void AS $$ " +
+                    "BEGIN " +
+                    "IF p_user_id IS NULL OR p_bucket IS NULL THEN " +
+                    "RETURN; " +
+                    "END IF; " +
+                    "IF p_total > 0 THEN " +
+                    "INSERT INTO user_stats (user_id, metric, bucket, total, completed) " +
+                    "VALUES (p_user_id, p_metric, p_bucket, p_total, p_completed) " +
+                    "ON CONFLICT (user_id, metric, bucket) DO UPDATE SET " +
+                    "total = user_stats.total + EXCLUDED.total, completed = user_stats.completed + EXCLUDED.completed; " +
+                    "ELSE " +
+                    "UPDATE user_stats SET total = total + p_total, completed = completed + p_completed " +
+                    "WHERE user_id = p_user_id AND metric = p_metric AND bucket = p_bucket; " +
+                    "DELETE FROM user_stats " +
+                    "WHERE user_id = p_user_id AND metric = p_metric AND bucket = p_bucket AND total <= 0; " +
+                    "END IF; " +
+                    "END; $$ LANGUAGE plpgsql",
+                    "CREATE OR REPLACE FUNCTION jobs_user_stats() RETURNS trigger AS $$ " +
+                    "BEGIN " +
+                    "IF TG_OP <> 'INSERT' THEN " +
+                    "PERFORM bump_user_stat(OLD.user_id, 'job_status', OLD.status, -1, 0); " +
+                    "END IF; " +
+                    "IF TG_OP <> 'DELETE' THEN " +
+                    "PERFORM bump_user_stat(NEW.user_id, 'job_status', NEW.status, 1, 0); " +
+                    "END IF; " +
+                    "RETURN NULL; " +
+                    "END; $$ LANGUAGE plpgsql",
+                    "CREATE OR REPLACE FUNCTION goals_user_stats() RETURNS trigger AS $$ " +
+                    "BEGIN " +
+                    "IF TG_OP <> 'INSERT' THEN " +
+                    "PERFORM bump_user_stat(OLD.user_id, 'goal_term', " +
+                    "CASE WHEN OLD.short_term THEN 'SHORT_TERM' ELSE 'LONG_TERM' END, " +
+                    "-1, -(OLD.status = 'COMPLETED')::int); " +
+                    "END IF; " +
+                    "IF TG_OP <> 'DELETE' THEN " +
+                    "PERFORM bump_user_stat(NEW.user_id, 'goal_term', " +
+                    "CASE WHEN NEW.short_term THEN 'SHORT_TERM' ELSE 'LONG_TERM' END, " +
+                    "1, (NEW.status = 'COMPLETED')::int); " +
+                    "END IF; " +
+                    "RETURN NULL; " +
+                    "END; $$ LANGUAGE plpgsql",
+                    "CREATE OR REPLACE FUNCTION skills_user_stats() RETURNS trigger AS $$ " +
+                    "BEGIN " +
+                    "IF TG_OP <> 'INSERT' THEN " +
+                    "PERFORM bump_user_stat(OLD.user_id, 'skill_category', OLD.category, -1, 0); " +
+                    "PERFORM bump_user_stat(OLD.user_id, 'skill_proficiency', OLD.proficiency_level, -1, 0); " +
+                    "END IF; " +
+                    "IF TG_OP <> 'DELETE' THEN " +
+                    "PERFORM bump_user_stat(NEW.user_id, 'skill_category', NEW.category, 1, 0); " +
+                    "PERFORM bump_user_stat(NEW.user_id, 'skill_proficiency', NEW.proficiency_level, 1, 0); " +
+                    "END IF; " +
+                    "RETURN NULL; " +
+                    "END; $$ LANGUAGE plpgsql",
+                    "CREATE OR REPLACE FUNCTION achievements_user_stats() RETURNS trigger AS $$ " +
+                    "BEGIN " +
+                    "IF TG_OP <> 'INSERT' THEN " +
+                    "PERFORM bump_user_stat(OLD.user_id, 'achievement_type', OLD.type, -1, 0); " +
+                    "END IF; " +
+                    "IF TG_OP <> 'DELETE' THEN " +
+                    "PERFORM bump_user_stat(NEW.user_id, 'achievement_type', NEW.type, 1, 0); " +
+                    "END IF; " +
+                    "RETURN NULL; " +
+                    "END; $$ LANGUAGE plpgsql",
+                    // Updates that leave the counted columns alone, such as note edits, skip the function
+                    "DROP TRIGGER IF EXISTS jobs_stats_insert_delete ON jobs",
+                    "CREATE TRIGGER jobs_stats_insert_delete AFTER INSERT OR DELETE ON jobs FOR EACH ROW " +
+                    "EXECUTE FUNCTION jobs_user_stats()",
+                    "DROP TRIGGER IF EXISTS jobs_stats_update ON jobs",
+                    "CREATE TRIGGER jobs_stats_update AFTER UPDATE ON jobs FOR EACH ROW " +
+                    "WHEN (OLD.user_id IS DISTINCT FROM NEW.user_id OR OLD.status IS DISTINCT FROM NEW.status) " +
+                    "EXECUTE FUNCTION jobs_user_stats()",
+                    "DROP TRIGGER IF EXISTS goals_stats_insert_delete ON goals",
+                    "CREATE TRIGGER goals_stats_insert_delete AFTER INSERT OR DELETE ON goals FOR EACH ROW " +
+                    "EXECUTE FUNCTION goals_user_stats()",
+                    "DROP TRIGGER IF EXISTS goals_stats_update ON goals",
+                    "CREATE TRIGGER goals_stats_update AFTER UPDATE ON goals FOR EACH ROW " +
+                    "WHEN (OLD.user_id IS DISTINCT FROM NEW.user_id OR OLD.status IS DISTINCT FROM NEW.status " +
+                    "OR OLD.short_term IS DISTINCT FROM NEW.short_term) " +
+                    "EXECUTE FUNCTION goals_user_stats()",
+                    "DROP TRIGGER IF EXISTS skills_stats_insert_delete ON skills",
+                    "CREATE TRIGGER skills_stats_insert_delete AFTER INSERT OR DELETE ON skills FOR EACH ROW " +
+                    "EXECUTE FUNCTION skills_user_stats()",
+                    "DROP TRIGGER IF EXISTS skills_stats_update ON skills",
+                    "CREATE TRIGGER skills_stats_update AFTER UPDATE ON skills FOR EACH ROW " +
+                    "WHEN (OLD.user_id IS DISTINCT FROM NEW.user_id OR OLD.category IS DISTINCT FROM NEW.category " +
+                    "OR OLD.proficiency_level IS DISTINCT FROM NEW.proficiency_level) " +
+                    "EXECUTE FUNCTION skills_user_stats()",
+                    "DROP TRIGGER IF EXISTS achievements_stats_insert_delete ON achievements",
+                    "CREATE TRIGGER achievements_stats_insert_delete AFTER INSERT OR DELETE ON achievements " +
+                    "FOR EACH ROW EXECUTE FUNCTION achievements_user_stats()",
+                    "DROP TRIGGER IF EXISTS achievements_stats_update ON achievements",
+                    "CREATE TRIGGER achievements_stats_update AFTER UPDATE ON achievements FOR EACH ROW " +
+                    "WHEN (OLD.user_id IS DISTINCT FROM NEW.user_id OR OLD.type IS DISTINCT FROM NEW.type) " +
+                    "EXECUTE FUNCTION achievements_user_stats()",
+                    // Counts the rows that existed before the triggers; the triggers' table locks
+                    // keep writers out until this transaction commits
+                    "DELETE FROM user_stats",
+                    "INSERT INTO user_stats (user_id, metric, bucket, total, completed) " +
+                    "SELECT user_id, 'job_status', status, COUNT(*), 0 FROM jobs " +
+                    "WHERE user_id IS NOT NULL GROUP BY user_id, status " +
+                    "UNION ALL " +
+                    "SELECT user_id, 'goal_term', CASE WHEN short_term THEN 'SHORT_TERM' ELSE 'LONG_TERM' END, " +
+                    "COUNT(*), COUNT(*) FILTER (WHERE status = 'COMPLETED') FROM goals " +
+                    "WHERE user_id IS NOT NULL GROUP BY user_id, short_term " +
+                    "UNION ALL " +
+                    "SELECT user_id, 'skill_category', category, COUNT(*), 0 FROM skills " +
+                    "WHERE user_id IS NOT NULL GROUP BY user_id, category " +
+                    "UNION ALL " +
+                    "SELECT user_id, 'skill_proficiency', proficiency_level, COUNT(*), 0 FROM skills " +
+                    "WHERE user_id IS NOT NULL GROUP BY user_id, proficiency_level " +
+                    "UNION ALL " +
+                    "SELECT user_id, 'achievement_type', type, COUNT(*), 0 FROM achievements " +
+                    "WHERE user_id IS NOT NULL GROUP BY user_id, type"),
+
+            // JobDAO used to store the display name of a job's status ("Offer Received");
+            // the constant name ("OFFER_RECEIVED") is what every reader expects
+            new Migration(7, "Store job statuses by constant name",
+                    "UPDATE jobs SET status = CASE status " +
+                    "WHEN 'Saved' THEN 'SAVED' " +
+                    "WHEN 'Applied' THEN 'APPLIED' " +
+                    "WHEN 'Interviewing' THEN 'INTERVIEWING' " +
+                    "WHEN 'Offer Received' THEN 'OFFER_RECEIVED' " +
+                    "WHEN 'Rejected' THEN 'REJECTED' " +
+                    "WHEN 'Accepted' THEN 'ACCEPTED' " +
+                    "WHEN 'Declined' THEN 'DECLINED' " +
+                    "END " +
+                    "WHERE status IN ('Saved', 'Applied', 'Interviewing', 'Offer Received', 'Rejected', " +
+                    "'Accepted', 'Declined')"),
+
+            // Job statuses were counted under their display names before migration 7, which
+            // DashboardStatsDAO cannot map back to a constant
+            new Migration(8, "Recount job statuses in user_stats by constant name",
+                    "DELETE FROM user_stats WHERE metric = 'job_status'",
+                    "INSERT INTO user_stats (user_id, metric, bucket, total, completed) " +
+                    "SELECT user_id, 'job_status', status, COUNT(*), 0 FROM jobs " +
+                    "WHERE user_id IS NOT NULL GROUP BY user_id, status"),
+
+            // JobPage.Order.UPDATED_AT keys on COALESCE(updated_at, '-infinity'), since imported
+            // jobs can have no update time; the plain column index of migration 3 no longer matches
+            new Migration(9, "Index the job update order on its NULL-safe key",
+                    "CREATE INDEX IF NOT EXISTS idx_jobs_user_updated_key_id ON jobs " +
+                    "(user_id, (COALESCE(updated_at, '-infinity'::timestamp)), id)",
+                    "DROP INDEX IF EXISTS idx_jobs_user_updated_id"),
+
+            // UserDAO.getUserByEmail matches case-insensitively, which the UNIQUE index on the
+            // plain column cannot serve
+            new Migration(10, "Index user emails case-insensitively",
+                    "CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (LOWER(email))")
+    ));
+
+    private final List<Migration> migrations;
+
+    /**
+     * Creates a migrator for the application's migrations.
+     */
+    public SchemaMigrator() {
+        this(MIGRATIONS);
+    }
+
+    /**
+     * Creates a migrator for the given migrations.
+     *
+     * @param migrations The migrations, in ascending version order
+     */
+    public SchemaMigrator(List<Migration> migrations) {
+        this.migrations = new ArrayList<>(migrations);
+    }
+
+    /**
+     * Gets the version the schema has after all migrations are applied.
+     *
+     * @return The latest migration version
+     */
+    public int getLatestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+    }
+
+    /**
+     * Reads the version recorded in the database.
+     *
+     * @param conn The connection to use
+     * @return The current version, or 0 if no migration has been applied yet
+     * @throws SQLException if the version cannot be read
+     */
+    public int getCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT to_regclass('schema_version') IS NOT NULL")) {
+                if (!rs.next() || !rs.getBoolean(1)) {
+                    return 0;
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(version), 0) FROM schema_version")) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * Applies all pending migrations. Returns without executing any DDL when the schema is
+     * already at the latest version.
+     *
+     * @param conn The connection to use; its auto-commit setting is restored afterwards
+     * @return The number of migrations applied
+     * @throws SQLException if a migration fails; migrations applied before it stay applied
+     */
+    public int migrate(Connection conn) throws SQLException {
+        if (getCurrentVersion(conn) >= getLatestVersion()) {
+            return 0;
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        setAdvisoryLock(conn, true);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (" +
+                        "version INTEGER PRIMARY KEY, " +
+                        "description VARCHAR(200) NOT NULL, " +
+                        "installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+                        "execution_ms BIGINT" +
+                        ")");
+            }
+
+            // Another instance may have migrated while we waited for the lock
+            int current = getCurrentVersion(conn);
+            int applied = 0;
+            conn.setAutoCommit(false);
+
+            for (Migration migration : migrations) {
+                if (migration.getVersion() <= current) {
+                    continue;
+                }
+                apply(conn, migration);
+                applied++;
+            }
+            return applied;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+            setAdvisoryLock(conn, false);
+        }
+    }
+
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : migration.getStatements()) {
+                    stmt.execute(sql);
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, description, execution_ms) VALUES (?, ?, ?)")) {
+                pstmt.setInt(1, migration.getVersion());
+                pstmt.setString(2, migration.getDescription());
+                pstmt.setLong(3, elapsedMillis);
+                pstmt.executeUpdate();
+            }
+
+            conn.commit();
+            LOGGER.info("Applied schema migration " + migration.getVersion() + ": "
+                    + migration.getDescription() + " (" + elapsedMillis + " ms)");
+        } catch (SQLException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackError) {
+                LOGGER.log(Level.WARNING, "Failed to roll back schema migration " + migration.getVersion(),
+                        rollbackError);
+            }
+            throw e;
+        }
+    }
+
+    private void setAdvisoryLock(Connection conn, boolean lock) throws SQLException {
+        String sql = lock ? "SELECT pg_advisory_lock(?)" : "SELECT pg_advisory_unlock(?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setLong(1, MIGRATION_LOCK_KEY);
+            pstmt.executeQuery().close();
+        }
+    }
+}
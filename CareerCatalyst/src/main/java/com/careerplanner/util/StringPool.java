@@ -0,0 +1,129 @@
+package com.careerplanner.util;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Deduplicating string pool used while loading the store. Low-cardinality values such as
+ * company names, locations, skill names and resource providers are repeated thousands of
+ * times in a large store; routing them through a pool makes every occurrence share one
+ * instance instead of each parsed value keeping its own copy.
+ *
+ * <p>A pool is meant to live for one load and then be dropped. It can be bounded, in which
+ * case values seen after the pool is full are returned as-is, and it can hold its entries
+ * weakly so pooled values that are no longer referenced by the model can still be collected.
+ * Instances are not thread-safe.</p>
+ */
+public class StringPool {
+    // Rough heap cost of a String with a compact (Latin-1) backing array, excluding the characters
+    private static final int STRING_OVERHEAD_BYTES = 24 + 16;
+
+    private final int maxEntries;
+    private final Map<String, String> strongEntries;
+    private final Map<String, WeakReference<String>> weakEntries;
+
+    private long lookups;
+    private long hits;
+    private long savedBytes;
+
+    /**
+     * Creates an unbounded pool with strong references.
+     */
+    public StringPool() {
+        this(Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Constructor for the StringPool class.
+     *
+     * @param maxEntries Maximum number of distinct values to pool
+     * @param weak true to hold pooled values through weak references
+     */
+    public StringPool(int maxEntries, boolean weak) {
+        this.maxEntries = maxEntries;
+        this.strongEntries = weak ? null : new HashMap<>();
+        this.weakEntries = weak ? new WeakHashMap<>() : null;
+    }
+
+    /**
+     * Returns the pooled instance equal to the given value, adding the value if it is new.
+     *
+     * @param value The value to deduplicate, may be null
+     * @return An instance equal to value, or null if value is null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        lookups++;
+
+        String pooled;
+        if (strongEntries != null) {
+            pooled = strongEntries.get(value);
+        } else {
+            WeakReference<String> reference = weakEntries.get(value);
+            pooled = reference != null ? reference.get() : null;
+        }
+
+        if (pooled != null) {
+            if (pooled != value) {
+                hits++;
+                savedBytes += STRING_OVERHEAD_BYTES + value.length();
+            }
+            return pooled;
+        }
+
+        if (size() < maxEntries) {
+            if (strongEntries != null) {
+                strongEntries.put(value, value);
+            } else {
+                weakEntries.put(value, new WeakReference<>(value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Gets the number of distinct values in the pool.
+     *
+     * @return The pool size
+     */
+    public int size() {
+        return strongEntries != null ? strongEntries.size() : weakEntries.size();
+    }
+
+    /**
+     * Gets the number of values passed to {@link #intern(String)}.
+     *
+     * @return The number of lookups
+     */
+    public long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * Gets the number of values that were replaced by an already pooled instance.
+     *
+     * @return The number of duplicates removed
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets an estimate of the heap freed by deduplication, assuming compact Latin-1 strings.
+     *
+     * @return Estimated bytes saved
+     */
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StringPool[size=%d lookups=%d hits=%d savedBytes=%d]",
+                size(), lookups, hits, savedBytes);
+    }
+}
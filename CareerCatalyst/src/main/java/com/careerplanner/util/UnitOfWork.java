@@ -0,0 +1,367 @@
+package com.careerplanner.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One pooled connection and one transaction shared by every DAO call the current thread
+ * makes while the unit is open. Open one with {@link DatabaseManager#beginUnitOfWork()}:
+ *
+ * <pre>
+ * try (UnitOfWork work = dbManager.beginUnitOfWork()) {
+ *     Optional&lt;User&gt; user = userDAO.getUserById(userId);
+ *     List&lt;Job&gt; jobs = jobDAO.getJobsByUserId(userId);
+ *     work.commit();
+ * }
+ * </pre>
+ *
+ * <p>While the unit is open, {@link DatabaseManager#getConnection()} and
+ * {@link DatabaseManager#getReadConnection()} hand out the unit's connection. Closing it,
+ * committing, rolling back or switching auto-commit through it are ignored, so the DAOs
+ * join the transaction unchanged. Statements are prepared once per unit and reused by later
+ * calls with the same SQL. Because the DAOs report failures by return value, a statement
+ * that throws marks the unit rollback-only; {@link #commit()} then rolls back and throws.
+ * Closing the unit rolls back whatever was not committed.</p>
+ *
+ * <p>A unit belongs to the thread that opened it; DAO calls on other threads, such as those
+ * of the AsyncDataAccess executor, keep using pooled connections. Opening a unit while one is
+ * open joins the outer unit: only the outer unit commits, and closing the inner one without
+ * committing marks the outer one rollback-only.</p>
+ */
+public final class UnitOfWork implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(UnitOfWork.class.getName());
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final UnitOfWork root;
+    private boolean committed;
+    private boolean closed;
+
+    // Only used on the root unit
+    private Connection connection;
+    private Connection sharedConnection;
+    private Map<String, CachedStatement> statements;
+    private List<Runnable> completionActions;
+    private boolean rollbackOnly;
+    private int statementsPrepared;
+    private int statementsReused;
+
+    private UnitOfWork(UnitOfWork root) {
+        this.root = root != null ? root : this;
+    }
+
+    /**
+     * Gets the unit open on the current thread.
+     *
+     * @return The root unit, or null if none is open
+     */
+    static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Tells whether a unit is open on the current thread. Caches must neither serve nor
+     * store rows while it is, since the unit may read its own uncommitted writes.
+     *
+     * @return true if DAO calls on this thread run in a unit of work
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Runs an action once the unit open on the current thread has ended, whether it committed
+     * or rolled back, or right away if none is open. Used to invalidate cached rows only when
+     * other threads can see the unit's writes.
+     *
+     * @param action The action to run
+     */
+    public static void afterCompletion(Runnable action) {
+        UnitOfWork unit = CURRENT.get();
+        if (unit != null) {
+            unit.completionActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Opens a unit on the current thread, or joins the one already open.
+     *
+     * @param manager Supplies the pooled connection of a new unit
+     * @return The unit
+     * @throws SQLException if no connection can be obtained
+     */
+    static UnitOfWork begin(DatabaseManager manager) throws SQLException {
+        UnitOfWork outer = CURRENT.get();
+        if (outer != null) {
+            return new UnitOfWork(outer);
+        }
+
+        UnitOfWork unit = new UnitOfWork(null);
+        unit.connection = manager.getConnection();
+        try {
+            unit.connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            unit.connection.close();
+            throw e;
+        }
+        unit.statements = new HashMap<>();
+        unit.completionActions = new ArrayList<>();
+        unit.sharedConnection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, unit.new SharedConnectionHandler());
+        CURRENT.set(unit);
+        return unit;
+    }
+
+    /**
+     * Commits the work done so far. On a joined unit this only records that the inner work
+     * is complete; the outer unit commits.
+     *
+     * @throws SQLException if the commit fails, or if a statement failed, in which case the
+     *         transaction is rolled back
+     */
+    public void commit() throws SQLException {
+        ensureOpen();
+        if (root != this) {
+            committed = true;
+            return;
+        }
+        if (rollbackOnly) {
+            connection.rollback();
+            throw new SQLException("Unit of work rolled back because a statement failed");
+        }
+        connection.commit();
+        committed = true;
+    }
+
+    /**
+     * Makes the unit roll back instead of committing.
+     */
+    public void setRollbackOnly() {
+        root.rollbackOnly = true;
+    }
+
+    public boolean isRollbackOnly() {
+        return root.rollbackOnly;
+    }
+
+    /**
+     * @return Number of statements the unit prepared
+     */
+    public int getStatementsPrepared() {
+        return root.statementsPrepared;
+    }
+
+    /**
+     * @return Number of times a statement prepared earlier in the unit was reused
+     */
+    public int getStatementsReused() {
+        return root.statementsReused;
+    }
+
+    /**
+     * Ends the unit. The root unit rolls back anything not committed, closes its statements
+     * and returns its connection to the pool.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (root != this) {
+            if (!committed) {
+                root.rollbackOnly = true;
+            }
+            return;
+        }
+
+        CURRENT.remove();
+        for (CachedStatement statement : statements.values()) {
+            try {
+                statement.statement.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, "Failed to close a unit of work statement", e);
+            }
+        }
+        statements.clear();
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to end unit of work transaction", e);
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Failed to return unit of work connection", e);
+        }
+
+        for (Runnable action : completionActions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Unit of work completion action failed", e);
+            }
+        }
+        completionActions.clear();
+    }
+
+    /**
+     * Gets the connection DAOs use while the unit is open.
+     */
+    Connection getSharedConnection() {
+        return root.sharedConnection;
+    }
+
+    /**
+     * Prepares a statement on the unit's connection, reusing one prepared earlier in the
+     * unit with the same SQL unless it is still in use.
+     *
+     * @param sql The SQL
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS, or Statement.NO_GENERATED_KEYS
+     * @return A statement whose close() keeps it for reuse
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepare(String sql, int autoGeneratedKeys) throws SQLException {
+        UnitOfWork unit = root;
+        String key = autoGeneratedKeys + ":" + sql;
+        CachedStatement cached = unit.statements.get(key);
+        if (cached != null && !cached.inUse) {
+            unit.statementsReused++;
+        } else {
+            PreparedStatement statement = unit.connection.prepareStatement(sql, autoGeneratedKeys);
+            unit.statementsPrepared++;
+            if (cached != null) {
+                // The cached statement is still open in an enclosing call; use a one-off statement
+                return statement;
+            }
+            cached = new CachedStatement(statement);
+            unit.statements.put(key, cached);
+        }
+        cached.inUse = true;
+        return cached.proxy;
+    }
+
+    /**
+     * Wraps a metrics registry so that failed statements mark the unit rollback-only.
+     *
+     * @param registry The registry the statements report to
+     * @return A registry that forwards to it
+     */
+    MetricsRegistry track(MetricsRegistry registry) {
+        return new MetricsRegistry() {
+            @Override
+            public void recordQuery(String queryName, long elapsedNanos, long rows, boolean failed) {
+                if (failed) {
+                    root.rollbackOnly = true;
+                }
+                registry.recordQuery(queryName, elapsedNanos, rows, failed);
+            }
+
+            @Override
+            public void recordConnectionAcquired(long elapsedNanos) {
+                registry.recordConnectionAcquired(elapsedNanos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                registry.recordConnectionTimeout();
+            }
+
+            @Override
+            public void registerGauge(String name, String help, DoubleSupplier value) {
+                registry.registerGauge(name, help, value);
+            }
+        };
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Unit of work is closed");
+        }
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * The unit's connection as seen by DAOs: transaction control and close are the unit's.
+     */
+    private class SharedConnectionHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            boolean parameterless = args == null || args.length == 0;
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                    if (parameterless) {
+                        return null;
+                    }
+                    break;
+                case "rollback":
+                    // A DAO rolling back after a failure has already marked the unit through its statement
+                    if (parameterless) {
+                        return null;
+                    }
+                    break;
+                case "setAutoCommit":
+                    return null;
+                case "getAutoCommit":
+                    return false;
+                case "isClosed":
+                    return closed || connection.isClosed();
+                default:
+                    break;
+            }
+            return call(connection, method, args);
+        }
+    }
+
+    /**
+     * A prepared statement kept for the lifetime of the unit. Closing it through its proxy
+     * only clears its parameters for the next use.
+     */
+    private static final class CachedStatement {
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private boolean inUse;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("close") && (args == null || args.length == 0)) {
+                            if (inUse) {
+                                inUse = false;
+                                statement.clearParameters();
+                                statement.clearBatch();
+                            }
+                            return null;
+                        }
+                        if (method.getName().equals("isClosed") && (args == null || args.length == 0)) {
+                            return !inUse;
+                        }
+                        return call(statement, method, args);
+                    });
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.careerplanner.util;
+
+import com.careerplanner.model.User;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Stores each user in its own shard file next to a small email index.
+ * Only the index is read at startup; a user's shard is read when that user logs in,
+ * and saving a user rewrites only that user's shard. Shards are assigned and encoded on
+ * the caller's thread and can be written from another.
+ *
+ * <p>Layout inside the data directory:</p>
+ * <pre>
+ * user-index.json      {"jane@example.com": "u1.json", ...}
+ * users/u1.json        one user in the users.json element format
+ * </pre>
+ */
+public class UserShardStore {
+    private static final String INDEX_FILE = "user-index.json";
+    private static final String SHARD_DIRECTORY = "users";
+
+    private final Path indexFile;
+    private final Path shardDirectory;
+    private final Map<String, String> index;
+    private final Map<User, String> loadedShards;
+    private int nextShard;
+    private boolean indexChanged;
+
+    /**
+     * Constructor for the UserShardStore class.
+     *
+     * @param dataDirectory The data directory holding the index and shards
+     */
+    public UserShardStore(Path dataDirectory) {
+        this.indexFile = dataDirectory.resolve(INDEX_FILE);
+        this.shardDirectory = dataDirectory.resolve(SHARD_DIRECTORY);
+        this.index = new HashMap<>();
+        this.loadedShards = new IdentityHashMap<>();
+        this.nextShard = 1;
+    }
+
+    /**
+     * Reads the email index. If there is no index yet but a users.json exists, that file
+     * is split into shards first.
+     *
+     * @param legacyUsersFile The plain users.json file to import from
+     * @throws IOException if the index cannot be read or written
+     * @throws ParseException if the index is not valid JSON
+     */
+    public synchronized void open(File legacyUsersFile) throws IOException, ParseException {
+        if (Files.exists(indexFile)) {
+            try (Reader reader = new FileReader(indexFile.toFile())) {
+                JSONObject indexJson = (JSONObject) new JSONParser().parse(reader);
+                for (Object entry : indexJson.entrySet()) {
+                    Map.Entry<?, ?> mapping = (Map.Entry<?, ?>) entry;
+                    String shard = (String) mapping.getValue();
+                    index.put((String) mapping.getKey(), shard);
+                    nextShard = Math.max(nextShard, shardNumber(shard) + 1);
+                }
+            }
+        } else if (legacyUsersFile.exists()) {
+            importUsers(legacyUsersFile);
+        }
+    }
+
+    /**
+     * Checks whether a user with the given email is stored.
+     *
+     * @param email The email to check
+     * @return true if a shard exists for the email
+     */
+    public synchronized boolean contains(String email) {
+        return index.containsKey(email.toLowerCase());
+    }
+
+    /**
+     * Gets the number of stored users.
+     *
+     * @return The number of users in the index
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Reads a single user's shard.
+     *
+     * @param email The user's email
+     * @return The user, or null if no user with this email is stored
+     * @throws IOException if the shard cannot be read
+     * @throws ParseException if the shard is not valid JSON
+     */
+    public synchronized User load(String email) throws IOException, ParseException {
+        String shard = index.get(email.toLowerCase());
+        if (shard == null) {
+            return null;
+        }
+
+        try (Reader reader = new FileReader(shardDirectory.resolve(shard).toFile())) {
+            User user = JsonConverter.parseUserFromJSON((JSONObject) new JSONParser().parse(reader));
+            loadedShards.put(user, shard);
+            return user;
+        }
+    }
+
+    /**
+     * Gets the shard a user is saved to, assigning a new shard to users that have none yet.
+     * The in-memory index is updated when a user is added or changes email; the change is
+     * picked up by {@link #takeIndexUpdate()}.
+     *
+     * @param user The user to save
+     * @return The shard file name
+     */
+    public synchronized String assignShard(User user) {
+        String shard = loadedShards.get(user);
+        if (shard == null) {
+            shard = index.get(user.getEmail().toLowerCase());
+            if (shard == null) {
+                shard = "u" + nextShard++ + ".json";
+            }
+            loadedShards.put(user, shard);
+        }
+
+        String key = user.getEmail().toLowerCase();
+        if (!shard.equals(index.get(key))) {
+            final String userShard = shard;
+            index.values().removeIf(userShard::equals);
+            index.put(key, shard);
+            indexChanged = true;
+        }
+        return shard;
+    }
+
+    /**
+     * Encodes the index if it changed since the last call.
+     *
+     * @return The index JSON to pass to {@link #writeIndex(String)}, or null if it is unchanged
+     */
+    public synchronized String takeIndexUpdate() {
+        if (!indexChanged) {
+            return null;
+        }
+        indexChanged = false;
+        return JSONObject.toJSONString(index);
+    }
+
+    /**
+     * Writes a user's shard.
+     *
+     * @param shard The shard returned by {@link #assignShard(User)}
+     * @param userJson The user in the users.json element format
+     * @throws IOException if the shard cannot be written
+     */
+    public void writeShard(String shard, String userJson) throws IOException {
+        AtomicFiles.write(shardDirectory.resolve(shard), userJson);
+    }
+
+    /**
+     * Writes the index.
+     *
+     * @param indexJson The index returned by {@link #takeIndexUpdate()}
+     * @throws IOException if the index cannot be written
+     */
+    public void writeIndex(String indexJson) throws IOException {
+        AtomicFiles.write(indexFile, indexJson);
+    }
+
+    /**
+     * Splits a users.json file into shards without building all users in memory.
+     */
+    private void importUsers(File usersFile) throws IOException, ParseException {
+        Files.createDirectories(shardDirectory);
+        IOException[] failure = new IOException[1];
+
+        try (Reader reader = new FileReader(usersFile)) {
+            JsonStreamReader.read(reader, (arrayKey, userJson) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                String shard = "u" + nextShard++ + ".json";
+                try {
+                    AtomicFiles.write(shardDirectory.resolve(shard), userJson.toJSONString());
+                    index.put(((String) userJson.get("email")).toLowerCase(), shard);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+        }
+
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        writeIndex(JSONObject.toJSONString(index));
+    }
+
+    private static int shardNumber(String shard) {
+        try {
+            return Integer.parseInt(shard.substring(1, shard.indexOf('.')));
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+}